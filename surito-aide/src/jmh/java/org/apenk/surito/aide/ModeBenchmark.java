@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide;
+
+import org.apenk.surito.aide.mutable.MutableInt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>{@link ObjectAide#mode(Object[])} 基于 {@link org.apenk.surito.aide.collection.ObjectIntCounter} 的实现
+ * 与原先基于 {@code HashMap<T, MutableInt>} 的实现的对比。</p>
+ *
+ * <p>原实现为每个不同的元素创建一个 {@link HashMap} 节点和一个 {@link MutableInt}，计数完成后再遍历一次 entry set；
+ * 新实现只使用两个平行数组，并在计数的同时追踪最大值。不同元素的数量（{@code cardinality}）越大，差距越明显。
+ * 加上 {@code -prof gc} 运行可以同时对比每次调用的内存分配量。</p>
+ *
+ * <p>运行方式：</p>
+ * <pre>
+ *     gradlew :surito-aide:jmh -PjmhInclude=ModeBenchmark
+ * </pre>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ModeBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    @Param({"16", "4096", "1000000"})
+    private int cardinality;
+
+    private Integer[] items;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(42L);
+        items = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            // 预先装箱，使两种实现的差异只来自计数表本身
+            items[i] = random.nextInt(cardinality);
+        }
+    }
+
+    @Benchmark
+    public Integer objectIntCounter() {
+        return ObjectAide.mode(items);
+    }
+
+    @Benchmark
+    public Integer hashMapMutableInt() {
+        return hashMapMode(items);
+    }
+
+    /**
+     * 原先基于 {@code HashMap<T, MutableInt>} 的实现，原样保留用于对比。
+     */
+    private static <T> T hashMapMode(final T[] items) {
+        if (ArrayAide.isNotEmpty(items)) {
+            final HashMap<T, MutableInt> occurrences = new HashMap<>(items.length);
+            for (final T item : items) {
+                final MutableInt count = occurrences.computeIfAbsent(item, k -> new MutableInt(0));
+                count.increment();
+            }
+            T result = null;
+            int max = 0;
+            for (final Map.Entry<T, MutableInt> entry : occurrences.entrySet()) {
+                final int cmp = entry.getValue().intValue();
+                if (cmp == max) {
+                    result = null;
+                } else if (cmp > max) {
+                    max = cmp;
+                    result = entry.getKey();
+                }
+            }
+            return result;
+        }
+        return null;
+    }
+}
\ No newline at end of file
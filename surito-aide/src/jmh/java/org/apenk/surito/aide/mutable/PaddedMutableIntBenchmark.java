@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>{@link PaddedMutableInt} 与 {@link MutableInt} 在每个线程各自递增一个计数器时的吞吐量对比。</p>
+ *
+ * <p>两组计数器都在同一次循环中连续分配，未填充的 {@link MutableInt} 之间只相隔十几个字节，相邻线程的计数器落在同一个缓存行上（伪共享）；
+ * {@link PaddedMutableInt} 之间至少相隔 128 字节。线程数增加时，前者的总吞吐量应基本不增长甚至下降，后者应接近线性增长。</p>
+ *
+ * <p>注，{@link PaddedMutableInt} 使用有序写而 {@link MutableInt} 使用普通写，单线程时前者略慢属正常现象，对比的重点是多线程时的扩展性。</p>
+ *
+ * <p>运行方式：</p>
+ * <pre>
+ *     gradlew :surito-aide:jmh -PjmhInclude=PaddedMutableIntBenchmark
+ * </pre>
+ * <p>以默认的 4 个线程运行；如需依次以 1、2、4……个线程运行，先执行 {@code gradlew :surito-aide:jmhJar}，再执行：</p>
+ * <pre>
+ *     java -cp surito-aide/build/libs/surito-aide-0.0.1-jmh.jar org.apenk.surito.aide.mutable.PaddedMutableIntBenchmark [最大线程数]
+ * </pre>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class PaddedMutableIntBenchmark {
+
+    private MutableInt[] plain;
+
+    private PaddedMutableInt[] padded;
+
+    private final AtomicInteger nextSlot = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp(final BenchmarkParams params) {
+        final int threads = params.getThreads();
+        plain = new MutableInt[threads];
+        for (int i = 0; i < threads; i++) {
+            plain[i] = new MutableInt();
+        }
+        padded = PaddedMutableInt.newArray(threads);
+        nextSlot.set(0);
+    }
+
+    /**
+     * 每个线程独占的计数器下标。
+     */
+    @State(Scope.Thread)
+    public static class Slot {
+
+        int index;
+
+        @Setup(Level.Trial)
+        public void setUp(final PaddedMutableIntBenchmark benchmark) {
+            index = benchmark.nextSlot.getAndIncrement();
+        }
+    }
+
+    @Benchmark
+    public int mutableInt(final Slot slot) {
+        return plain[slot.index].incrementAndGet();
+    }
+
+    @Benchmark
+    public int paddedMutableInt(final Slot slot) {
+        return padded[slot.index].incrementAndGet();
+    }
+
+    /**
+     * 依次以 1、2、4……个线程运行，直到指定的最大线程数（默认为处理器数量）。
+     *
+     * @param args 可选的最大线程数
+     * @throws RunnerException 当基准测试运行失败时抛出此异常
+     */
+    public static void main(final String[] args) throws RunnerException {
+        final int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= maxThreads; threads <<= 1) {
+            new Runner(new OptionsBuilder()
+                    .include(PaddedMutableIntBenchmark.class.getName())
+                    .threads(threads)
+                    .build()).run();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>{@link QuantileSketch} 的记录吞吐量，以及对已记录大量值的草图进行查询、合并的代价。</p>
+ *
+ * <p>输入值预先生成并循环使用，避免把随机数生成的开销计入结果；
+ * {@code distribution} 为 {@code uniform} 时是均匀分布，为 {@code sorted} 时是以 65536 为周期的递增序列，对应按时间戳等单调递增的值记录的场景。</p>
+ *
+ * <p>运行方式：</p>
+ * <pre>
+ *     gradlew :surito-aide:jmh -PjmhInclude=QuantileSketchBenchmark
+ * </pre>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class QuantileSketchBenchmark {
+
+    private static final int VALUE_COUNT = 1 << 16;
+
+    private static final int VALUE_MASK = VALUE_COUNT - 1;
+
+    @Param({"100", "200", "800"})
+    private int k;
+
+    @Param({"uniform", "sorted"})
+    private String distribution;
+
+    private double[] values;
+
+    private int next;
+
+    private QuantileSketch sketch;
+
+    private QuantileSketch filled;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(42L);
+        values = new double[VALUE_COUNT];
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            values[i] = "sorted".equals(distribution) ? i : random.nextDouble();
+        }
+        sketch = new QuantileSketch(k);
+        filled = new QuantileSketch(k);
+        for (int i = 0; i < 1_000_000; i++) {
+            filled.add(values[i & VALUE_MASK]);
+        }
+    }
+
+    @Benchmark
+    public long add() {
+        sketch.add(values[next++ & VALUE_MASK]);
+        return sketch.getCount();
+    }
+
+    @Benchmark
+    public double quantile() {
+        return filled.quantile(0.99D);
+    }
+
+    @Benchmark
+    public long mergeAndQuantile() {
+        final QuantileSketch merged = new QuantileSketch(k).merge(filled).merge(filled);
+        return merged.getCount() + (long) merged.quantile(0.5D);
+    }
+}
\ No newline at end of file
@@ -16,6 +16,7 @@
 package org.apenk.surito.aide;
 
 import java.lang.reflect.Array;
+import java.util.Arrays;
 
 /**
  * <p>操作数组的工具类。</p>
@@ -43,4 +44,612 @@ public class ArrayAide {
     public static <T> boolean isNotEmpty(final T[] array) {
         return !isEmpty(array);
     }
+
+
+
+    // ----- Min/Max ----- beginning
+    /**
+     * <p>返回 int 数组中的最小值。</p>
+     *
+     * @param array int 数组
+     * @return 最小值
+     * @throws NullPointerException 当数组为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当数组为 {@code empty} 时抛出此异常。
+     */
+    public static int min(final int... array) {
+        checkNotEmpty(array.length);
+        int min = array[0];
+        for (int i = 1; i < array.length; i++) {
+            if (array[i] < min) {
+                min = array[i];
+            }
+        }
+        return min;
+    }
+
+    /**
+     * <p>返回 int 数组中的最大值。</p>
+     *
+     * @param array int 数组
+     * @return 最大值
+     * @throws NullPointerException 当数组为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当数组为 {@code empty} 时抛出此异常。
+     */
+    public static int max(final int... array) {
+        checkNotEmpty(array.length);
+        int max = array[0];
+        for (int i = 1; i < array.length; i++) {
+            if (array[i] > max) {
+                max = array[i];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * <p>一次遍历同时返回 int 数组中的最小值和最大值。</p>
+     *
+     * <p>元素两两成对，先比较同一对中的两个元素，再用较小者与当前最小值比较、较大者与当前最大值比较，
+     * 总共约 {@code 3n/2} 次比较，少于分别调用 {@link #min(int[])} 和 {@link #max(int[])} 的 {@code 2n} 次。</p>
+     *
+     * @param array int 数组
+     * @return 长度为 2 的数组，下标 0 为最小值，下标 1 为最大值
+     * @throws NullPointerException 当数组为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当数组为 {@code empty} 时抛出此异常。
+     */
+    public static int[] minMax(final int... array) {
+        checkNotEmpty(array.length);
+        int min;
+        int max;
+        int i;
+        if ((array.length & 1) == 0) {
+            if (array[0] < array[1]) {
+                min = array[0];
+                max = array[1];
+            } else {
+                min = array[1];
+                max = array[0];
+            }
+            i = 2;
+        } else {
+            min = max = array[0];
+            i = 1;
+        }
+        for (; i < array.length; i += 2) {
+            final int a = array[i];
+            final int b = array[i + 1];
+            if (a < b) {
+                if (a < min) {
+                    min = a;
+                }
+                if (b > max) {
+                    max = b;
+                }
+            } else {
+                if (b < min) {
+                    min = b;
+                }
+                if (a > max) {
+                    max = a;
+                }
+            }
+        }
+        return new int[] {min, max};
+    }
+
+    /**
+     * <p>返回 long 数组中的最小值。</p>
+     *
+     * @param array long 数组
+     * @return 最小值
+     * @throws NullPointerException 当数组为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当数组为 {@code empty} 时抛出此异常。
+     */
+    public static long min(final long... array) {
+        checkNotEmpty(array.length);
+        long min = array[0];
+        for (int i = 1; i < array.length; i++) {
+            if (array[i] < min) {
+                min = array[i];
+            }
+        }
+        return min;
+    }
+
+    /**
+     * <p>返回 long 数组中的最大值。</p>
+     *
+     * @param array long 数组
+     * @return 最大值
+     * @throws NullPointerException 当数组为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当数组为 {@code empty} 时抛出此异常。
+     */
+    public static long max(final long... array) {
+        checkNotEmpty(array.length);
+        long max = array[0];
+        for (int i = 1; i < array.length; i++) {
+            if (array[i] > max) {
+                max = array[i];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * <p>一次遍历同时返回 long 数组中的最小值和最大值。</p>
+     *
+     * <p>元素两两成对，先比较同一对中的两个元素，再用较小者与当前最小值比较、较大者与当前最大值比较，
+     * 总共约 {@code 3n/2} 次比较，少于分别调用 {@link #min(long[])} 和 {@link #max(long[])} 的 {@code 2n} 次。</p>
+     *
+     * @param array long 数组
+     * @return 长度为 2 的数组，下标 0 为最小值，下标 1 为最大值
+     * @throws NullPointerException 当数组为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当数组为 {@code empty} 时抛出此异常。
+     */
+    public static long[] minMax(final long... array) {
+        checkNotEmpty(array.length);
+        long min;
+        long max;
+        int i;
+        if ((array.length & 1) == 0) {
+            if (array[0] < array[1]) {
+                min = array[0];
+                max = array[1];
+            } else {
+                min = array[1];
+                max = array[0];
+            }
+            i = 2;
+        } else {
+            min = max = array[0];
+            i = 1;
+        }
+        for (; i < array.length; i += 2) {
+            final long a = array[i];
+            final long b = array[i + 1];
+            if (a < b) {
+                if (a < min) {
+                    min = a;
+                }
+                if (b > max) {
+                    max = b;
+                }
+            } else {
+                if (b < min) {
+                    min = b;
+                }
+                if (a > max) {
+                    max = a;
+                }
+            }
+        }
+        return new long[] {min, max};
+    }
+
+    /**
+     * <p>返回 float 数组中的最小值。</p>
+     *
+     * <p>与 {@link Math#min(float, float)} 的语义一致：只要包含 NaN 就返回 NaN，{@code -0.0} 小于 {@code 0.0}。</p>
+     *
+     * @param array float 数组
+     * @return 最小值
+     * @throws NullPointerException 当数组为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当数组为 {@code empty} 时抛出此异常。
+     */
+    public static float min(final float... array) {
+        checkNotEmpty(array.length);
+        float min = array[0];
+        for (int i = 1; i < array.length; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    /**
+     * <p>返回 float 数组中的最大值。</p>
+     *
+     * <p>与 {@link Math#max(float, float)} 的语义一致：只要包含 NaN 就返回 NaN，{@code 0.0} 大于 {@code -0.0}。</p>
+     *
+     * @param array float 数组
+     * @return 最大值
+     * @throws NullPointerException 当数组为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当数组为 {@code empty} 时抛出此异常。
+     */
+    public static float max(final float... array) {
+        checkNotEmpty(array.length);
+        float max = array[0];
+        for (int i = 1; i < array.length; i++) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    /**
+     * <p>一次遍历同时返回 float 数组中的最小值和最大值。</p>
+     *
+     * <p>元素两两成对，先比较同一对中的两个元素，再用较小者与当前最小值比较、较大者与当前最大值比较，
+     * 总共约 {@code 3n/2} 次比较。NaN 和有符号零的处理与 {@link #min(float[])}、{@link #max(float[])} 相同，
+     * 只要包含 NaN，最小值和最大值都为 NaN。</p>
+     *
+     * @param array float 数组
+     * @return 长度为 2 的数组，下标 0 为最小值，下标 1 为最大值
+     * @throws NullPointerException 当数组为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当数组为 {@code empty} 时抛出此异常。
+     */
+    public static float[] minMax(final float... array) {
+        checkNotEmpty(array.length);
+        float min;
+        float max;
+        int i;
+        if ((array.length & 1) == 0) {
+            if (array[0] != array[0] || array[1] != array[1]) {
+                return new float[] {Float.NaN, Float.NaN};
+            }
+            if (lessThan(array[0], array[1])) {
+                min = array[0];
+                max = array[1];
+            } else {
+                min = array[1];
+                max = array[0];
+            }
+            i = 2;
+        } else {
+            if (array[0] != array[0]) {
+                return new float[] {Float.NaN, Float.NaN};
+            }
+            min = max = array[0];
+            i = 1;
+        }
+        for (; i < array.length; i += 2) {
+            final float a = array[i];
+            final float b = array[i + 1];
+            if (a != a || b != b) {
+                return new float[] {Float.NaN, Float.NaN};
+            }
+            if (lessThan(a, b)) {
+                if (lessThan(a, min)) {
+                    min = a;
+                }
+                if (lessThan(max, b)) {
+                    max = b;
+                }
+            } else {
+                if (lessThan(b, min)) {
+                    min = b;
+                }
+                if (lessThan(max, a)) {
+                    max = a;
+                }
+            }
+        }
+        return new float[] {min, max};
+    }
+
+    /**
+     * <p>返回 double 数组中的最小值。</p>
+     *
+     * <p>与 {@link Math#min(double, double)} 的语义一致：只要包含 NaN 就返回 NaN，{@code -0.0} 小于 {@code 0.0}。</p>
+     *
+     * @param array double 数组
+     * @return 最小值
+     * @throws NullPointerException 当数组为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当数组为 {@code empty} 时抛出此异常。
+     */
+    public static double min(final double... array) {
+        checkNotEmpty(array.length);
+        double min = array[0];
+        for (int i = 1; i < array.length; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    /**
+     * <p>返回 double 数组中的最大值。</p>
+     *
+     * <p>与 {@link Math#max(double, double)} 的语义一致：只要包含 NaN 就返回 NaN，{@code 0.0} 大于 {@code -0.0}。</p>
+     *
+     * @param array double 数组
+     * @return 最大值
+     * @throws NullPointerException 当数组为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当数组为 {@code empty} 时抛出此异常。
+     */
+    public static double max(final double... array) {
+        checkNotEmpty(array.length);
+        double max = array[0];
+        for (int i = 1; i < array.length; i++) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    /**
+     * <p>一次遍历同时返回 double 数组中的最小值和最大值。</p>
+     *
+     * <p>元素两两成对，先比较同一对中的两个元素，再用较小者与当前最小值比较、较大者与当前最大值比较，
+     * 总共约 {@code 3n/2} 次比较。NaN 和有符号零的处理与 {@link #min(double[])}、{@link #max(double[])} 相同，
+     * 只要包含 NaN，最小值和最大值都为 NaN。</p>
+     *
+     * @param array double 数组
+     * @return 长度为 2 的数组，下标 0 为最小值，下标 1 为最大值
+     * @throws NullPointerException 当数组为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当数组为 {@code empty} 时抛出此异常。
+     */
+    public static double[] minMax(final double... array) {
+        checkNotEmpty(array.length);
+        double min;
+        double max;
+        int i;
+        if ((array.length & 1) == 0) {
+            if (array[0] != array[0] || array[1] != array[1]) {
+                return new double[] {Double.NaN, Double.NaN};
+            }
+            if (lessThan(array[0], array[1])) {
+                min = array[0];
+                max = array[1];
+            } else {
+                min = array[1];
+                max = array[0];
+            }
+            i = 2;
+        } else {
+            if (array[0] != array[0]) {
+                return new double[] {Double.NaN, Double.NaN};
+            }
+            min = max = array[0];
+            i = 1;
+        }
+        for (; i < array.length; i += 2) {
+            final double a = array[i];
+            final double b = array[i + 1];
+            if (a != a || b != b) {
+                return new double[] {Double.NaN, Double.NaN};
+            }
+            if (lessThan(a, b)) {
+                if (lessThan(a, min)) {
+                    min = a;
+                }
+                if (lessThan(max, b)) {
+                    max = b;
+                }
+            } else {
+                if (lessThan(b, min)) {
+                    min = b;
+                }
+                if (lessThan(max, a)) {
+                    max = a;
+                }
+            }
+        }
+        return new double[] {min, max};
+    }
+    // ----- Min/Max ----- ending
+
+
+
+    // ----- Median ----- beginning
+    /**
+     * <p>返回 int 数组的中间值，如果元素个数为偶数，将返回两个中间值中的较低者。</p>
+     *
+     * <p>使用线性时间的选择算法，数组本身不会被修改，计算在一个临时副本上进行。</p>
+     *
+     * @param array int 数组
+     * @return 中间值
+     * @throws NullPointerException 当数组为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当数组为 {@code empty} 时抛出此异常。
+     */
+    public static int median(final int... array) {
+        return median(array, null);
+    }
+
+    /**
+     * <p>返回 int 数组的中间值，如果元素个数为偶数，将返回两个中间值中的较低者。</p>
+     *
+     * <p>使用调用方提供的数组作为临时空间，如果 {@code scratch} 为 {@code null} 或长度小于 {@code array} 的长度，则仍会分配临时副本。
+     * 方法返回后 {@code scratch} 中的内容是未定义的。{@code scratch} 可以就是 {@code array} 本身，此时会原地选择，
+     * 不会分配任何内存，但 {@code array} 中元素的顺序会被打乱。</p>
+     *
+     * @param array int 数组
+     * @param scratch 临时空间，可以为 {@code null}
+     * @return 中间值
+     * @throws NullPointerException 当数组为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当数组为 {@code empty} 时抛出此异常。
+     */
+    public static int median(final int[] array, final int[] scratch) {
+        checkNotEmpty(array.length);
+        final int[] buffer = scratch != null && scratch.length >= array.length ? scratch : new int[array.length];
+        System.arraycopy(array, 0, buffer, 0, array.length);
+        final int middle = (array.length - 1) >>> 1;
+        Selection.select(buffer, 0, array.length, middle);
+        return buffer[middle];
+    }
+
+    /**
+     * <p>返回 long 数组的中间值，如果元素个数为偶数，将返回两个中间值中的较低者。</p>
+     *
+     * <p>使用线性时间的选择算法，数组本身不会被修改，计算在一个临时副本上进行。</p>
+     *
+     * @param array long 数组
+     * @return 中间值
+     * @throws NullPointerException 当数组为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当数组为 {@code empty} 时抛出此异常。
+     */
+    public static long median(final long... array) {
+        return median(array, null);
+    }
+
+    /**
+     * <p>返回 long 数组的中间值，如果元素个数为偶数，将返回两个中间值中的较低者。</p>
+     *
+     * <p>使用调用方提供的数组作为临时空间，如果 {@code scratch} 为 {@code null} 或长度小于 {@code array} 的长度，则仍会分配临时副本。
+     * 方法返回后 {@code scratch} 中的内容是未定义的。{@code scratch} 可以就是 {@code array} 本身，此时会原地选择，
+     * 不会分配任何内存，但 {@code array} 中元素的顺序会被打乱。</p>
+     *
+     * @param array long 数组
+     * @param scratch 临时空间，可以为 {@code null}
+     * @return 中间值
+     * @throws NullPointerException 当数组为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当数组为 {@code empty} 时抛出此异常。
+     */
+    public static long median(final long[] array, final long[] scratch) {
+        checkNotEmpty(array.length);
+        final long[] buffer = scratch != null && scratch.length >= array.length ? scratch : new long[array.length];
+        System.arraycopy(array, 0, buffer, 0, array.length);
+        final int middle = (array.length - 1) >>> 1;
+        Selection.select(buffer, 0, array.length, middle);
+        return buffer[middle];
+    }
+
+    /**
+     * <p>返回 float 数组的中间值，如果元素个数为偶数，将返回两个中间值中的较低者。</p>
+     *
+     * <p>元素的顺序与 {@link java.util.Arrays#sort(float[])} 一致：NaN 大于包括正无穷在内的所有值，{@code -0.0} 小于 {@code 0.0}。
+     * 因此只有当 NaN 占了一半以上时才会返回 NaN。</p>
+     *
+     * <p>使用线性时间的选择算法，数组本身不会被修改，计算在一个临时副本上进行。</p>
+     *
+     * @param array float 数组
+     * @return 中间值
+     * @throws NullPointerException 当数组为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当数组为 {@code empty} 时抛出此异常。
+     */
+    public static float median(final float... array) {
+        return median(array, null);
+    }
+
+    /**
+     * <p>返回 float 数组的中间值，如果元素个数为偶数，将返回两个中间值中的较低者。元素的顺序同 {@link #median(float[])}。</p>
+     *
+     * <p>使用调用方提供的数组作为临时空间，如果 {@code scratch} 为 {@code null} 或长度小于 {@code array} 的长度，则仍会分配临时副本。
+     * 方法返回后 {@code scratch} 中的内容是未定义的。{@code scratch} 可以就是 {@code array} 本身，此时会原地选择，
+     * 不会分配任何内存，但 {@code array} 中元素的顺序会被打乱。</p>
+     *
+     * @param array float 数组
+     * @param scratch 临时空间，可以为 {@code null}
+     * @return 中间值
+     * @throws NullPointerException 当数组为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当数组为 {@code empty} 时抛出此异常。
+     */
+    public static float median(final float[] array, final float[] scratch) {
+        checkNotEmpty(array.length);
+        final int length = array.length;
+        final float[] buffer = scratch != null && scratch.length >= length ? scratch : new float[length];
+        // 非 NaN 的值紧凑地放在前部，NaN 全部放到尾部
+        int size = 0;
+        for (int i = 0; i < length; i++) {
+            final float value = array[i];
+            if (value == value) {
+                buffer[size++] = value;
+            }
+        }
+        if (size < length) {
+            Arrays.fill(buffer, size, length, Float.NaN);
+        }
+        final int middle = (length - 1) >>> 1;
+        if (middle >= size) {
+            return Float.NaN;
+        }
+        Selection.select(buffer, 0, size, middle);
+        final float value = buffer[middle];
+        return value == 0 ? signedZeroAt(buffer, size, middle) : value;
+    }
+
+    /**
+     * <p>返回 double 数组的中间值，如果元素个数为偶数，将返回两个中间值中的较低者。</p>
+     *
+     * <p>元素的顺序与 {@link java.util.Arrays#sort(double[])} 一致：NaN 大于包括正无穷在内的所有值，{@code -0.0} 小于 {@code 0.0}。
+     * 因此只有当 NaN 占了一半以上时才会返回 NaN。</p>
+     *
+     * <p>使用线性时间的选择算法，数组本身不会被修改，计算在一个临时副本上进行。</p>
+     *
+     * @param array double 数组
+     * @return 中间值
+     * @throws NullPointerException 当数组为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当数组为 {@code empty} 时抛出此异常。
+     */
+    public static double median(final double... array) {
+        return median(array, null);
+    }
+
+    /**
+     * <p>返回 double 数组的中间值，如果元素个数为偶数，将返回两个中间值中的较低者。元素的顺序同 {@link #median(double[])}。</p>
+     *
+     * <p>使用调用方提供的数组作为临时空间，如果 {@code scratch} 为 {@code null} 或长度小于 {@code array} 的长度，则仍会分配临时副本。
+     * 方法返回后 {@code scratch} 中的内容是未定义的。{@code scratch} 可以就是 {@code array} 本身，此时会原地选择，
+     * 不会分配任何内存，但 {@code array} 中元素的顺序会被打乱。</p>
+     *
+     * @param array double 数组
+     * @param scratch 临时空间，可以为 {@code null}
+     * @return 中间值
+     * @throws NullPointerException 当数组为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当数组为 {@code empty} 时抛出此异常。
+     */
+    public static double median(final double[] array, final double[] scratch) {
+        checkNotEmpty(array.length);
+        final int length = array.length;
+        final double[] buffer = scratch != null && scratch.length >= length ? scratch : new double[length];
+        // 非 NaN 的值紧凑地放在前部，NaN 全部放到尾部
+        int size = 0;
+        for (int i = 0; i < length; i++) {
+            final double value = array[i];
+            if (value == value) {
+                buffer[size++] = value;
+            }
+        }
+        if (size < length) {
+            Arrays.fill(buffer, size, length, Double.NaN);
+        }
+        final int middle = (length - 1) >>> 1;
+        if (middle >= size) {
+            return Double.NaN;
+        }
+        Selection.select(buffer, 0, size, middle);
+        final double value = buffer[middle];
+        return value == 0 ? signedZeroAt(buffer, size, middle) : value;
+    }
+    // ----- Median ----- ending
+
+
+
+    private static void checkNotEmpty(final int length) {
+        if (length == 0) {
+            throw new IllegalArgumentException("Array must not be empty");
+        }
+    }
+
+    /**
+     * 在不含 NaN 的值之间比较大小，{@code -0.0} 小于 {@code 0.0}。
+     */
+    private static boolean lessThan(final double a, final double b) {
+        return a < b || (a == b && Double.doubleToRawLongBits(a) < Double.doubleToRawLongBits(b));
+    }
+
+    private static boolean lessThan(final float a, final float b) {
+        return a < b || (a == b && Float.floatToRawIntBits(a) < Float.floatToRawIntBits(b));
+    }
+
+    /**
+     * 选择算法不区分 {@code -0.0} 和 {@code 0.0}，当中间值为零时，根据负数和 {@code -0.0} 的个数确定其符号。
+     */
+    private static double signedZeroAt(final double[] buffer, final int size, final int index) {
+        int below = 0;
+        for (int i = 0; i < size; i++) {
+            final double value = buffer[i];
+            if (value < 0 || (value == 0 && Double.doubleToRawLongBits(value) != 0L)) {
+                below++;
+            }
+        }
+        return index < below ? -0.0d : 0.0d;
+    }
+
+    private static float signedZeroAt(final float[] buffer, final int size, final int index) {
+        int below = 0;
+        for (int i = 0; i < size; i++) {
+            final float value = buffer[i];
+            if (value < 0 || (value == 0 && Float.floatToRawIntBits(value) != 0)) {
+                below++;
+            }
+        }
+        return index < below ? -0.0f : 0.0f;
+    }
 }
\ No newline at end of file
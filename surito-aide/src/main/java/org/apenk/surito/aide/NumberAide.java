@@ -0,0 +1,362 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide;
+
+import org.apenk.surito.aide.mutable.MutableInt;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * <p>操作数字的工具类。</p>
+ *
+ * <p>{@code tryParseInt} 系列方法与 {@link Integer#parseInt(String, int)} 的解析规则一致（可选的 {@code +}/{@code -} 符号，后跟至少一位数字），
+ * 但不会抛出 {@link NumberFormatException}，而是通过返回值表示解析是否成功，解析结果写入调用方提供的 {@link MutableInt}。
+ * 因此解析格式错误的输入时不会构造异常、遍历堆栈；解析 {@code byte[]} 和 {@link ByteBuffer} 时也无需先创建 {@link String}。</p>
+ *
+ * <p>非法的基数和越界的范围属于调用方的编程错误，仍然会抛出异常。</p>
+ *
+ * <p>{@code appendTo} 和 {@code writeAscii} 系列方法将 long 值的十进制表示直接写入目标，不会创建中间的 {@link String}，
+ * 适合将大量计数器输出到日志或网络的场景。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class NumberAide {
+
+    /**
+     * 10 的 0 ~ 18 次幂，即 long 范围内所有的 10 的幂
+     */
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L,
+            10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L,
+            1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L
+    };
+
+    /**
+     * <p>{@link NumberAide} 的实例不应该在标准编程中构造，而应该直接使用该类的静态方法。</p>
+     *
+     * <p>该构造方法是 public 的，允许需要对 JavaBean 进行操作的工具使用。</p>
+     */
+    public NumberAide() {
+        super();
+    }
+
+
+
+    // ----- Parse ----- beginning
+    /**
+     * <p>将字符序列按十进制解析为 int 值。</p>
+     *
+     * @param chars 要解析的字符序列，为 {@code null} 时返回 {@code false}
+     * @param result 用于接收解析结果，解析失败时不会被修改，不能为 {@code null}
+     * @return 解析成功时返回 {@code true}，否则返回 {@code false}
+     */
+    public static boolean tryParseInt(final CharSequence chars, final MutableInt result) {
+        if (chars == null) {
+            return false;
+        }
+        return tryParseInt(chars, 0, chars.length(), 10, result);
+    }
+
+    /**
+     * <p>将字符序列中 {@code [from, to)} 范围内的字符按指定基数解析为 int 值。</p>
+     *
+     * @param chars 要解析的字符序列，为 {@code null} 时返回 {@code false}
+     * @param from 起始索引（包含）
+     * @param to 结束索引（不包含）
+     * @param radix 基数，取值范围为 [{@link Character#MIN_RADIX}, {@link Character#MAX_RADIX}]
+     * @param result 用于接收解析结果，解析失败时不会被修改，不能为 {@code null}
+     * @return 解析成功时返回 {@code true}，否则返回 {@code false}
+     * @throws IllegalArgumentException 当基数超出范围时抛出此异常
+     * @throws IndexOutOfBoundsException 当范围越界时抛出此异常
+     */
+    public static boolean tryParseInt(final CharSequence chars, final int from, final int to, final int radix, final MutableInt result) {
+        checkRadix(radix);
+        if (chars == null) {
+            return false;
+        }
+        checkRange(from, to, chars.length());
+        if (from == to) {
+            return false;
+        }
+        int index = from;
+        final char first = chars.charAt(index);
+        final boolean negative = first == '-';
+        if (negative || first == '+') {
+            if (++index == to) {
+                return false;
+            }
+        }
+        // 与 Integer.parseInt 相同，以负数累加，从而可以表示 Integer.MIN_VALUE
+        final int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        final int multiplyLimit = limit / radix;
+        int value = 0;
+        while (index < to) {
+            final int digit = Character.digit(chars.charAt(index++), radix);
+            if (digit < 0 || value < multiplyLimit) {
+                return false;
+            }
+            value *= radix;
+            if (value < limit + digit) {
+                return false;
+            }
+            value -= digit;
+        }
+        result.setValue(negative ? value : -value);
+        return true;
+    }
+
+    /**
+     * <p>将 ASCII 字节数组中 {@code [offset, offset + length)} 范围内的字节按指定基数解析为 int 值。</p>
+     *
+     * @param bytes 要解析的字节数组，为 {@code null} 时返回 {@code false}
+     * @param offset 起始索引
+     * @param length 字节数
+     * @param radix 基数，取值范围为 [{@link Character#MIN_RADIX}, {@link Character#MAX_RADIX}]
+     * @param result 用于接收解析结果，解析失败时不会被修改，不能为 {@code null}
+     * @return 解析成功时返回 {@code true}，否则返回 {@code false}
+     * @throws IllegalArgumentException 当基数超出范围时抛出此异常
+     * @throws IndexOutOfBoundsException 当范围越界时抛出此异常
+     */
+    public static boolean tryParseInt(final byte[] bytes, final int offset, final int length, final int radix, final MutableInt result) {
+        checkRadix(radix);
+        if (bytes == null) {
+            return false;
+        }
+        checkRange(offset, offset + length, bytes.length);
+        if (length == 0) {
+            return false;
+        }
+        final int to = offset + length;
+        int index = offset;
+        final byte first = bytes[index];
+        final boolean negative = first == '-';
+        if (negative || first == '+') {
+            if (++index == to) {
+                return false;
+            }
+        }
+        final int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        final int multiplyLimit = limit / radix;
+        int value = 0;
+        while (index < to) {
+            final int digit = asciiDigit(bytes[index++], radix);
+            if (digit < 0 || value < multiplyLimit) {
+                return false;
+            }
+            value *= radix;
+            if (value < limit + digit) {
+                return false;
+            }
+            value -= digit;
+        }
+        result.setValue(negative ? value : -value);
+        return true;
+    }
+
+    /**
+     * <p>将缓冲区中从绝对位置 {@code offset} 开始的 {@code length} 个 ASCII 字节按指定基数解析为 int 值。</p>
+     *
+     * <p>使用绝对位置读取，不会改变缓冲区的 position 和 limit。</p>
+     *
+     * @param buffer 要解析的缓冲区，为 {@code null} 时返回 {@code false}
+     * @param offset 起始的绝对位置
+     * @param length 字节数
+     * @param radix 基数，取值范围为 [{@link Character#MIN_RADIX}, {@link Character#MAX_RADIX}]
+     * @param result 用于接收解析结果，解析失败时不会被修改，不能为 {@code null}
+     * @return 解析成功时返回 {@code true}，否则返回 {@code false}
+     * @throws IllegalArgumentException 当基数超出范围时抛出此异常
+     * @throws IndexOutOfBoundsException 当范围超出缓冲区的 limit 时抛出此异常
+     */
+    public static boolean tryParseInt(final ByteBuffer buffer, final int offset, final int length, final int radix, final MutableInt result) {
+        checkRadix(radix);
+        if (buffer == null) {
+            return false;
+        }
+        checkRange(offset, offset + length, buffer.limit());
+        if (length == 0) {
+            return false;
+        }
+        final int to = offset + length;
+        int index = offset;
+        final byte first = buffer.get(index);
+        final boolean negative = first == '-';
+        if (negative || first == '+') {
+            if (++index == to) {
+                return false;
+            }
+        }
+        final int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        final int multiplyLimit = limit / radix;
+        int value = 0;
+        while (index < to) {
+            final int digit = asciiDigit(buffer.get(index++), radix);
+            if (digit < 0 || value < multiplyLimit) {
+                return false;
+            }
+            value *= radix;
+            if (value < limit + digit) {
+                return false;
+            }
+            value -= digit;
+        }
+        result.setValue(negative ? value : -value);
+        return true;
+    }
+    // ----- Parse ----- ending
+
+
+
+    // ----- Format ----- beginning
+    /**
+     * <p>返回 long 值的十进制表示所占的字符数，包括负号。</p>
+     *
+     * @param value 要计算的值
+     * @return 字符数，取值范围为 [1, 20]
+     */
+    public static int asciiLength(final long value) {
+        // 以负数计算，从而可以处理 Long.MIN_VALUE
+        final int digits = digitsOf(value < 0 ? value : -value);
+        return value < 0 ? digits + 1 : digits;
+    }
+
+    /**
+     * <p>将 long 值的十进制表示逐个字符地追加到 {@link Appendable} 中，不会创建 {@link String}。</p>
+     *
+     * @param value 要追加的值
+     * @param appendable 目标，不能为 {@code null}
+     * @return 目标 {@code appendable}
+     * @throws IOException 当目标追加字符失败时抛出此异常
+     */
+    public static Appendable appendTo(final long value, final Appendable appendable) throws IOException {
+        if (appendable instanceof StringBuilder) {
+            // StringBuilder 本身已经直接写入数字，无需逐个字符追加
+            return ((StringBuilder) appendable).append(value);
+        }
+        long negative = value;
+        if (value < 0) {
+            appendable.append('-');
+        } else {
+            negative = -value;
+        }
+        for (int i = digitsOf(negative) - 1; i >= 0; i--) {
+            final long power = POWERS_OF_TEN[i];
+            final long quotient = negative / power;
+            appendable.append((char) ('0' - quotient));
+            negative -= quotient * power;
+        }
+        return appendable;
+    }
+
+    /**
+     * <p>将 long 值的十进制表示以 ASCII 字节写入数组的指定位置，不会创建 {@link String}。</p>
+     *
+     * @param value 要写入的值
+     * @param bytes 目标数组，不能为 {@code null}
+     * @param offset 写入的起始索引
+     * @return 写入的最后一个字节之后的索引，即下一次写入的起始索引
+     * @throws IndexOutOfBoundsException 当数组的剩余空间不足时抛出此异常，此时数组不会被修改
+     */
+    public static int writeAscii(final long value, final byte[] bytes, final int offset) {
+        final int length = asciiLength(value);
+        checkRange(offset, offset + length, bytes.length);
+        long negative = value < 0 ? value : -value;
+        int index = offset + length;
+        do {
+            final long quotient = negative / 10;
+            bytes[--index] = (byte) ('0' + (quotient * 10 - negative));
+            negative = quotient;
+        } while (negative != 0);
+        if (value < 0) {
+            bytes[offset] = '-';
+        }
+        return offset + length;
+    }
+
+    /**
+     * <p>将 long 值的十进制表示以 ASCII 字节写入缓冲区的当前位置，并将 position 后移，不会创建 {@link String}。</p>
+     *
+     * @param value 要写入的值
+     * @param buffer 目标缓冲区，不能为 {@code null}
+     * @return 目标缓冲区
+     * @throws BufferOverflowException 当缓冲区的剩余空间不足时抛出此异常，此时缓冲区不会被修改
+     * @throws java.nio.ReadOnlyBufferException 当缓冲区为只读时抛出此异常
+     */
+    public static ByteBuffer writeAscii(final long value, final ByteBuffer buffer) {
+        final int length = asciiLength(value);
+        if (buffer.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        final int position = buffer.position();
+        long negative = value < 0 ? value : -value;
+        int index = position + length;
+        do {
+            final long quotient = negative / 10;
+            buffer.put(--index, (byte) ('0' + (quotient * 10 - negative)));
+            negative = quotient;
+        } while (negative != 0);
+        if (value < 0) {
+            buffer.put(position, (byte) '-');
+        }
+        buffer.position(position + length);
+        return buffer;
+    }
+    // ----- Format ----- ending
+
+
+
+    /**
+     * 返回 ASCII 字符在指定基数下表示的数值，不是合法数字时返回 -1。
+     */
+    private static int asciiDigit(final byte ch, final int radix) {
+        final int digit;
+        if (ch >= '0' && ch <= '9') {
+            digit = ch - '0';
+        } else if (ch >= 'a' && ch <= 'z') {
+            digit = ch - 'a' + 10;
+        } else if (ch >= 'A' && ch <= 'Z') {
+            digit = ch - 'A' + 10;
+        } else {
+            return -1;
+        }
+        return digit < radix ? digit : -1;
+    }
+
+    /**
+     * 返回非正数 {@code negative} 的十进制位数。
+     */
+    private static int digitsOf(final long negative) {
+        int digits = 1;
+        while (digits < POWERS_OF_TEN.length && negative <= -POWERS_OF_TEN[digits]) {
+            digits++;
+        }
+        return digits;
+    }
+
+    private static void checkRadix(final int radix) {
+        if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX) {
+            throw new IllegalArgumentException("Radix out of range: [" + radix + "]");
+        }
+    }
+
+    private static void checkRange(final int from, final int to, final int length) {
+        if (from < 0 || from > to || to > length) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for length " + length);
+        }
+    }
+}
\ No newline at end of file
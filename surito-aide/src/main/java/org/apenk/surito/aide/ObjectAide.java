@@ -15,14 +15,15 @@
  */
 package org.apenk.surito.aide;
 
+import org.apenk.surito.aide.collection.ObjectIntCounter;
 import org.apenk.surito.aide.exception.CloneFailedException;
-import org.apenk.surito.aide.mutable.MutableInt;
 
 import java.io.Serializable;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * <p>操作 {@link Object} 的工具类。</p>
@@ -110,6 +111,30 @@ public class ObjectAide {
         return null;
     }
 
+    /**
+     * <p>按顺序调用各个 {@link Supplier}，返回第一个 {@code non-null} 的结果。</p>
+     *
+     * <p>与 {@link #firstNonNull(Object[])} 不同，备选值只在需要时才会计算：一旦得到 {@code non-null} 的结果，之后的 {@link Supplier} 都不会被调用。</p>
+     *
+     * @param suppliers 提供备选值的函数，可以为 {@code null} 或 {@code empty}，其中为 {@code null} 的元素会被跳过
+     * @param <T> 值的类型
+     * @return 第一个 {@code non-null} 的结果；如果所有结果都为 {@code null}，则返回 {@code null}
+     */
+    @SafeVarargs
+    public static <T> T firstNonNullGet(final Supplier<? extends T>... suppliers) {
+        if (suppliers != null) {
+            for (final Supplier<? extends T> supplier : suppliers) {
+                if (supplier != null) {
+                    final T value = supplier.get();
+                    if (value != null) {
+                        return value;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
     /**
      * <p>检查指定数组中是否包含 {@code null} 元素。</p>
      *
@@ -406,6 +431,23 @@ public class ObjectAide {
     public static <T> T defaultIfNull(final T object, final T defaultValue) {
         return object != null ? object : defaultValue;
     }
+
+    /**
+     * <p>当第一个参数 {@code object} 为 {@code null} 时，调用 {@code defaultSupplier} 计算默认值并返回。</p>
+     *
+     * <p>与 {@link #defaultIfNull(Object, Object)} 不同，默认值只在 {@code object} 为 {@code null} 时才会计算，适合构造代价较高的默认值。</p>
+     *
+     * @param object 受检对象，可以为 {@code null}
+     * @param defaultSupplier 提供默认值的函数，为 {@code null} 时默认值视为 {@code null}
+     * @param <T> 对象的类型
+     * @return 如果 {@code object} 为 {@code null}，则返回 {@code defaultSupplier} 的结果；否则返回 {@code object}。
+     */
+    public static <T> T defaultIfNullGet(final T object, final Supplier<? extends T> defaultSupplier) {
+        if (object != null) {
+            return object;
+        }
+        return defaultSupplier != null ? defaultSupplier.get() : null;
+    }
     // ----- Defaulting ----- ending
 
 
@@ -498,6 +540,8 @@ public class ObjectAide {
     /**
      * <p>在可比较的对象集中找到“最佳猜测”的中间值，如果总数为偶数，将返回两个中间值中的较低者。</p>
      *
+     * <p>使用线性时间的选择算法，重复的对象会被保留并参与计算。对象集本身不会被修改，计算在一个临时副本上进行。</p>
+     *
      * @param items 可比较的对象集
      * @param <T> 参数类型
      * @return 中间位置的对象
@@ -505,39 +549,61 @@ public class ObjectAide {
      * @throws IllegalArgumentException 当对象集为 {@code empty} 或包含 {@code null} 元素时抛出此异常。
      */
     @SafeVarargs
+    @SuppressWarnings("varargs")
     public static <T extends Comparable<? super T>> T median(final T... items) {
-        // TODO-Kweny Validate
-//        Validate.notEmpty(items, "null/empty items");
-//        Validate.noNullElements(items);
-        final TreeSet<T> sort = new TreeSet<>();
-        Collections.addAll(sort, items);
-        @SuppressWarnings("unchecked")
-        final T result = (T) sort.toArray()[(sort.size() - 1) / 2];
-        return result;
+        return median(items, null);
     }
 
     /**
-     * <p>在可比较的对象集中找到“最佳猜测”的中间值，如果总数为偶数，将返回两个中间值中的较低者。忽略 {@code null} 元素。</p>
+     * <p>在可比较的对象集中找到“最佳猜测”的中间值，如果总数为偶数，将返回两个中间值中的较低者。</p>
+     *
+     * <p>与 {@link #median(Comparable[])} 相同，但使用调用方提供的数组作为临时空间，
+     * 当需要反复计算大量对象的中间值时，可以复用同一个数组以避免每次都分配副本。
+     * 如果 {@code scratch} 为 {@code null} 或长度小于对象集的长度，则仍会分配临时副本。
+     * 方法返回后 {@code scratch} 中的内容是未定义的。</p>
      *
      * @param items 可比较的对象集
+     * @param scratch 临时空间，可以为 {@code null}
      * @param <T> 参数类型
      * @return 中间位置的对象
+     * @throws NullPointerException 当对象集为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当对象集为 {@code empty} 或包含 {@code null} 元素时抛出此异常。
+     */
+    public static <T extends Comparable<? super T>> T median(final T[] items, final T[] scratch) {
+        return selectMedian(items, scratch, Comparator.naturalOrder(), false);
+    }
+
+    /**
+     * <p>在可比较的对象集中找到“最佳猜测”的中间值，如果总数为偶数，将返回两个中间值中的较低者。忽略 {@code null} 元素。</p>
+     *
+     * <p>使用线性时间的选择算法，重复的对象会被保留并参与计算。对象集本身不会被修改，计算在一个临时副本上进行。</p>
+     *
+     * @param items 可比较的对象集
+     * @param <T> 参数类型
+     * @return 中间位置的对象；如果对象集为 {@code null}、{@code empty} 或只包含 {@code null} 元素，则返回 {@code null}
      */
     @SafeVarargs
+    @SuppressWarnings("varargs")
     public static <T extends Comparable<? super T>> T medianIgnoreNull(final T... items) {
+        return medianIgnoreNull(items, null);
+    }
+
+    /**
+     * <p>在可比较的对象集中找到“最佳猜测”的中间值，如果总数为偶数，将返回两个中间值中的较低者。忽略 {@code null} 元素。</p>
+     *
+     * <p>与 {@link #medianIgnoreNull(Comparable[])} 相同，但使用调用方提供的数组作为临时空间，
+     * 规则同 {@link #median(Comparable[], Comparable[])}。</p>
+     *
+     * @param items 可比较的对象集
+     * @param scratch 临时空间，可以为 {@code null}
+     * @param <T> 参数类型
+     * @return 中间位置的对象；如果对象集为 {@code null}、{@code empty} 或只包含 {@code null} 元素，则返回 {@code null}
+     */
+    public static <T extends Comparable<? super T>> T medianIgnoreNull(final T[] items, final T[] scratch) {
         if (ArrayAide.isEmpty(items)) {
             return null;
         }
-        final TreeSet<T> sort = new TreeSet<>();
-        for (T item : items) {
-            if (item == null) {
-                continue;
-            }
-            sort.add(item);
-        }
-        @SuppressWarnings("unchecked")
-        final T result = (T) sort.toArray()[(sort.size() - 1) / 2];
-        return result;
+        return selectMedian(items, scratch, Comparator.naturalOrder(), true);
     }
 
     /**
@@ -600,6 +666,8 @@ public class ObjectAide {
     /**
      * <p>在可比较的对象集中找到“最佳猜测”的中间值，如果总数为偶数，将返回两个中间值中的较低者。</p>
      *
+     * <p>使用线性时间的选择算法，比较器认为相等的对象会被保留并参与计算。对象集本身不会被修改，计算在一个临时副本上进行。</p>
+     *
      * @param comparator 比较器
      * @param items 可比较的对象集
      * @param <T> 参数类型
@@ -608,45 +676,350 @@ public class ObjectAide {
      * @throws IllegalArgumentException 当对象集为 {@code empty} 或包含 {@code null} 元素时抛出此异常。
      */
     @SafeVarargs
+    @SuppressWarnings("varargs")
     public static <T> T median(Comparator<? super T> comparator, final T... items) {
-        // TODO-Kweny Validate
-//        Validate.notEmpty(items, "null/empty items");
-//        Validate.noNullElements(items);
-//        Validate.notNull(comparator, "null comparator");
-        final TreeSet<T> sort = new TreeSet<>(comparator);
-        Collections.addAll(sort, items);
-        @SuppressWarnings("unchecked")
-        final T result = (T) sort.toArray()[(sort.size() - 1) / 2];
-        return result;
+        return median(comparator, items, null);
     }
 
     /**
-     * <p>在可比较的对象集中找到“最佳猜测”的中间值，如果总数为偶数，将返回两个中间值中的较低者。忽略 {@code null} 元素。</p>
+     * <p>在可比较的对象集中找到“最佳猜测”的中间值，如果总数为偶数，将返回两个中间值中的较低者。</p>
+     *
+     * <p>与 {@link #median(Comparator, Object[])} 相同，但使用调用方提供的数组作为临时空间，
+     * 规则同 {@link #median(Comparable[], Comparable[])}。</p>
      *
      * @param comparator 比较器
      * @param items 可比较的对象集
+     * @param scratch 临时空间，可以为 {@code null}
      * @param <T> 参数类型
      * @return 中间位置的对象
+     * @throws NullPointerException 当对象集或者比较器为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当对象集为 {@code empty} 或包含 {@code null} 元素时抛出此异常。
+     */
+    public static <T> T median(final Comparator<? super T> comparator, final T[] items, final T[] scratch) {
+        checkComparator(comparator);
+        return selectMedian(items, scratch, comparator, false);
+    }
+
+    /**
+     * <p>在可比较的对象集中找到“最佳猜测”的中间值，如果总数为偶数，将返回两个中间值中的较低者。忽略 {@code null} 元素。</p>
+     *
+     * <p>使用线性时间的选择算法，比较器认为相等的对象会被保留并参与计算。对象集本身不会被修改，计算在一个临时副本上进行。</p>
+     *
+     * @param comparator 比较器
+     * @param items 可比较的对象集
+     * @param <T> 参数类型
+     * @return 中间位置的对象；如果对象集为 {@code null}、{@code empty} 或只包含 {@code null} 元素，则返回 {@code null}
      * @throws NullPointerException 当比较器为 {@code null} 时抛出此异常。
      */
     @SafeVarargs
+    @SuppressWarnings("varargs")
     public static <T> T medianIgnoreNull(Comparator<? super T> comparator, final T... items) {
-        // TODO-Kweny Validate
-//        Validate.notNull(comparator, "null comparator");
+        return medianIgnoreNull(comparator, items, null);
+    }
+
+    /**
+     * <p>在可比较的对象集中找到“最佳猜测”的中间值，如果总数为偶数，将返回两个中间值中的较低者。忽略 {@code null} 元素。</p>
+     *
+     * <p>与 {@link #medianIgnoreNull(Comparator, Object[])} 相同，但使用调用方提供的数组作为临时空间，
+     * 规则同 {@link #median(Comparable[], Comparable[])}。</p>
+     *
+     * @param comparator 比较器
+     * @param items 可比较的对象集
+     * @param scratch 临时空间，可以为 {@code null}
+     * @param <T> 参数类型
+     * @return 中间位置的对象；如果对象集为 {@code null}、{@code empty} 或只包含 {@code null} 元素，则返回 {@code null}
+     * @throws NullPointerException 当比较器为 {@code null} 时抛出此异常。
+     */
+    public static <T> T medianIgnoreNull(final Comparator<? super T> comparator, final T[] items, final T[] scratch) {
+        checkComparator(comparator);
         if (ArrayAide.isEmpty(items)) {
             return null;
         }
-        final TreeSet<T> sort = new TreeSet<>(comparator);
-        for (T item : items) {
-            if (item != null) {
-                sort.add(item);
-            }
+        return selectMedian(items, scratch, comparator, true);
+    }
+
+    /**
+     * 将对象集复制到临时空间中（必要时忽略 {@code null} 元素），再使用 {@link Selection} 选出较低的中间值。
+     */
+    private static <T> T selectMedian(final T[] items, final T[] scratch, final Comparator<? super T> comparator, final boolean ignoreNull) {
+        checkNotEmpty(items);
+        final T[] buffer = scratch != null && scratch.length >= items.length ? scratch : newBuffer(items);
+        final int size = copyForSelection(items, buffer, ignoreNull);
+        if (size == 0) {
+            return null;
+        }
+        final int middle = (size - 1) >>> 1;
+        Selection.select(buffer, 0, size, middle, comparator);
+        return buffer[middle];
+    }
+    // ------ Compare ------ ending
+
+
+
+    // ----- Order Statistic ----- beginning
+    /**
+     * <p>返回可比较的对象集按升序排列后下标为 {@code k} 的对象，即第 {@code k + 1} 小的对象。</p>
+     *
+     * <p>使用线性时间的选择算法，重复的对象会被保留并参与计算。对象集本身不会被修改，计算在一个临时副本上进行。</p>
+     *
+     * @param k 下标，从 0 开始
+     * @param items 可比较的对象集
+     * @param <T> 参数类型
+     * @return 排序后下标为 {@code k} 的对象
+     * @throws NullPointerException 当对象集为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当对象集为 {@code empty}、包含 {@code null} 元素或 {@code k} 不在 {@code [0, items.length)} 范围内时抛出此异常。
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T extends Comparable<? super T>> T kth(final int k, final T... items) {
+        return kth(k, Comparator.naturalOrder(), items);
+    }
+
+    /**
+     * <p>返回对象集按比较器升序排列后下标为 {@code k} 的对象，即第 {@code k + 1} 小的对象。</p>
+     *
+     * <p>使用线性时间的选择算法，比较器认为相等的对象会被保留并参与计算。对象集本身不会被修改，计算在一个临时副本上进行。</p>
+     *
+     * @param k 下标，从 0 开始
+     * @param comparator 比较器
+     * @param items 可比较的对象集
+     * @param <T> 参数类型
+     * @return 排序后下标为 {@code k} 的对象
+     * @throws NullPointerException 当对象集或者比较器为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当对象集为 {@code empty}、包含 {@code null} 元素或 {@code k} 不在 {@code [0, items.length)} 范围内时抛出此异常。
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> T kth(final int k, final Comparator<? super T> comparator, final T... items) {
+        checkComparator(comparator);
+        checkNotEmpty(items);
+        if (k < 0 || k >= items.length) {
+            throw new IllegalArgumentException("K must be in range [0, " + items.length + "): [" + k + "]");
         }
+        final T[] buffer = newBuffer(items);
+        copyForSelection(items, buffer, false);
+        Selection.select(buffer, 0, buffer.length, k, comparator);
+        return buffer[k];
+    }
+
+    /**
+     * <p>返回可比较的对象集的第 {@code p} 百分位数。</p>
+     *
+     * <p>采用最近秩（nearest-rank）定义：将对象集按升序排列，返回排序后第 {@code ceil(p / 100 * n)} 个对象（从 1 开始计数），
+     * {@code p} 为 0 时返回最小的对象。按此定义，第 50 百分位数与 {@link #median(Comparable[])} 的结果相同。</p>
+     *
+     * @param p 百分位，取值范围为 {@code [0, 100]}，例如 99.9 表示 p999
+     * @param items 可比较的对象集
+     * @param <T> 参数类型
+     * @return 第 {@code p} 百分位数
+     * @throws NullPointerException 当对象集为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当对象集为 {@code empty}、包含 {@code null} 元素或 {@code p} 超出范围时抛出此异常。
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T extends Comparable<? super T>> T percentile(final double p, final T... items) {
+        return percentile(p, Comparator.naturalOrder(), items);
+    }
+
+    /**
+     * <p>返回对象集按比较器升序排列后的第 {@code p} 百分位数，定义同 {@link #percentile(double, Comparable[])}。</p>
+     *
+     * @param p 百分位，取值范围为 {@code [0, 100]}，例如 99.9 表示 p999
+     * @param comparator 比较器
+     * @param items 可比较的对象集
+     * @param <T> 参数类型
+     * @return 第 {@code p} 百分位数
+     * @throws NullPointerException 当对象集或者比较器为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当对象集为 {@code empty}、包含 {@code null} 元素或 {@code p} 超出范围时抛出此异常。
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> T percentile(final double p, final Comparator<? super T> comparator, final T... items) {
+        checkComparator(comparator);
+        checkNotEmpty(items);
+        final int index = percentileIndex(p, items.length);
+        final T[] buffer = newBuffer(items);
+        copyForSelection(items, buffer, false);
+        Selection.select(buffer, 0, buffer.length, index, comparator);
+        return buffer[index];
+    }
+
+    /**
+     * <p>一次性返回可比较的对象集的多个百分位数，每个百分位数的定义同 {@link #percentile(double, Comparable[])}。</p>
+     *
+     * <p>所有百分位数共用同一组划分，代价远小于对每个百分位数分别调用 {@link #percentile(double, Comparable[])}。</p>
+     *
+     * @param ps 百分位数组，每个值的取值范围为 {@code [0, 100]}，不需要有序
+     * @param items 可比较的对象集
+     * @param <T> 参数类型
+     * @return 与 {@code ps} 一一对应的百分位数列表
+     * @throws NullPointerException 当百分位数组或对象集为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当对象集为 {@code empty}、包含 {@code null} 元素或某个百分位超出范围时抛出此异常。
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T extends Comparable<? super T>> List<T> percentiles(final double[] ps, final T... items) {
+        return percentiles(ps, Comparator.naturalOrder(), items);
+    }
+
+    /**
+     * <p>一次性返回对象集按比较器升序排列后的多个百分位数，每个百分位数的定义同 {@link #percentile(double, Comparable[])}。</p>
+     *
+     * <p>所有百分位数共用同一组划分，代价远小于对每个百分位数分别调用 {@link #percentile(double, Comparator, Object[])}。</p>
+     *
+     * @param ps 百分位数组，每个值的取值范围为 {@code [0, 100]}，不需要有序
+     * @param comparator 比较器
+     * @param items 可比较的对象集
+     * @param <T> 参数类型
+     * @return 与 {@code ps} 一一对应的百分位数列表
+     * @throws NullPointerException 当百分位数组、对象集或者比较器为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当对象集为 {@code empty}、包含 {@code null} 元素或某个百分位超出范围时抛出此异常。
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> List<T> percentiles(final double[] ps, final Comparator<? super T> comparator, final T... items) {
+        checkComparator(comparator);
+        checkNotEmpty(items);
+        final T[] buffer = newBuffer(items);
+        copyForSelection(items, buffer, false);
+        return selectPercentiles(ps, buffer, comparator);
+    }
+
+    /**
+     * <p>一次性返回集合按比较器升序排列后的多个百分位数，规则同 {@link #percentiles(double[], Comparator, Object[])}。
+     * 集合本身不会被修改，计算在 {@link Collection#toArray()} 返回的副本上进行。</p>
+     *
+     * @param ps 百分位数组，每个值的取值范围为 {@code [0, 100]}，不需要有序
+     * @param comparator 比较器
+     * @param items 集合
+     * @param <T> 元素类型
+     * @return 与 {@code ps} 一一对应的百分位数列表
+     * @throws NullPointerException 当百分位数组、集合或者比较器为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当集合为 {@code empty}、包含 {@code null} 元素或某个百分位超出范围时抛出此异常。
+     */
+    public static <T> List<T> percentiles(final double[] ps, final Comparator<? super T> comparator, final Collection<? extends T> items) {
+        checkComparator(comparator);
         @SuppressWarnings("unchecked")
-        final T result = (T) sort.toArray()[(sort.size() - 1) / 2];
+        final T[] buffer = (T[]) items.toArray();
+        checkNotEmpty(buffer);
+        copyForSelection(buffer, buffer, false);
+        return selectPercentiles(ps, buffer, comparator);
+    }
+
+    /**
+     * <p>返回对象集中按比较器最大的 {@code k} 个对象，按降序排列。需要最小的 {@code k} 个对象时，传入反转的比较器即可。</p>
+     *
+     * <p>使用容量为 {@code k} 的堆在一次遍历中完成，时间复杂度为 O(n log k)，不会对全部对象排序。
+     * 比较器认为相等的对象，先出现的优先保留。{@code null} 元素是否允许取决于比较器。</p>
+     *
+     * @param k 返回的对象个数，大于对象集的大小时返回全部对象
+     * @param comparator 比较器
+     * @param items 对象集
+     * @param <T> 参数类型
+     * @return 最大的 {@code k} 个对象，按降序排列；对象集为 {@code null} 或 {@code empty} 时返回空列表
+     * @throws NullPointerException 当比较器为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当 {@code k} 为负数时抛出此异常。
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> List<T> topK(final int k, final Comparator<? super T> comparator, final T... items) {
+        if (ArrayAide.isEmpty(items)) {
+            return topK(k, comparator, Collections.emptyList());
+        }
+        return topK(k, comparator, Arrays.asList(items));
+    }
+
+    /**
+     * <p>返回可迭代对象中按比较器最大的 {@code k} 个元素，按降序排列，规则同 {@link #topK(int, Comparator, Object[])}。</p>
+     *
+     * @param k 返回的元素个数，大于元素个数时返回全部元素
+     * @param comparator 比较器
+     * @param items 可迭代对象
+     * @param <T> 元素类型
+     * @return 最大的 {@code k} 个元素，按降序排列；可迭代对象为 {@code null} 时返回空列表
+     * @throws NullPointerException 当比较器为 {@code null} 时抛出此异常。
+     * @throws IllegalArgumentException 当 {@code k} 为负数时抛出此异常。
+     */
+    public static <T> List<T> topK(final int k, final Comparator<? super T> comparator, final Iterable<? extends T> items) {
+        checkComparator(comparator);
+        if (k < 0) {
+            throw new IllegalArgumentException("K must not be negative: [" + k + "]");
+        }
+        if (items == null) {
+            return new ArrayList<>(0);
+        }
+        final int expectedSize = items instanceof Collection ? ((Collection<?>) items).size() : 0;
+        return Selection.top(items, k, expectedSize, comparator);
+    }
+
+    /**
+     * 按最近秩定义计算百分位对应的下标。{@code p / 100 * size} 的浮点误差可能使本应是整数的秩略大于该整数，
+     * 例如 {@code 99.9 / 100 * 1000}，因此在向上取整时容忍 {@code 1e-9} 的误差。
+     */
+    private static int percentileIndex(final double p, final int size) {
+        if (!(p >= 0 && p <= 100)) {
+            throw new IllegalArgumentException("Percentile must be in range [0, 100]: [" + p + "]");
+        }
+        final double exact = p / 100 * size;
+        long rank = (long) Math.ceil(exact);
+        if (rank - exact > 1 - 1e-9) {
+            rank--;
+        }
+        return (int) Math.max(0, Math.min(size, rank) - 1);
+    }
+
+    private static <T> List<T> selectPercentiles(final double[] ps, final T[] buffer, final Comparator<? super T> comparator) {
+        final int[] indexes = new int[ps.length];
+        for (int i = 0; i < ps.length; i++) {
+            indexes[i] = percentileIndex(ps[i], buffer.length);
+        }
+        final int[] sorted = indexes.clone();
+        Arrays.sort(sorted);
+        Selection.select(buffer, 0, buffer.length, sorted, 0, sorted.length, comparator);
+        final List<T> result = new ArrayList<>(indexes.length);
+        for (final int index : indexes) {
+            result.add(buffer[index]);
+        }
         return result;
     }
-    // ------ Compare ------ ending
+
+    private static void checkComparator(final Comparator<?> comparator) {
+        if (comparator == null) {
+            throw new NullPointerException("Comparator must not be null");
+        }
+    }
+
+    private static void checkNotEmpty(final Object[] items) {
+        if (items.length == 0) {
+            throw new IllegalArgumentException("Items must not be empty");
+        }
+    }
+
+    private static <T> T[] newBuffer(final T[] items) {
+        @SuppressWarnings("unchecked")
+        final T[] buffer = (T[]) Array.newInstance(items.getClass().getComponentType(), items.length);
+        return buffer;
+    }
+
+    /**
+     * 将对象集复制到临时空间的前部，{@code buffer} 可以就是 {@code items} 本身。
+     *
+     * @return 复制的元素个数
+     * @throws IllegalArgumentException 当不忽略 {@code null} 且对象集包含 {@code null} 元素时抛出此异常
+     */
+    private static <T> int copyForSelection(final T[] items, final T[] buffer, final boolean ignoreNull) {
+        int size = 0;
+        for (int i = 0; i < items.length; i++) {
+            final T item = items[i];
+            if (item != null) {
+                buffer[size++] = item;
+            } else if (!ignoreNull) {
+                throw new IllegalArgumentException("Items must not contain null elements: [index=" + i + "]");
+            }
+        }
+        return size;
+    }
+    // ----- Order Statistic ----- ending
 
 
 
@@ -661,23 +1034,22 @@ public class ObjectAide {
     @SafeVarargs
     public static <T> T mode(final T... items) {
         if (ArrayAide.isNotEmpty(items)) {
-            final HashMap<T, MutableInt> occurrences = new HashMap<>(items.length);
-            for (final T item : items) {
-                final MutableInt count = occurrences.computeIfAbsent(item, k -> new MutableInt(0));
-                count.increment();
-            }
+            // 计数每次只增加 1，因此在累加的同时即可追踪当前的最大值以及它是否唯一，无需再遍历一次计数表
+            final ObjectIntCounter<T> occurrences = new ObjectIntCounter<>(items.length);
             T result = null;
             int max = 0;
-            for (final Map.Entry<T, MutableInt> entry : occurrences.entrySet()) {
-                final int cmp = entry.getValue().intValue();
-                if (cmp == max) {
-                    result = null;
-                } else if (cmp > max) {
-                    max = cmp;
-                    result = entry.getKey();
+            boolean unique = false;
+            for (final T item : items) {
+                final int count = occurrences.increment(item);
+                if (count > max) {
+                    max = count;
+                    result = item;
+                    unique = true;
+                } else if (count == max) {
+                    unique = false;
                 }
             }
-            return result;
+            return unique ? result : null;
         }
         return null;
     }
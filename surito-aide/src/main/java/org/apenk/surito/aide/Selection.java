@@ -0,0 +1,603 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * <p>顺序统计量的选择算法，供 {@link ObjectAide} 和 {@link ArrayAide} 的中位数、百分位数等方法共用。</p>
+ *
+ * <p>采用 introselect：通常使用三数取中的快速选择，期望时间复杂度为 O(n)；
+ * 当划分轮数超过 {@code 2 * log2(n)} 时，说明遇到了不利的输入，改用五数分组的中位数的中位数（median-of-medians）选取枢轴，
+ * 保证最坏情况下也是 O(n)。划分采用三路划分，大量重复元素不会使其退化。</p>
+ *
+ * <p>选择在指定数组上原地进行，不会创建任何对象。选择完成后，第 {@code k} 个位置上是排序后应位于该位置的元素，
+ * 其之前的元素都不大于它，其之后的元素都不小于它。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+final class Selection {
+
+    /**
+     * 区间长度不超过该值时直接使用插入排序
+     */
+    private static final int INSERTION_THRESHOLD = 16;
+
+    private Selection() {
+        super();
+    }
+
+    /**
+     * 在数组的 {@code [from, to)} 区间中原地选择第 {@code k} 小的元素，并将其放在下标 {@code k} 处。
+     *
+     * @param a 数组
+     * @param from 区间起始下标（包含）
+     * @param to 区间结束下标（不包含）
+     * @param k 要选择的元素的下标，必须在 {@code [from, to)} 区间中
+     * @param comparator 比较器
+     * @param <T> 元素类型
+     */
+    static <T> void select(final T[] a, int from, int to, final int k, final Comparator<? super T> comparator) {
+        int depth = 2 * (32 - Integer.numberOfLeadingZeros(to - from));
+        while (to - from > INSERTION_THRESHOLD) {
+            final int pivot = depth-- > 0
+                    ? medianOfThree(a, from, (from + to) >>> 1, to - 1, comparator)
+                    : medianOfMedians(a, from, to, comparator);
+            final long bounds = partition(a, from, to, a[pivot], comparator);
+            final int lt = (int) (bounds >>> 32);
+            final int gt = (int) bounds;
+            if (k < lt) {
+                to = lt;
+            } else if (k >= gt) {
+                from = gt;
+            } else {
+                return;
+            }
+        }
+        insertionSort(a, from, to, comparator);
+    }
+
+    /**
+     * <p>在数组的 {@code [from, to)} 区间中原地同时选择多个下标上的元素，
+     * 完成后 {@code ks[kFrom, kTo)} 中的每个下标上都是排序后应位于该位置的元素。</p>
+     *
+     * <p>所有下标共用同一组划分：每次划分后只进入包含待选下标的子区间，
+     * 因此选择 m 个下标的代价远小于分别调用 m 次 {@link #select(Object[], int, int, int, Comparator)}。</p>
+     *
+     * @param a 数组
+     * @param from 区间起始下标（包含）
+     * @param to 区间结束下标（不包含）
+     * @param ks 要选择的下标，{@code [kFrom, kTo)} 部分必须按升序排列且都在 {@code [from, to)} 区间中
+     * @param kFrom 下标数组的起始位置（包含）
+     * @param kTo 下标数组的结束位置（不包含）
+     * @param comparator 比较器
+     * @param <T> 元素类型
+     */
+    static <T> void select(final T[] a, final int from, final int to, final int[] ks, final int kFrom, final int kTo,
+                           final Comparator<? super T> comparator) {
+        select(a, from, to, ks, kFrom, kTo, comparator, 2 * (32 - Integer.numberOfLeadingZeros(to - from)));
+    }
+
+    private static <T> void select(final T[] a, int from, final int to, final int[] ks, int kFrom, final int kTo,
+                                   final Comparator<? super T> comparator, int depth) {
+        while (kFrom < kTo) {
+            if (kTo - kFrom == 1) {
+                select(a, from, to, ks[kFrom], comparator);
+                return;
+            }
+            if (to - from <= INSERTION_THRESHOLD) {
+                insertionSort(a, from, to, comparator);
+                return;
+            }
+            final int pivot = depth-- > 0
+                    ? medianOfThree(a, from, (from + to) >>> 1, to - 1, comparator)
+                    : medianOfMedians(a, from, to, comparator);
+            final long bounds = partition(a, from, to, a[pivot], comparator);
+            final int lt = (int) (bounds >>> 32);
+            final int gt = (int) bounds;
+            // [kFrom, left) 落在小于枢轴的部分，[right, kTo) 落在大于枢轴的部分，其余的已经就位
+            int left = kFrom;
+            while (left < kTo && ks[left] < lt) {
+                left++;
+            }
+            int right = left;
+            while (right < kTo && ks[right] < gt) {
+                right++;
+            }
+            select(a, from, lt, ks, kFrom, left, comparator, depth);
+            from = gt;
+            kFrom = right;
+        }
+    }
+
+    /**
+     * <p>使用容量为 {@code k} 的小顶堆保留最大的 {@code k} 个元素，返回按降序排列的结果。</p>
+     *
+     * <p>堆顶始终是已保留元素中最小的一个，只有比它大的元素才会替换它，
+     * 因此时间复杂度为 O(n log k)，除结果外只占用 O(k) 的空间，不会对全部元素排序。
+     * 比较器认为相等的元素，先出现的优先保留。</p>
+     *
+     * @param items 元素集
+     * @param k 保留的元素个数，不能为负数
+     * @param expectedSize 预计的元素个数，用于确定堆的初始容量
+     * @param comparator 比较器
+     * @param <T> 元素类型
+     * @return 最大的 {@code k} 个元素，按降序排列
+     */
+    static <T> List<T> top(final Iterable<? extends T> items, final int k, final int expectedSize, final Comparator<? super T> comparator) {
+        Object[] heap = new Object[Math.max(0, Math.min(k, expectedSize))];
+        int size = 0;
+        if (k > 0) {
+            for (final T item : items) {
+                if (size < k) {
+                    if (size == heap.length) {
+                        heap = Arrays.copyOf(heap, (int) Math.min(k, Math.max(heap.length * 2L, INSERTION_THRESHOLD)));
+                    }
+                    siftUp(heap, size++, item, comparator);
+                } else if (comparator.compare(item, elementAt(heap, 0)) > 0) {
+                    siftDown(heap, 0, size, item, comparator);
+                }
+            }
+        }
+        // 依次将堆顶（当前最小）移到堆的末尾，得到降序排列
+        for (int end = size - 1; end > 0; end--) {
+            final Object min = heap[0];
+            siftDown(heap, 0, end, elementAt(heap, end), comparator);
+            heap[end] = min;
+        }
+        final List<T> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(elementAt(heap, i));
+        }
+        return result;
+    }
+
+    /**
+     * 三路划分：完成后 {@code [from, lt)} 小于 {@code value}，{@code [lt, gt)} 等于 {@code value}，{@code [gt, to)} 大于 {@code value}。
+     *
+     * @return {@code lt} 在高 32 位、{@code gt} 在低 32 位的 long 值
+     */
+    private static <T> long partition(final T[] a, final int from, final int to, final T value, final Comparator<? super T> comparator) {
+        int lt = from;
+        int gt = to;
+        int i = from;
+        while (i < gt) {
+            final int cmp = comparator.compare(a[i], value);
+            if (cmp < 0) {
+                swap(a, lt++, i++);
+            } else if (cmp > 0) {
+                swap(a, i, --gt);
+            } else {
+                i++;
+            }
+        }
+        return ((long) lt << 32) | gt;
+    }
+
+    private static <T> int medianOfThree(final T[] a, final int i, final int j, final int k, final Comparator<? super T> comparator) {
+        if (comparator.compare(a[i], a[j]) < 0) {
+            if (comparator.compare(a[j], a[k]) < 0) {
+                return j;
+            }
+            return comparator.compare(a[i], a[k]) < 0 ? k : i;
+        }
+        if (comparator.compare(a[i], a[k]) < 0) {
+            return i;
+        }
+        return comparator.compare(a[j], a[k]) < 0 ? k : j;
+    }
+
+    /**
+     * 将区间按每 5 个元素分组，把各组的中位数移到区间头部，再递归地选出这些中位数的中位数，返回其下标。
+     */
+    private static <T> int medianOfMedians(final T[] a, final int from, final int to, final Comparator<? super T> comparator) {
+        int medians = from;
+        for (int start = from; start < to; start += 5) {
+            final int end = Math.min(start + 5, to);
+            insertionSort(a, start, end, comparator);
+            swap(a, medians++, (start + end - 1) >>> 1);
+        }
+        final int middle = (from + medians - 1) >>> 1;
+        select(a, from, medians, middle, comparator);
+        return middle;
+    }
+
+    private static <T> void insertionSort(final T[] a, final int from, final int to, final Comparator<? super T> comparator) {
+        for (int i = from + 1; i < to; i++) {
+            final T value = a[i];
+            int j = i - 1;
+            while (j >= from && comparator.compare(a[j], value) > 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = value;
+        }
+    }
+
+    private static void swap(final Object[] a, final int i, final int j) {
+        final Object t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    private static <T> void siftUp(final Object[] heap, int index, final T item, final Comparator<? super T> comparator) {
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (comparator.compare(item, elementAt(heap, parent)) >= 0) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = item;
+    }
+
+    private static <T> void siftDown(final Object[] heap, int index, final int size, final T item, final Comparator<? super T> comparator) {
+        final int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            final int right = child + 1;
+            if (right < size && comparator.compare(elementAt(heap, right), elementAt(heap, child)) < 0) {
+                child = right;
+            }
+            if (comparator.compare(item, elementAt(heap, child)) <= 0) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = item;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T elementAt(final Object[] heap, final int index) {
+        return (T) heap[index];
+    }
+
+    /**
+     * 与 {@link #select(Object[], int, int, int, Comparator)} 相同，按 int 值的自然顺序原地选择。
+     *
+     * @param a 数组
+     * @param from 区间起始下标（包含）
+     * @param to 区间结束下标（不包含）
+     * @param k 要选择的元素的下标，必须在 {@code [from, to)} 区间中
+     */
+    static void select(final int[] a, int from, int to, final int k) {
+        int depth = 2 * (32 - Integer.numberOfLeadingZeros(to - from));
+        while (to - from > INSERTION_THRESHOLD) {
+            final int pivot = depth-- > 0
+                    ? medianOfThree(a, from, (from + to) >>> 1, to - 1)
+                    : medianOfMedians(a, from, to);
+            final int value = a[pivot];
+            int lt = from;
+            int gt = to;
+            int i = from;
+            while (i < gt) {
+                final int x = a[i];
+                if (x < value) {
+                    swap(a, lt++, i++);
+                } else if (x > value) {
+                    swap(a, i, --gt);
+                } else {
+                    i++;
+                }
+            }
+            if (k < lt) {
+                to = lt;
+            } else if (k >= gt) {
+                from = gt;
+            } else {
+                return;
+            }
+        }
+        insertionSort(a, from, to);
+    }
+
+    private static int medianOfThree(final int[] a, final int i, final int j, final int k) {
+        if (a[i] < a[j]) {
+            if (a[j] < a[k]) {
+                return j;
+            }
+            return a[i] < a[k] ? k : i;
+        }
+        if (a[i] < a[k]) {
+            return i;
+        }
+        return a[j] < a[k] ? k : j;
+    }
+
+    private static int medianOfMedians(final int[] a, final int from, final int to) {
+        int medians = from;
+        for (int start = from; start < to; start += 5) {
+            final int end = Math.min(start + 5, to);
+            insertionSort(a, start, end);
+            swap(a, medians++, (start + end - 1) >>> 1);
+        }
+        final int middle = (from + medians - 1) >>> 1;
+        select(a, from, medians, middle);
+        return middle;
+    }
+
+    private static void insertionSort(final int[] a, final int from, final int to) {
+        for (int i = from + 1; i < to; i++) {
+            final int value = a[i];
+            int j = i - 1;
+            while (j >= from && a[j] > value) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = value;
+        }
+    }
+
+    private static void swap(final int[] a, final int i, final int j) {
+        final int t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    /**
+     * 与 {@link #select(Object[], int, int, int, Comparator)} 相同，按 long 值的自然顺序原地选择。
+     *
+     * @param a 数组
+     * @param from 区间起始下标（包含）
+     * @param to 区间结束下标（不包含）
+     * @param k 要选择的元素的下标，必须在 {@code [from, to)} 区间中
+     */
+    static void select(final long[] a, int from, int to, final int k) {
+        int depth = 2 * (32 - Integer.numberOfLeadingZeros(to - from));
+        while (to - from > INSERTION_THRESHOLD) {
+            final int pivot = depth-- > 0
+                    ? medianOfThree(a, from, (from + to) >>> 1, to - 1)
+                    : medianOfMedians(a, from, to);
+            final long value = a[pivot];
+            int lt = from;
+            int gt = to;
+            int i = from;
+            while (i < gt) {
+                final long x = a[i];
+                if (x < value) {
+                    swap(a, lt++, i++);
+                } else if (x > value) {
+                    swap(a, i, --gt);
+                } else {
+                    i++;
+                }
+            }
+            if (k < lt) {
+                to = lt;
+            } else if (k >= gt) {
+                from = gt;
+            } else {
+                return;
+            }
+        }
+        insertionSort(a, from, to);
+    }
+
+    private static int medianOfThree(final long[] a, final int i, final int j, final int k) {
+        if (a[i] < a[j]) {
+            if (a[j] < a[k]) {
+                return j;
+            }
+            return a[i] < a[k] ? k : i;
+        }
+        if (a[i] < a[k]) {
+            return i;
+        }
+        return a[j] < a[k] ? k : j;
+    }
+
+    private static int medianOfMedians(final long[] a, final int from, final int to) {
+        int medians = from;
+        for (int start = from; start < to; start += 5) {
+            final int end = Math.min(start + 5, to);
+            insertionSort(a, start, end);
+            swap(a, medians++, (start + end - 1) >>> 1);
+        }
+        final int middle = (from + medians - 1) >>> 1;
+        select(a, from, medians, middle);
+        return middle;
+    }
+
+    private static void insertionSort(final long[] a, final int from, final int to) {
+        for (int i = from + 1; i < to; i++) {
+            final long value = a[i];
+            int j = i - 1;
+            while (j >= from && a[j] > value) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = value;
+        }
+    }
+
+    private static void swap(final long[] a, final int i, final int j) {
+        final long t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    /**
+     * 与 {@link #select(Object[], int, int, int, Comparator)} 相同，按 float 值的自然顺序原地选择。
+     * 使用 {@code <} 比较，调用方需保证区间中不包含 NaN；{@code -0.0} 与 {@code 0.0} 被视为相等。
+     *
+     * @param a 数组
+     * @param from 区间起始下标（包含）
+     * @param to 区间结束下标（不包含）
+     * @param k 要选择的元素的下标，必须在 {@code [from, to)} 区间中
+     */
+    static void select(final float[] a, int from, int to, final int k) {
+        int depth = 2 * (32 - Integer.numberOfLeadingZeros(to - from));
+        while (to - from > INSERTION_THRESHOLD) {
+            final int pivot = depth-- > 0
+                    ? medianOfThree(a, from, (from + to) >>> 1, to - 1)
+                    : medianOfMedians(a, from, to);
+            final float value = a[pivot];
+            int lt = from;
+            int gt = to;
+            int i = from;
+            while (i < gt) {
+                final float x = a[i];
+                if (x < value) {
+                    swap(a, lt++, i++);
+                } else if (x > value) {
+                    swap(a, i, --gt);
+                } else {
+                    i++;
+                }
+            }
+            if (k < lt) {
+                to = lt;
+            } else if (k >= gt) {
+                from = gt;
+            } else {
+                return;
+            }
+        }
+        insertionSort(a, from, to);
+    }
+
+    private static int medianOfThree(final float[] a, final int i, final int j, final int k) {
+        if (a[i] < a[j]) {
+            if (a[j] < a[k]) {
+                return j;
+            }
+            return a[i] < a[k] ? k : i;
+        }
+        if (a[i] < a[k]) {
+            return i;
+        }
+        return a[j] < a[k] ? k : j;
+    }
+
+    private static int medianOfMedians(final float[] a, final int from, final int to) {
+        int medians = from;
+        for (int start = from; start < to; start += 5) {
+            final int end = Math.min(start + 5, to);
+            insertionSort(a, start, end);
+            swap(a, medians++, (start + end - 1) >>> 1);
+        }
+        final int middle = (from + medians - 1) >>> 1;
+        select(a, from, medians, middle);
+        return middle;
+    }
+
+    private static void insertionSort(final float[] a, final int from, final int to) {
+        for (int i = from + 1; i < to; i++) {
+            final float value = a[i];
+            int j = i - 1;
+            while (j >= from && a[j] > value) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = value;
+        }
+    }
+
+    private static void swap(final float[] a, final int i, final int j) {
+        final float t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    /**
+     * 与 {@link #select(Object[], int, int, int, Comparator)} 相同，按 double 值的自然顺序原地选择。
+     * 使用 {@code <} 比较，调用方需保证区间中不包含 NaN；{@code -0.0} 与 {@code 0.0} 被视为相等。
+     *
+     * @param a 数组
+     * @param from 区间起始下标（包含）
+     * @param to 区间结束下标（不包含）
+     * @param k 要选择的元素的下标，必须在 {@code [from, to)} 区间中
+     */
+    static void select(final double[] a, int from, int to, final int k) {
+        int depth = 2 * (32 - Integer.numberOfLeadingZeros(to - from));
+        while (to - from > INSERTION_THRESHOLD) {
+            final int pivot = depth-- > 0
+                    ? medianOfThree(a, from, (from + to) >>> 1, to - 1)
+                    : medianOfMedians(a, from, to);
+            final double value = a[pivot];
+            int lt = from;
+            int gt = to;
+            int i = from;
+            while (i < gt) {
+                final double x = a[i];
+                if (x < value) {
+                    swap(a, lt++, i++);
+                } else if (x > value) {
+                    swap(a, i, --gt);
+                } else {
+                    i++;
+                }
+            }
+            if (k < lt) {
+                to = lt;
+            } else if (k >= gt) {
+                from = gt;
+            } else {
+                return;
+            }
+        }
+        insertionSort(a, from, to);
+    }
+
+    private static int medianOfThree(final double[] a, final int i, final int j, final int k) {
+        if (a[i] < a[j]) {
+            if (a[j] < a[k]) {
+                return j;
+            }
+            return a[i] < a[k] ? k : i;
+        }
+        if (a[i] < a[k]) {
+            return i;
+        }
+        return a[j] < a[k] ? k : j;
+    }
+
+    private static int medianOfMedians(final double[] a, final int from, final int to) {
+        int medians = from;
+        for (int start = from; start < to; start += 5) {
+            final int end = Math.min(start + 5, to);
+            insertionSort(a, start, end);
+            swap(a, medians++, (start + end - 1) >>> 1);
+        }
+        final int middle = (from + medians - 1) >>> 1;
+        select(a, from, medians, middle);
+        return middle;
+    }
+
+    private static void insertionSort(final double[] a, final int from, final int to) {
+        for (int i = from + 1; i < to; i++) {
+            final double value = a[i];
+            int j = i - 1;
+            while (j >= from && a[j] > value) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = value;
+        }
+    }
+
+    private static void swap(final double[] a, final int i, final int j) {
+        final double t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,462 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.collection;
+
+import org.apenk.surito.aide.ArrayAide;
+import org.apenk.surito.aide.ObjectAide;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * <p>内存有界的高频元素（heavy hitters）统计，用于在基数很高的数据流中找出出现次数最多的元素。</p>
+ *
+ * <p>与 {@link ObjectIntCounter} 为每个不同的元素都保留一个精确计数不同，该类最多只追踪 {@code m} 个元素，
+ * 内存占用与数据流的基数无关。实现采用 Misra-Gries 算法的批量递减形式：
+ * 追踪的元素数超过 {@code m} 时，所有计数同时减去它们的中位数，并移除计数不再为正的元素，
+ * 累计减去的量记为最大误差 {@code e}。每次清理至少移除一半的元素，代价为 O(m)，
+ * 因此 {@link #offer(Object)} 的均摊时间复杂度为 O(1)。</p>
+ *
+ * <p>计数以 long 基本类型存放在与元素平行的数组中，不会为元素创建计数包装对象。</p>
+ *
+ * <p>误差保证：设已记录的总数为 {@code n}，对于任意元素，其真实出现次数 {@code f} 满足
+ * {@link #lowerBound(Object)} ≤ {@code f} ≤ {@link #upperBound(Object)}，两者之差为 {@code e}，且 {@code e ≤ 2n/m}。
+ * 因此出现次数超过 {@code 2n/m} 的元素一定会被追踪，例如 {@code m = 1000} 时，占比超过 0.2% 的元素都不会丢失。
+ * 在未发生清理之前，所有计数都是精确的。</p>
+ *
+ * <p>注 1，不支持 {@code null} 元素。</p>
+ *
+ * <p>注 2，该类非线程安全，多线程记录时应为每个线程各自维护一个实例，读取时再通过 {@link #merge(HeavyHitters)} 合并。</p>
+ *
+ * @param <T> 元素的类型
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class HeavyHitters<T> {
+
+    /**
+     * 最多追踪的元素数量
+     */
+    private final int maxCounters;
+
+    /**
+     * 元素数组，{@code null} 表示空槽
+     */
+    private Object[] keys;
+
+    /**
+     * 与元素数组平行的计数数组
+     */
+    private long[] counts;
+
+    /**
+     * 清理时用于重建散列表的备用数组，与 {@link #keys}、{@link #counts} 交替使用
+     */
+    private Object[] spareKeys;
+
+    private long[] spareCounts;
+
+    /**
+     * 清理时用于计算计数中位数的临时空间
+     */
+    private final long[] purgeCounts;
+
+    private final int mask;
+
+    private int size;
+
+    private long totalCount;
+
+    /**
+     * 累计在清理中减去的计数，即最大误差
+     */
+    private long offset;
+
+    // ----- 构造方法 ----- beginning
+    /**
+     * 创建一个最多追踪指定数量元素的 HeavyHitters 实例。
+     *
+     * @param maxCounters 最多追踪的元素数量 {@code m}，不能小于 2，越大误差越小但占用越多内存
+     * @throws IllegalArgumentException 当元素数量小于 2 时抛出此异常
+     * @throws IllegalStateException 当元素数量过大，散列表容量超出上限时抛出此异常
+     */
+    public HeavyHitters(final int maxCounters) {
+        super();
+        if (maxCounters < 2 || maxCounters == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Max counters must be in range [2, " + Integer.MAX_VALUE + "): [" + maxCounters + "]");
+        }
+        this.maxCounters = maxCounters;
+        // 新元素先插入再清理，因此散列表需要能容纳 m + 1 个元素
+        final int capacity = PrimitiveHashing.tableSizeFor(maxCounters + 1, PrimitiveHashing.DEFAULT_LOAD_FACTOR);
+        this.keys = new Object[capacity];
+        this.counts = new long[capacity];
+        this.spareKeys = new Object[capacity];
+        this.spareCounts = new long[capacity];
+        this.purgeCounts = new long[maxCounters + 1];
+        this.mask = capacity - 1;
+    }
+    // ----- 构造方法 ----- ending
+
+
+
+    // ----- Record ----- beginning
+    /**
+     * 记录元素出现一次。
+     *
+     * @param item 元素，不能为 {@code null}
+     * @throws NullPointerException 当元素为 {@code null} 时抛出此异常
+     */
+    public void offer(final T item) {
+        offer(item, 1L);
+    }
+
+    /**
+     * 记录元素出现指定的次数。
+     *
+     * @param item 元素，不能为 {@code null}
+     * @param count 出现次数，必须为正数
+     * @throws NullPointerException 当元素为 {@code null} 时抛出此异常
+     * @throws IllegalArgumentException 当出现次数不为正数时抛出此异常
+     */
+    public void offer(final T item, final long count) {
+        if (item == null) {
+            throw new NullPointerException("Item must not be null");
+        }
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be positive: [" + count + "]");
+        }
+        totalCount += count;
+        int index = PrimitiveHashing.mix(item.hashCode()) & mask;
+        Object candidate;
+        while ((candidate = keys[index]) != null) {
+            if (candidate == item || candidate.equals(item)) {
+                counts[index] += count;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = item;
+        counts[index] = count;
+        if (++size > maxCounters) {
+            purge();
+        }
+    }
+
+    /**
+     * <p>将另一个实例记录的元素合并到此实例中，另一个实例不会被修改。</p>
+     *
+     * <p>合并后的误差为两者的误差之和再加上合并过程中清理产生的误差，依然满足 {@code e ≤ 2n/m}，其中 {@code n} 为两者的总数之和，
+     * {@code m} 为两者相同的最大追踪数量。</p>
+     *
+     * @param other 另一个实例，不能为 {@code null}，最大追踪数量必须与此实例相同
+     * @return 当前实例
+     * @throws IllegalArgumentException 当两个实例的最大追踪数量不同时抛出此异常
+     */
+    public HeavyHitters<T> merge(final HeavyHitters<? extends T> other) {
+        if (other.maxCounters != maxCounters) {
+            throw new IllegalArgumentException("Cannot merge instances with different max counters: [" + maxCounters + ", " + other.maxCounters + "]");
+        }
+        // 先复制出另一个实例的状态，以允许合并自身
+        final Object[] otherKeys = other.keys.clone();
+        final long[] otherCounts = other.counts.clone();
+        final long otherTotal = other.totalCount;
+        final long otherOffset = other.offset;
+        for (int i = 0; i < otherKeys.length; i++) {
+            if (otherKeys[i] != null) {
+                @SuppressWarnings("unchecked")
+                final T item = (T) otherKeys[i];
+                offer(item, otherCounts[i]);
+            }
+        }
+        // offer 已经累加了被追踪元素的计数，这里补上另一个实例在清理中丢弃的部分
+        totalCount += otherTotal - sumOf(otherKeys, otherCounts);
+        offset += otherOffset;
+        return this;
+    }
+
+    /**
+     * 清除所有的记录。
+     */
+    public void reset() {
+        Arrays.fill(keys, null);
+        Arrays.fill(counts, 0L);
+        size = 0;
+        totalCount = 0;
+        offset = 0;
+    }
+    // ----- Record ----- ending
+
+
+
+    // ----- Query ----- beginning
+    /**
+     * 返回元素出现次数的估计值，即 {@link #upperBound(Object)}；未被追踪的元素返回 0。
+     *
+     * @param item 元素
+     * @return 出现次数的估计值
+     */
+    public long estimate(final Object item) {
+        final int index = indexOf(item);
+        return index < 0 ? 0L : counts[index] + offset;
+    }
+
+    /**
+     * 返回元素出现次数的下界，未被追踪的元素返回 0。
+     *
+     * @param item 元素
+     * @return 出现次数的下界
+     */
+    public long lowerBound(final Object item) {
+        final int index = indexOf(item);
+        return index < 0 ? 0L : counts[index];
+    }
+
+    /**
+     * 返回元素出现次数的上界。未被追踪的元素也可能出现过，但次数不会超过 {@link #getMaximumError()}。
+     *
+     * @param item 元素
+     * @return 出现次数的上界
+     */
+    public long upperBound(final Object item) {
+        return lowerBound(item) + offset;
+    }
+
+    /**
+     * 返回当前的最大误差 {@code e}，即任意元素出现次数的上界与下界之差，不超过 {@code 2n/m}。
+     *
+     * @return 最大误差，未发生清理时为 0
+     */
+    public long getMaximumError() {
+        return offset;
+    }
+
+    /**
+     * <p>返回估计出现次数最多的 {@code k} 个元素，按估计值降序排列。</p>
+     *
+     * <p>只有 {@link Item#getLowerBound()} 大于另一个元素的 {@link Item#getUpperBound()} 时，
+     * 才能确定前者的真实出现次数更多；出现次数超过 {@code 2n/m} 的元素一定在结果中（当 {@code k} 足够大时）。</p>
+     *
+     * @param k 返回的元素个数，大于追踪的元素数量时返回全部追踪的元素
+     * @return 出现次数最多的元素
+     * @throws IllegalArgumentException 当 {@code k} 为负数时抛出此异常
+     */
+    public List<Item<T>> topK(final int k) {
+        final List<Item<T>> items = new ArrayList<>(size);
+        forEach((item, count) -> items.add(new Item<>(item, count, count + offset)));
+        return ObjectAide.topK(k, Comparator.comparingLong(Item::getLowerBound), items);
+    }
+
+    /**
+     * <p>遍历所有被追踪的元素及其出现次数的下界，遍历顺序不确定。</p>
+     *
+     * <p>遍历过程中不会创建任何对象。遍历期间不应修改此实例。</p>
+     *
+     * @param consumer 元素和出现次数下界的消费者，不能为 {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(final ObjLongConsumer<? super T> consumer) {
+        final Object[] keys = this.keys;
+        final long[] counts = this.counts;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                consumer.accept((T) keys[i], counts[i]);
+            }
+        }
+    }
+
+    /**
+     * 返回已记录的总次数 {@code n}。
+     *
+     * @return 总次数
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * 返回当前被追踪的元素数量。
+     *
+     * @return 元素数量
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 返回最多追踪的元素数量 {@code m}。
+     *
+     * @return 最多追踪的元素数量
+     */
+    public int getMaxCounters() {
+        return maxCounters;
+    }
+    // ----- Query ----- ending
+
+
+
+    private int indexOf(final Object item) {
+        if (item == null) {
+            return -1;
+        }
+        int index = PrimitiveHashing.mix(item.hashCode()) & mask;
+        Object candidate;
+        while ((candidate = keys[index]) != null) {
+            if (candidate == item || candidate.equals(item)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * 所有计数减去它们的（较低）中位数，移除计数不再为正的元素，并将剩余的元素重新放入备用数组后交换。
+     * 至少有一半的元素的计数不大于中位数，因此每次清理至少移除一半的元素。
+     */
+    private void purge() {
+        final Object[] keys = this.keys;
+        final long[] counts = this.counts;
+        int n = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                purgeCounts[n++] = counts[i];
+            }
+        }
+        final long median = ArrayAide.median(purgeCounts, purgeCounts);
+        final Object[] survivorKeys = spareKeys;
+        final long[] survivorCounts = spareCounts;
+        int survivors = 0;
+        for (int i = 0; i < keys.length; i++) {
+            final Object key = keys[i];
+            if (key != null) {
+                final long count = counts[i] - median;
+                if (count > 0) {
+                    int index = PrimitiveHashing.mix(key.hashCode()) & mask;
+                    while (survivorKeys[index] != null) {
+                        index = (index + 1) & mask;
+                    }
+                    survivorKeys[index] = key;
+                    survivorCounts[index] = count;
+                    survivors++;
+                }
+                keys[i] = null;
+                counts[i] = 0L;
+            }
+        }
+        this.spareKeys = keys;
+        this.spareCounts = counts;
+        this.keys = survivorKeys;
+        this.counts = survivorCounts;
+        this.size = survivors;
+        this.offset += median;
+    }
+
+    private static long sumOf(final Object[] keys, final long[] counts) {
+        long sum = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                sum += counts[i];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * 以 {@code {item=lowerBound, ...}, error=e} 的格式返回字符串。
+     *
+     * @return 字符串表示
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder().append('{');
+        forEach((item, count) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(item).append('=').append(count);
+        });
+        return builder.append("}, error=").append(offset).toString();
+    }
+
+
+
+    // ----- Inner classes ----- beginning
+    /**
+     * <p>{@link HeavyHitters#topK(int)} 返回的元素及其出现次数的估计范围。</p>
+     *
+     * @param <T> 元素的类型
+     */
+    public static final class Item<T> {
+
+        private final T item;
+
+        private final long lowerBound;
+
+        private final long upperBound;
+
+        private Item(final T item, final long lowerBound, final long upperBound) {
+            super();
+            this.item = item;
+            this.lowerBound = lowerBound;
+            this.upperBound = upperBound;
+        }
+
+        /**
+         * 返回元素。
+         *
+         * @return 元素
+         */
+        public T getItem() {
+            return item;
+        }
+
+        /**
+         * 返回出现次数的估计值，即 {@link #getUpperBound()}。
+         *
+         * @return 出现次数的估计值
+         */
+        public long getEstimate() {
+            return upperBound;
+        }
+
+        /**
+         * 返回出现次数的下界。
+         *
+         * @return 出现次数的下界
+         */
+        public long getLowerBound() {
+            return lowerBound;
+        }
+
+        /**
+         * 返回出现次数的上界。
+         *
+         * @return 出现次数的上界
+         */
+        public long getUpperBound() {
+            return upperBound;
+        }
+
+        @Override
+        public String toString() {
+            return item + "=[" + lowerBound + ", " + upperBound + "]";
+        }
+    }
+    // ----- Inner classes ----- ending
+}
\ No newline at end of file
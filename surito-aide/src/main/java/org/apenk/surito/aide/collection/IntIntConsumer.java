@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.collection;
+
+/**
+ * <p>接受两个 int 参数且无返回值的操作，是 {@link java.util.function.BiConsumer} 的 int-int 基本类型特化，用于无装箱地遍历 {@link IntIntMap}。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+@FunctionalInterface
+public interface IntIntConsumer {
+
+    /**
+     * 对给定的参数执行此操作。
+     *
+     * @param key 键
+     * @param value 值
+     */
+    void accept(int key, int value);
+}
\ No newline at end of file
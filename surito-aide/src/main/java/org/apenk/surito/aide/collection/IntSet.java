@@ -0,0 +1,296 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.collection;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * <p>int 元素的集合，元素不会装箱。</p>
+ *
+ * <p>基于开放寻址（线性探测）实现，元素存放在一个基本类型数组中，
+ * 新增元素时不会创建节点对象，删除时使用后移（backward shift）方式，不会留下墓碑。</p>
+ *
+ * <p>数组中以 0 表示空槽，元素 0 单独记录，因此所有的 int 值都可以作为元素。</p>
+ *
+ * <p>注，该类非线程安全。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class IntSet {
+
+    private static final int FREE_KEY = 0;
+
+    private final float loadFactor;
+
+    private int[] keys;
+
+    private int mask;
+
+    private int resizeThreshold;
+
+    /**
+     * 非 0 元素的数量
+     */
+    private int size;
+
+    private boolean hasFreeKey;
+
+    // ----- 构造方法 ----- beginning
+    /**
+     * 使用默认的预期大小和负载因子创建一个 IntSet 实例。
+     */
+    public IntSet() {
+        this(PrimitiveHashing.DEFAULT_EXPECTED_SIZE, PrimitiveHashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * 使用指定的预期大小和默认负载因子创建一个 IntSet 实例。
+     *
+     * @param expectedSize 预期的元素数量，在此数量内不会发生扩容
+     * @throws IllegalArgumentException 当预期大小为负数时抛出此异常
+     */
+    public IntSet(final int expectedSize) {
+        this(expectedSize, PrimitiveHashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * 使用指定的预期大小和负载因子创建一个 IntSet 实例。
+     *
+     * @param expectedSize 预期的元素数量，在此数量内不会发生扩容
+     * @param loadFactor 负载因子，取值范围为 (0, 1)，越小探测越短但占用越多内存
+     * @throws IllegalArgumentException 当预期大小为负数或负载因子不在 (0, 1) 范围内时抛出此异常
+     */
+    public IntSet(final int expectedSize, final float loadFactor) {
+        PrimitiveHashing.checkExpectedSize(expectedSize);
+        PrimitiveHashing.checkLoadFactor(loadFactor);
+        this.loadFactor = loadFactor;
+        allocate(PrimitiveHashing.tableSizeFor(expectedSize, loadFactor));
+    }
+    // ----- 构造方法 ----- ending
+
+
+
+    // ----- Query ----- beginning
+    /**
+     * 检查是否包含指定的元素。
+     *
+     * @param key 元素
+     * @return 包含时返回 {@code true}，否则返回 {@code false}
+     */
+    public boolean contains(final int key) {
+        if (key == FREE_KEY) {
+            return hasFreeKey;
+        }
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * 返回元素的数量。
+     *
+     * @return 元素的数量
+     */
+    public int size() {
+        return hasFreeKey ? size + 1 : size;
+    }
+
+    /**
+     * 检查是否没有任何元素。
+     *
+     * @return 没有任何元素时返回 {@code true}
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+    // ----- Query ----- ending
+
+
+
+    // ----- Modification ----- beginning
+    /**
+     * 添加指定的元素。
+     *
+     * @param key 元素
+     * @return 元素之前不存在时返回 {@code true}，已存在时返回 {@code false}
+     */
+    public boolean add(final int key) {
+        if (key == FREE_KEY) {
+            final boolean added = !hasFreeKey;
+            hasFreeKey = true;
+            return added;
+        }
+        int index = PrimitiveHashing.mix(key) & mask;
+        int candidate;
+        while ((candidate = keys[index]) != FREE_KEY) {
+            if (candidate == key) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * 移除指定的元素。
+     *
+     * @param key 元素
+     * @return 元素之前存在时返回 {@code true}，否则返回 {@code false}
+     */
+    public boolean remove(final int key) {
+        if (key == FREE_KEY) {
+            final boolean removed = hasFreeKey;
+            hasFreeKey = false;
+            return removed;
+        }
+        final int index = indexOf(key);
+        if (index < 0) {
+            return false;
+        }
+        shiftKeys(index);
+        size--;
+        return true;
+    }
+
+    /**
+     * 清除所有的元素，保留已分配的容量。
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE_KEY);
+        size = 0;
+        hasFreeKey = false;
+    }
+    // ----- Modification ----- ending
+
+
+
+    // ----- Traversal ----- beginning
+    /**
+     * <p>遍历所有的元素，遍历顺序不确定。</p>
+     *
+     * <p>遍历过程中不会创建任何对象。遍历期间不应修改此实例。</p>
+     *
+     * @param consumer 元素的消费者，不能为 {@code null}
+     */
+    public void forEach(final IntConsumer consumer) {
+        if (hasFreeKey) {
+            consumer.accept(FREE_KEY);
+        }
+        final int[] keys = this.keys;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE_KEY) {
+                consumer.accept(keys[i]);
+            }
+        }
+    }
+
+    /**
+     * 将所有的元素复制到一个新的数组中返回，顺序不确定。
+     *
+     * @return 包含所有元素的数组
+     */
+    public int[] toArray() {
+        final int[] result = new int[size()];
+        int position = 0;
+        if (hasFreeKey) {
+            result[position++] = FREE_KEY;
+        }
+        for (final int key : keys) {
+            if (key != FREE_KEY) {
+                result[position++] = key;
+            }
+        }
+        return result;
+    }
+    // ----- Traversal ----- ending
+
+
+
+    private int indexOf(final int key) {
+        int index = PrimitiveHashing.mix(key) & mask;
+        int candidate;
+        while ((candidate = keys[index]) != FREE_KEY) {
+            if (candidate == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * 删除指定位置的元素，并将其后同一探测链上的元素前移，以保证线性探测的查找不会被空槽打断。
+     *
+     * @param gap 被删除元素的位置
+     */
+    private void shiftKeys(int gap) {
+        int index = (gap + 1) & mask;
+        int key;
+        while ((key = keys[index]) != FREE_KEY) {
+            final int ideal = PrimitiveHashing.mix(key) & mask;
+            if (((index - ideal) & mask) >= ((index - gap) & mask)) {
+                keys[gap] = key;
+                gap = index;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[gap] = FREE_KEY;
+    }
+
+    private void allocate(final int capacity) {
+        keys = new int[capacity];
+        mask = capacity - 1;
+        resizeThreshold = PrimitiveHashing.resizeThreshold(capacity, loadFactor);
+    }
+
+    private void rehash(final int newCapacity) {
+        if (newCapacity > PrimitiveHashing.MAX_CAPACITY || newCapacity <= 0) {
+            throw new IllegalStateException("IntSet capacity exceeds the maximum of " + PrimitiveHashing.MAX_CAPACITY);
+        }
+        final int[] oldKeys = keys;
+        allocate(newCapacity);
+        for (final int key : oldKeys) {
+            if (key != FREE_KEY) {
+                int index = PrimitiveHashing.mix(key) & mask;
+                while (keys[index] != FREE_KEY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+            }
+        }
+    }
+
+    /**
+     * 以 {@code [element, ...]} 的格式返回字符串。
+     *
+     * @return 字符串表示
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder().append('[');
+        forEach(key -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(key);
+        });
+        return builder.append(']').toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,356 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.collection;
+
+import java.util.Arrays;
+
+/**
+ * <p>long 键到 long 值的映射，键和值都不会装箱。</p>
+ *
+ * <p>基于开放寻址（线性探测）实现，键和值分别存放在两个平行的基本类型数组中，
+ * 新增映射时不会创建 Entry 节点，删除时使用后移（backward shift）方式，不会留下墓碑。</p>
+ *
+ * <p>数组中以 0 表示空槽，键 0 的映射单独保存，因此所有的 long 值都可以作为键。</p>
+ *
+ * <p>不存在的键以 0 作为值返回，需要区分时请使用 {@link #containsKey(long)} 或 {@link #getOrDefault(long, long)}。</p>
+ *
+ * <p>注，该类非线程安全。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class LongLongMap {
+
+    private static final long FREE_KEY = 0L;
+
+    private final float loadFactor;
+
+    private long[] keys;
+
+    private long[] values;
+
+    private int mask;
+
+    private int resizeThreshold;
+
+    /**
+     * 非 0 键的数量
+     */
+    private int size;
+
+    private boolean hasFreeKey;
+
+    private long freeKeyValue;
+
+    // ----- 构造方法 ----- beginning
+    /**
+     * 使用默认的预期大小和负载因子创建一个 LongLongMap 实例。
+     */
+    public LongLongMap() {
+        this(PrimitiveHashing.DEFAULT_EXPECTED_SIZE, PrimitiveHashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * 使用指定的预期大小和默认负载因子创建一个 LongLongMap 实例。
+     *
+     * @param expectedSize 预期的映射数量，在此数量内不会发生扩容
+     * @throws IllegalArgumentException 当预期大小为负数时抛出此异常
+     */
+    public LongLongMap(final int expectedSize) {
+        this(expectedSize, PrimitiveHashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * 使用指定的预期大小和负载因子创建一个 LongLongMap 实例。
+     *
+     * @param expectedSize 预期的映射数量，在此数量内不会发生扩容
+     * @param loadFactor 负载因子，取值范围为 (0, 1)，越小探测越短但占用越多内存
+     * @throws IllegalArgumentException 当预期大小为负数或负载因子不在 (0, 1) 范围内时抛出此异常
+     */
+    public LongLongMap(final int expectedSize, final float loadFactor) {
+        PrimitiveHashing.checkExpectedSize(expectedSize);
+        PrimitiveHashing.checkLoadFactor(loadFactor);
+        this.loadFactor = loadFactor;
+        allocate(PrimitiveHashing.tableSizeFor(expectedSize, loadFactor));
+    }
+    // ----- 构造方法 ----- ending
+
+
+
+    // ----- Query ----- beginning
+    /**
+     * 获取指定键映射的值。
+     *
+     * @param key 键
+     * @return 键映射的值，键不存在时返回 0
+     */
+    public long get(final long key) {
+        return getOrDefault(key, 0);
+    }
+
+    /**
+     * 获取指定键映射的值，键不存在时返回指定的默认值。
+     *
+     * @param key 键
+     * @param defaultValue 键不存在时返回的默认值
+     * @return 键映射的值或默认值
+     */
+    public long getOrDefault(final long key, final long defaultValue) {
+        if (key == FREE_KEY) {
+            return hasFreeKey ? freeKeyValue : defaultValue;
+        }
+        final int index = indexOf(key);
+        return index < 0 ? defaultValue : values[index];
+    }
+
+    /**
+     * 检查是否包含指定的键。
+     *
+     * @param key 键
+     * @return 包含时返回 {@code true}，否则返回 {@code false}
+     */
+    public boolean containsKey(final long key) {
+        if (key == FREE_KEY) {
+            return hasFreeKey;
+        }
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * 返回映射的数量。
+     *
+     * @return 映射的数量
+     */
+    public int size() {
+        return hasFreeKey ? size + 1 : size;
+    }
+
+    /**
+     * 检查是否没有任何映射。
+     *
+     * @return 没有任何映射时返回 {@code true}
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+    // ----- Query ----- ending
+
+
+
+    // ----- Modification ----- beginning
+    /**
+     * 设置指定键映射的值。
+     *
+     * @param key 键
+     * @param value 值
+     * @return 之前映射的值，之前不存在时返回 0
+     */
+    public long put(final long key, final long value) {
+        if (key == FREE_KEY) {
+            final long previous = hasFreeKey ? freeKeyValue : 0;
+            hasFreeKey = true;
+            freeKeyValue = value;
+            return previous;
+        }
+        int index = PrimitiveHashing.mix(key) & mask;
+        long candidate;
+        while ((candidate = keys[index]) != FREE_KEY) {
+            if (candidate == key) {
+                final long previous = values[index];
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+        insertAt(index, key, value);
+        return 0;
+    }
+
+    /**
+     * 将指定键映射的值加上给定的增量，键不存在时以 0 作为初始值。
+     *
+     * @param key 键
+     * @param delta 增量
+     * @return 累加之后的值
+     */
+    public long addTo(final long key, final long delta) {
+        if (key == FREE_KEY) {
+            if (!hasFreeKey) {
+                hasFreeKey = true;
+                freeKeyValue = 0;
+            }
+            freeKeyValue += delta;
+            return freeKeyValue;
+        }
+        int index = PrimitiveHashing.mix(key) & mask;
+        long candidate;
+        while ((candidate = keys[index]) != FREE_KEY) {
+            if (candidate == key) {
+                values[index] += delta;
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        insertAt(index, key, delta);
+        return delta;
+    }
+
+    /**
+     * 移除指定键的映射。
+     *
+     * @param key 键
+     * @return 之前映射的值，之前不存在时返回 0
+     */
+    public long remove(final long key) {
+        if (key == FREE_KEY) {
+            final long previous = hasFreeKey ? freeKeyValue : 0;
+            hasFreeKey = false;
+            freeKeyValue = 0;
+            return previous;
+        }
+        final int index = indexOf(key);
+        if (index < 0) {
+            return 0;
+        }
+        final long previous = values[index];
+        shiftKeys(index);
+        size--;
+        return previous;
+    }
+
+    /**
+     * 清除所有的映射，保留已分配的容量。
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE_KEY);
+        Arrays.fill(values, 0);
+        size = 0;
+        hasFreeKey = false;
+        freeKeyValue = 0;
+    }
+    // ----- Modification ----- ending
+
+
+
+    // ----- Traversal ----- beginning
+    /**
+     * <p>遍历所有的映射，遍历顺序不确定。</p>
+     *
+     * <p>遍历过程中不会创建任何对象。遍历期间不应修改此实例。</p>
+     *
+     * @param consumer 键和值的消费者，不能为 {@code null}
+     */
+    public void forEach(final LongLongConsumer consumer) {
+        if (hasFreeKey) {
+            consumer.accept(FREE_KEY, freeKeyValue);
+        }
+        final long[] keys = this.keys;
+        final long[] values = this.values;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE_KEY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+    // ----- Traversal ----- ending
+
+
+
+    private int indexOf(final long key) {
+        int index = PrimitiveHashing.mix(key) & mask;
+        long candidate;
+        while ((candidate = keys[index]) != FREE_KEY) {
+            if (candidate == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insertAt(final int index, final long key, final long value) {
+        keys[index] = key;
+        values[index] = value;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * 删除指定位置的映射，并将其后同一探测链上的映射前移，以保证线性探测的查找不会被空槽打断。
+     *
+     * @param gap 被删除映射的位置
+     */
+    private void shiftKeys(int gap) {
+        int index = (gap + 1) & mask;
+        long key;
+        while ((key = keys[index]) != FREE_KEY) {
+            final int ideal = PrimitiveHashing.mix(key) & mask;
+            if (((index - ideal) & mask) >= ((index - gap) & mask)) {
+                keys[gap] = key;
+                values[gap] = values[index];
+                gap = index;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[gap] = FREE_KEY;
+        values[gap] = 0;
+    }
+
+    private void allocate(final int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        resizeThreshold = PrimitiveHashing.resizeThreshold(capacity, loadFactor);
+    }
+
+    private void rehash(final int newCapacity) {
+        if (newCapacity > PrimitiveHashing.MAX_CAPACITY || newCapacity <= 0) {
+            throw new IllegalStateException("LongLongMap capacity exceeds the maximum of " + PrimitiveHashing.MAX_CAPACITY);
+        }
+        final long[] oldKeys = keys;
+        final long[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            final long key = oldKeys[i];
+            if (key != FREE_KEY) {
+                int index = PrimitiveHashing.mix(key) & mask;
+                while (keys[index] != FREE_KEY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * 以 {@code {key=value, ...}} 的格式返回字符串。
+     *
+     * @return 字符串表示
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder().append('{');
+        forEach((key, value) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(key).append('=').append(value);
+        });
+        return builder.append('}').toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,277 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.collection;
+
+import java.util.Arrays;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * <p>对象到 int 计数的映射，用于替代 {@code HashMap<T, MutableInt>} 形式的计数表。</p>
+ *
+ * <p>基于开放寻址（线性探测）实现，键和计数分别存放在两个平行数组中，
+ * 新增键时不会创建 Entry 节点或计数包装对象，累加计数也不会发生装箱。</p>
+ *
+ * <p>支持 {@code null} 键，其计数单独保存。</p>
+ *
+ * <p>注，该类非线程安全。</p>
+ *
+ * @param <T> 键的类型
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class ObjectIntCounter<T> {
+
+    private final float loadFactor;
+
+    /**
+     * 键数组，{@code null} 表示空槽
+     */
+    private Object[] keys;
+
+    /**
+     * 与键数组平行的计数数组
+     */
+    private int[] counts;
+
+    private int mask;
+
+    private int resizeThreshold;
+
+    /**
+     * 非 {@code null} 键的数量
+     */
+    private int size;
+
+    private boolean hasNullKey;
+
+    private int nullKeyCount;
+
+    // ----- 构造方法 ----- beginning
+    /**
+     * 使用默认的预期大小和负载因子创建一个 ObjectIntCounter 实例。
+     */
+    public ObjectIntCounter() {
+        this(PrimitiveHashing.DEFAULT_EXPECTED_SIZE, PrimitiveHashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * 使用指定的预期大小和默认负载因子创建一个 ObjectIntCounter 实例。
+     *
+     * @param expectedSize 预期的不同键的数量，在此数量内不会发生扩容
+     * @throws IllegalArgumentException 当预期大小为负数时抛出此异常
+     */
+    public ObjectIntCounter(final int expectedSize) {
+        this(expectedSize, PrimitiveHashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * 使用指定的预期大小和负载因子创建一个 ObjectIntCounter 实例。
+     *
+     * @param expectedSize 预期的不同键的数量，在此数量内不会发生扩容
+     * @param loadFactor 负载因子，取值范围为 (0, 1)
+     * @throws IllegalArgumentException 当预期大小为负数或负载因子不在 (0, 1) 范围内时抛出此异常
+     */
+    public ObjectIntCounter(final int expectedSize, final float loadFactor) {
+        PrimitiveHashing.checkExpectedSize(expectedSize);
+        PrimitiveHashing.checkLoadFactor(loadFactor);
+        this.loadFactor = loadFactor;
+        allocate(PrimitiveHashing.tableSizeFor(expectedSize, loadFactor));
+    }
+    // ----- 构造方法 ----- ending
+
+
+
+    // ----- Count ----- beginning
+    /**
+     * 将指定键的计数加 1。
+     *
+     * @param key 键，可以为 {@code null}
+     * @return 累加之后的计数
+     */
+    public int increment(final T key) {
+        return addTo(key, 1);
+    }
+
+    /**
+     * 将指定键的计数加上给定的增量，键不存在时以 0 作为初始计数。
+     *
+     * @param key 键，可以为 {@code null}
+     * @param delta 增量
+     * @return 累加之后的计数
+     */
+    public int addTo(final T key, final int delta) {
+        if (key == null) {
+            hasNullKey = true;
+            nullKeyCount += delta;
+            return nullKeyCount;
+        }
+        int index = PrimitiveHashing.mix(key.hashCode()) & mask;
+        Object candidate;
+        while ((candidate = keys[index]) != null) {
+            if (candidate == key || candidate.equals(key)) {
+                counts[index] += delta;
+                return counts[index];
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        counts[index] = delta;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return delta;
+    }
+
+    /**
+     * 获取指定键的计数。
+     *
+     * @param key 键，可以为 {@code null}
+     * @return 键的计数，键不存在时返回 0
+     */
+    public int get(final Object key) {
+        if (key == null) {
+            return nullKeyCount;
+        }
+        final int index = indexOf(key);
+        return index < 0 ? 0 : counts[index];
+    }
+
+    /**
+     * 检查是否包含指定的键。
+     *
+     * @param key 键，可以为 {@code null}
+     * @return 包含时返回 {@code true}，否则返回 {@code false}
+     */
+    public boolean containsKey(final Object key) {
+        if (key == null) {
+            return hasNullKey;
+        }
+        return indexOf(key) >= 0;
+    }
+    // ----- Count ----- ending
+
+
+
+    // ----- Traversal ----- beginning
+    /**
+     * <p>遍历所有的键及其计数，遍历顺序不确定。</p>
+     *
+     * <p>遍历过程中不会创建任何对象，计数以 int 基本类型传递给消费者。遍历期间不应修改此实例。</p>
+     *
+     * @param consumer 键和计数的消费者，不能为 {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(final ObjIntConsumer<? super T> consumer) {
+        if (hasNullKey) {
+            consumer.accept(null, nullKeyCount);
+        }
+        final Object[] keys = this.keys;
+        final int[] counts = this.counts;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                consumer.accept((T) keys[i], counts[i]);
+            }
+        }
+    }
+
+    /**
+     * 返回不同键的数量。
+     *
+     * @return 键的数量
+     */
+    public int size() {
+        return hasNullKey ? size + 1 : size;
+    }
+
+    /**
+     * 检查是否没有任何键。
+     *
+     * @return 没有任何键时返回 {@code true}
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * 清除所有的键和计数，保留已分配的容量。
+     */
+    public void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(counts, 0);
+        size = 0;
+        hasNullKey = false;
+        nullKeyCount = 0;
+    }
+    // ----- Traversal ----- ending
+
+
+
+    private int indexOf(final Object key) {
+        int index = PrimitiveHashing.mix(key.hashCode()) & mask;
+        Object candidate;
+        while ((candidate = keys[index]) != null) {
+            if (candidate == key || candidate.equals(key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void allocate(final int capacity) {
+        keys = new Object[capacity];
+        counts = new int[capacity];
+        mask = capacity - 1;
+        resizeThreshold = PrimitiveHashing.resizeThreshold(capacity, loadFactor);
+    }
+
+    private void rehash(final int newCapacity) {
+        if (newCapacity > PrimitiveHashing.MAX_CAPACITY || newCapacity <= 0) {
+            throw new IllegalStateException("ObjectIntCounter capacity exceeds the maximum of " + PrimitiveHashing.MAX_CAPACITY);
+        }
+        final Object[] oldKeys = keys;
+        final int[] oldCounts = counts;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            final Object key = oldKeys[i];
+            if (key != null) {
+                int index = PrimitiveHashing.mix(key.hashCode()) & mask;
+                while (keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                counts[index] = oldCounts[i];
+            }
+        }
+    }
+
+    /**
+     * 以 {@code {key=count, ...}} 的格式返回字符串。
+     *
+     * @return 字符串表示
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder().append('{');
+        forEach((key, count) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(key).append('=').append(count);
+        });
+        return builder.append('}').toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.collection;
+
+/**
+ * <p>开放寻址散列表共用的散列与容量计算方法。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+final class PrimitiveHashing {
+
+    /**
+     * 默认的负载因子
+     */
+    static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    /**
+     * 默认的预期元素数量
+     */
+    static final int DEFAULT_EXPECTED_SIZE = 16;
+
+    /**
+     * 表容量的上限（2 的幂）
+     */
+    static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * 黄金分割比例常量，用于乘法散列
+     */
+    private static final int INT_PHI = 0x9E3779B9;
+
+    private static final long LONG_PHI = 0x9E3779B97F4A7C15L;
+
+    private PrimitiveHashing() {
+        super();
+    }
+
+    /**
+     * 对 int 散列值进行扰动，使其低位也能充分反映高位的变化。
+     *
+     * @param hash 原始散列值
+     * @return 扰动后的散列值
+     */
+    static int mix(final int hash) {
+        final int h = hash * INT_PHI;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * 对 long 键进行扰动并折叠为 int 散列值。
+     *
+     * @param key long 键
+     * @return 扰动后的散列值
+     */
+    static int mix(final long key) {
+        long h = key * LONG_PHI;
+        h ^= (h >>> 32);
+        return (int) (h ^ (h >>> 16));
+    }
+
+    /**
+     * 计算能够容纳指定数量元素的表容量，结果为 2 的幂。
+     *
+     * @param expectedSize 预期元素数量
+     * @param loadFactor 负载因子
+     * @return 表容量
+     * @throws IllegalStateException 当所需容量超出上限时抛出此异常
+     */
+    static int tableSizeFor(final int expectedSize, final float loadFactor) {
+        final long required = Math.max(2L, (long) Math.ceil(expectedSize / (double) loadFactor));
+        if (required > MAX_CAPACITY) {
+            throw new IllegalStateException("Table capacity exceeds the maximum of " + MAX_CAPACITY + ": [expected size=" + expectedSize + ", load factor=" + loadFactor + "]");
+        }
+        return Integer.highestOneBit((int) required - 1) << 1;
+    }
+
+    /**
+     * 计算指定容量下的扩容阈值。
+     *
+     * @param capacity 表容量
+     * @param loadFactor 负载因子
+     * @return 扩容阈值，至少比容量小 1，以保证表中始终存在空槽
+     */
+    static int resizeThreshold(final int capacity, final float loadFactor) {
+        return Math.min(capacity - 1, (int) (capacity * loadFactor));
+    }
+
+    /**
+     * 校验负载因子的取值范围。
+     *
+     * @param loadFactor 负载因子
+     * @throws IllegalArgumentException 当负载因子不在 (0, 1) 范围内时抛出此异常
+     */
+    static void checkLoadFactor(final float loadFactor) {
+        if (!(loadFactor > 0f && loadFactor < 1f)) {
+            throw new IllegalArgumentException("Load factor must be between 0 and 1 (exclusive): [" + loadFactor + "]");
+        }
+    }
+
+    /**
+     * 校验预期元素数量。
+     *
+     * @param expectedSize 预期元素数量
+     * @throws IllegalArgumentException 当预期元素数量为负数时抛出此异常
+     */
+    static void checkExpectedSize(final int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative: [" + expectedSize + "]");
+        }
+    }
+}
\ No newline at end of file
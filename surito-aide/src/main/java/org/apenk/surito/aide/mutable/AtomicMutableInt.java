@@ -0,0 +1,1130 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * <p>线程安全的可变 int 类型包装，提供与 {@link MutableInt} 相同的 API。</p>
+ *
+ * <p>所有的读写操作都基于 volatile 字段，所有的复合运算（如 {@link #incrementAndGet()}、{@link #getAndMultiply(int)}）
+ * 都通过 {@link AtomicIntegerFieldUpdater} 的 CAS 操作原子地完成，因此可以在多个线程间共享同一个实例而无需额外加锁。
+ * 相比于 {@link java.util.concurrent.atomic.AtomicInteger}，每个实例只有一个 int 字段，不会额外包装对象。</p>
+ *
+ * <p>注 1，AtomicMutableInt 并没有继承和扩展 {@link Integer} 类型，因此 {@link String#format(String, Object...) 不会将其视为 {@link Integer} 参数}。</p>
+ *
+ * <p>注 2，乘法和除法等没有对应硬件指令的运算使用 CAS 自旋实现，在高度竞争的场景下可能会多次重试。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class AtomicMutableInt extends MutableNumber<Number> implements IntMutable {
+    private static final long serialVersionUID = 3306457262114587451L;
+
+    private static final AtomicIntegerFieldUpdater<AtomicMutableInt> UPDATER = AtomicIntegerFieldUpdater.newUpdater(AtomicMutableInt.class, "value");
+
+    private static final IntBinaryOperator MULTIPLY = (left, right) -> left * right;
+
+    private static final IntBinaryOperator DIVIDE = (left, right) -> left / right;
+
+    /**
+     * 可变的值
+     */
+    private volatile int value;
+
+    // ----- 构造方法 ----- beginning
+    /**
+     * 使用默认值 0 创建一个 AtomicMutableInt 实例。
+     */
+    public AtomicMutableInt() {
+        super();
+    }
+
+    /**
+     * 使用指定值创建一个 AtomicMutableInt 实例。
+     *
+     * @param value 初始值
+     */
+    public AtomicMutableInt(final int value) {
+        super();
+        this.value = value;
+    }
+
+    /**
+     * 使用 {@link Number} 类型的指定值创建一个 AtomicMutableInt 实例。
+     *
+     * @param value 初始值，不能为 {@code null}
+     * @throws NullPointerException 如果指定的值为 {@code null} 将抛出此异常
+     */
+    public AtomicMutableInt(final Number value) {
+        super();
+        this.value = value.intValue();
+    }
+
+    /**
+     * 使用 {@link Number} 类型的指定值创建一个 AtomicMutableInt 实例，若指定值为 {@code null}，则使用第二个参数作为值。
+     *
+     * @param value 初始值，若为 {@code null} 则使用第二个参数作为默认值
+     * @param defaultValue 当第一个参数为 {@code null} 时的默认值
+     */
+    public AtomicMutableInt(final Number value, final int defaultValue) {
+        super();
+        this.value = value != null ? value.intValue() : defaultValue;
+    }
+
+    /**
+     * 通过指定的字符串解析为初始值创建一个 AtomicMutableInt 实例。
+     *
+     * @param value 要解析的字符串，不能为 {@code null}
+     * @throws NumberFormatException 如果指定的字符串无法解析为 int 值时抛出此异常
+     */
+    public AtomicMutableInt(final String value) {
+        super();
+        this.value = Integer.parseInt(value);
+    }
+
+    /**
+     * 通过指定的字符串解析为初始值创建一个 AtomicMutableInt 实例，若字符串无法解析为 int 值，则使用第二个参数作为值。
+     *
+     * @param value 要解析的字符串，若无法解析为 int 值时则使用第二个参数作为默认值
+     * @param defaultValue 当指定字符串无法解析为 int 值时的默认值
+     */
+    public AtomicMutableInt(final String value, final int defaultValue) {
+        super();
+        try {
+            this.value = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            this.value = defaultValue;
+        }
+    }
+    // ----- 构造方法 ----- ending
+
+
+
+    // ----- Set/Get ----- beginning
+    /**
+     * 使用一个 {@link Number} 实例设置值。
+     *
+     * @param value 要设置的值，不能为 {@code null}
+     * @throws NullPointerException 当指定的值为 {@code null} 时抛出此异常
+     */
+    @Override
+    public void setValue(final Number value) {
+        this.value = value.intValue();
+    }
+
+    /**
+     * 使用一个 {@link Number} 实例设置值，若为 {@code null}，则使用第二个参数作为默认值。
+     *
+     * @param value 要设置的值，若为 {@code null} 则使用第二个参数作为默认值
+     * @param defaultValue 当指定值为 {@code null} 时的默认值
+     */
+    public void setValue(final Number value, final int defaultValue) {
+        this.value = value != null ? value.intValue() : defaultValue;
+    }
+
+    /**
+     * 设置值
+     *
+     * @param value 要设置的值
+     */
+    public void setValue(final int value) {
+        this.value = value;
+    }
+
+    /**
+     * 以 int 类型返回值，与 {@link #intValue()} 相同。
+     *
+     * @return int 类型的值
+     */
+    @Override
+    public int getAsInt() {
+        return intValue();
+    }
+
+    /**
+     * 设置值，与 {@link #setValue(int)} 相同。
+     *
+     * @param value 要设置的值
+     */
+    @Override
+    public void set(final int value) {
+        setValue(value);
+    }
+
+    /**
+     * 以 {@link Integer} 实例的形式获取值。
+     *
+     * @return 值得 {@link Integer} 实例，不会为 {@code null}
+     */
+    @Override
+    public Integer getValue() {
+        return Integer.valueOf(this.value);
+    }
+
+    /**
+     * 以 int 类型返回该 AtomicMutableInt 实例的值
+     *
+     * @return int 类型的值
+     */
+    @Override
+    public int intValue() {
+        return value;
+    }
+
+    /**
+     * 以 long 类型返回该 AtomicMutableInt 实例的值
+     *
+     * @return long 类型的值
+     */
+    @Override
+    public long longValue() {
+        return value;
+    }
+
+    /**
+     * 以 float 类型返回该 AtomicMutableInt 实例的值
+     *
+     * @return float 类型的值
+     */
+    @Override
+    public float floatValue() {
+        return value;
+    }
+
+    /**
+     * 以 double 类型返回该 AtomicMutableInt 实例的值
+     *
+     * @return double 类型的值
+     */
+    @Override
+    public double doubleValue() {
+        return value;
+    }
+    // ----- Set/Get ----- ending
+
+
+
+    // ----- Atomic ----- beginning
+    /**
+     * 以 volatile 语义读取实例值，等同于 {@link #intValue()}。
+     *
+     * @return 当前的实例值
+     */
+    public int get() {
+        return value;
+    }
+
+    /**
+     * 以延迟写（release 语义）设置值。写入对其它线程最终可见，但不保证立即可见，开销低于 volatile 写。
+     *
+     * @param value 要设置的值
+     */
+    public void lazySet(final int value) {
+        UPDATER.lazySet(this, value);
+    }
+
+    /**
+     * 设置新值并返回旧值。
+     *
+     * @param value 要设置的值
+     * @return 设置之前的实例值
+     */
+    public int getAndSet(final int value) {
+        return UPDATER.getAndSet(this, value);
+    }
+
+    /**
+     * 如果当前值等于期望值，则原子地将其设置为新值。
+     *
+     * @param expect 期望值
+     * @param update 新值
+     * @return 设置成功时返回 {@code true}；当前值不等于期望值时返回 {@code false}
+     */
+    public boolean compareAndSet(final int expect, final int update) {
+        return UPDATER.compareAndSet(this, expect, update);
+    }
+
+    /**
+     * 如果当前值等于期望值，则原子地将其设置为新值。可能会虚假失败，且不提供顺序保证，通常用于自旋重试的场景。
+     *
+     * @param expect 期望值
+     * @param update 新值
+     * @return 设置成功时返回 {@code true}，否则返回 {@code false}
+     */
+    public boolean weakCompareAndSet(final int expect, final int update) {
+        return UPDATER.weakCompareAndSet(this, expect, update);
+    }
+
+    /**
+     * 使用指定函数原子地更新实例值并返回更新后的值。函数可能因竞争而被多次调用，因此应当无副作用。
+     *
+     * @param updateFunction 更新函数，不能为 {@code null}
+     * @return 更新之后的实例值
+     */
+    @Override
+    public int updateAndGet(final IntUnaryOperator updateFunction) {
+        return UPDATER.updateAndGet(this, updateFunction);
+    }
+
+    /**
+     * 使用指定函数原子地更新实例值并返回更新前的值。函数可能因竞争而被多次调用，因此应当无副作用。
+     *
+     * @param updateFunction 更新函数，不能为 {@code null}
+     * @return 更新之前的实例值
+     */
+    @Override
+    public int getAndUpdate(final IntUnaryOperator updateFunction) {
+        return UPDATER.getAndUpdate(this, updateFunction);
+    }
+
+    /**
+     * 使用指定函数将实例值与给定值原子地合并，并返回合并后的值。函数可能因竞争而被多次调用，因此应当无副作用。
+     *
+     * @param x 给定值，作为函数的第二个参数
+     * @param accumulatorFunction 合并函数，第一个参数为当前实例值，不能为 {@code null}
+     * @return 合并之后的实例值
+     */
+    @Override
+    public int accumulateAndGet(final int x, final IntBinaryOperator accumulatorFunction) {
+        return UPDATER.accumulateAndGet(this, x, accumulatorFunction);
+    }
+
+    /**
+     * 使用指定函数将实例值与给定值原子地合并，并返回合并前的值。函数可能因竞争而被多次调用，因此应当无副作用。
+     *
+     * @param x 给定值，作为函数的第二个参数
+     * @param accumulatorFunction 合并函数，第一个参数为当前实例值，不能为 {@code null}
+     * @return 合并之前的实例值
+     */
+    @Override
+    public int getAndAccumulate(final int x, final IntBinaryOperator accumulatorFunction) {
+        return UPDATER.getAndAccumulate(this, x, accumulatorFunction);
+    }
+    // ----- Atomic ----- ending
+
+
+
+    // ----- Increment/Decrement ----- beginning
+    /**
+     * 实例值递增 1
+     */
+    public void increment() {
+        UPDATER.incrementAndGet(this);
+    }
+
+    /**
+     * 对实例值递增 1 并返回。
+     *
+     * @return 递增之后的实例值
+     */
+    public int incrementAndGet() {
+        return UPDATER.incrementAndGet(this);
+    }
+
+    /**
+     * 返回当前实例值，并对实例值递增 1。
+     *
+     * @return 递增之前的实例值
+     */
+    public int getAndIncrement() {
+        return UPDATER.getAndIncrement(this);
+    }
+
+    /**
+     * 实例值递减 1
+     */
+    public void decrement() {
+        UPDATER.decrementAndGet(this);
+    }
+
+    /**
+     * 对实例值递减 1 并返回。
+     *
+     * @return 递减之后的实例值
+     */
+    public int decrementAndGet() {
+        return UPDATER.decrementAndGet(this);
+    }
+
+    /**
+     * 返回当前实例值，并对实例值递减 1。
+     *
+     * @return 递减之前的实例值
+     */
+    public int getAndDecrement() {
+        return UPDATER.getAndDecrement(this);
+    }
+    // ----- Increment/Decrement ----- ending
+
+
+
+    // ----- Add ----- beginning
+    /**
+     * 加法：使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数
+     * @return 当前实例
+     */
+    public AtomicMutableInt add(final int operand) {
+        UPDATER.addAndGet(this, operand);
+        return this;
+    }
+
+    /**
+     * 加法：使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数，不能为 {@code null}
+     * @return 当前实例
+     * @throws NullPointerException 当加数为 {@code null} 时抛出此异常
+     */
+    public AtomicMutableInt add(final Number operand) {
+        UPDATER.addAndGet(this, operand.intValue());
+        return this;
+    }
+
+    /**
+     * 加法：使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数，若为 {@code null} 则使用第二个参数作为加数
+     * @param defaultOperand 当加数为 {@code null} 时，使用该值作为加数
+     * @return 当前实例
+     */
+    public AtomicMutableInt add(final Number operand, final int defaultOperand) {
+        UPDATER.addAndGet(this, operand != null ? operand.intValue() : defaultOperand);
+        return this;
+    }
+
+    /**
+     * 加法：使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数，不能为 {@code null}
+     * @return 当前实例
+     * @throws NullPointerException 当加数为 {@code null} 时抛出此异常
+     */
+    public AtomicMutableInt add(final MutableNumber<?> operand) {
+        UPDATER.addAndGet(this, operand.intValue());
+        return this;
+    }
+
+    /**
+     * 加法：使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数，若为 {@code null} 则使用第二个参数作为加数
+     * @param defaultOperand 当加数为 {@code null} 时，使用该值作为加数
+     * @return 当前实例
+     */
+    public AtomicMutableInt add(final MutableNumber<?> operand, final int defaultOperand) {
+        UPDATER.addAndGet(this, operand != null ? operand.intValue() : defaultOperand);
+        return this;
+    }
+
+    /**
+     * 对实例值使用指定加数进行加法运算后返回。
+     *
+     * @param operand 加数
+     * @return 加法运算后的实例值
+     */
+    public int addAndGet(final int operand) {
+        return UPDATER.addAndGet(this, operand);
+    }
+
+    /**
+     * 对实例值使用指定加数进行加法运算后返回。
+     *
+     * @param operand 加数，不能为 {@code null}
+     * @return 加法运算后的实例值
+     * @throws NullPointerException 当加数为 {@code null} 时抛出此异常
+     */
+    public int addAndGet(final Number operand) {
+        return UPDATER.addAndGet(this, operand.intValue());
+    }
+
+    /**
+     * 对实例值使用指定加数进行加法运算后返回。
+     *
+     * @param operand 加数，若为 {@code null} 则使用第二个参数作为加数
+     * @param defaultOperand 当加数为 {@code null} 时，使用该值作为加数
+     * @return 加法运算后的实例值
+     */
+    public int addAndGet(final Number operand, final int defaultOperand) {
+        return UPDATER.addAndGet(this, operand != null ? operand.intValue() : defaultOperand);
+    }
+
+    /**
+     * 对实例值使用指定加数进行加法运算后返回。
+     *
+     * @param operand 加数，不能为 {@code null}
+     * @return 加法运算后的实例值
+     * @throws NullPointerException 当加数为 {@code null} 时抛出此异常
+     */
+    public int addAndGet(final MutableNumber<?> operand) {
+        return UPDATER.addAndGet(this, operand.intValue());
+    }
+
+    /**
+     * 对实例值使用指定加数进行加法运算后返回。
+     *
+     * @param operand 加数，若为 {@code null} 则使用第二个参数作为加数
+     * @param defaultOperand 当加数为 {@code null} 时，使用该值作为加数
+     * @return 加法运算后的实例值
+     */
+    public int addAndGet(final MutableNumber<?> operand, final int defaultOperand) {
+        return UPDATER.addAndGet(this, operand != null ? operand.intValue() : defaultOperand);
+    }
+
+    /**
+     * 返回当前实例值，并使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数
+     * @return 加法运算之前的实例值
+     */
+    public int getAndAdd(final int operand) {
+        return UPDATER.getAndAdd(this, operand);
+    }
+
+    /**
+     * 返回当前实例值，并使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数，不能为 {@code null}
+     * @return 加法运算之前的实例值
+     * @throws NullPointerException 当加数为 {@code null} 时抛出此异常
+     */
+    public int getAndAdd(final Number operand) {
+        return UPDATER.getAndAdd(this, operand.intValue());
+    }
+
+    /**
+     * 返回当前实例值，并使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数，若为 {@code null} 则使用第二个参数作为加数
+     * @param defaultOperand 若加数为 {@code null} 则使用该值作为加数
+     * @return 加法运算之前的实例值
+     */
+    public int getAndAdd(final Number operand, final int defaultOperand) {
+        return UPDATER.getAndAdd(this, operand != null ? operand.intValue() : defaultOperand);
+    }
+
+    /**
+     * 返回当前实例值，并使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数，不能为 {@code null}
+     * @return 加法运算之前的实例值
+     * @throws NullPointerException 当加数为 {@code null} 时抛出此异常
+     */
+    public int getAndAdd(final MutableNumber<?> operand) {
+        return UPDATER.getAndAdd(this, operand.intValue());
+    }
+
+    /**
+     * 返回当前实例值，并使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数，若为 {@code null} 则使用第二个参数作为加数
+     * @param defaultOperand 若加数为 {@code null} 则使用该值作为加数
+     * @return 加法运算之前的实例值
+     */
+    public int getAndAdd(final MutableNumber<?> operand, final int defaultOperand) {
+        return UPDATER.getAndAdd(this, operand != null ? operand.intValue() : defaultOperand);
+    }
+    // ----- Add ----- ending
+
+
+
+    // ----- Subtract ----- beginning
+    /**
+     * 减法：使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数
+     * @return 当前实例
+     */
+    public AtomicMutableInt subtract(final int operand) {
+        UPDATER.addAndGet(this, -operand);
+        return this;
+    }
+
+    /**
+     * 减法：使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数，不能为 {@code null}
+     * @return 当前实例
+     * @throws NullPointerException 当减数为 {@code null} 时抛出此异常
+     */
+    public AtomicMutableInt subtract(final Number operand) {
+        UPDATER.addAndGet(this, -operand.intValue());
+        return this;
+    }
+
+    /**
+     * 减法：使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数，若为 {@code null} 则使用第二个参数作为减数
+     * @param defaultOperand 当减数为 {@code null} 时，使用该值作为减数
+     * @return 当前实例
+     */
+    public AtomicMutableInt subtract(final Number operand, final int defaultOperand) {
+        UPDATER.addAndGet(this, -(operand != null ? operand.intValue() : defaultOperand));
+        return this;
+    }
+
+    /**
+     * 减法：使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数，不能为 {@code null}
+     * @return 当前实例
+     * @throws NullPointerException 当减数为 {@code null} 时抛出此异常
+     */
+    public AtomicMutableInt subtract(final MutableNumber<?> operand) {
+        UPDATER.addAndGet(this, -operand.intValue());
+        return this;
+    }
+
+    /**
+     * 减法：使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数，若为 {@code null} 则使用第二个参数作为减数
+     * @param defaultOperand 当减数为 {@code null} 时，使用该值作为减数
+     * @return 当前实例
+     */
+    public AtomicMutableInt subtract(final MutableNumber<?> operand, final int defaultOperand) {
+        UPDATER.addAndGet(this, -(operand != null ? operand.intValue() : defaultOperand));
+        return this;
+    }
+
+    /**
+     * 对实例值使用指定减数进行减法运算后返回。
+     *
+     * @param operand 减数
+     * @return 减法运算后的实例值
+     */
+    public int subtractAndGet(final int operand) {
+        return UPDATER.addAndGet(this, -operand);
+    }
+
+    /**
+     * 对实例值使用指定减数进行减法运算后返回。
+     *
+     * @param operand 减数，不能为 {@code null}
+     * @return 减法运算后的实例值
+     * @throws NullPointerException 当减数为 {@code null} 时抛出此异常
+     */
+    public int subtractAndGet(final Number operand) {
+        return UPDATER.addAndGet(this, -operand.intValue());
+    }
+
+    /**
+     * 对实例值使用指定减数进行减法运算后返回。
+     *
+     * @param operand 减数，若为 {@code null} 则使用第二个参数作为减数
+     * @param defaultOperand 当减数为 {@code null} 时，使用该值作为减数
+     * @return 减法运算后的实例值
+     */
+    public int subtractAndGet(final Number operand, final int defaultOperand) {
+        return UPDATER.addAndGet(this, -(operand != null ? operand.intValue() : defaultOperand));
+    }
+
+    /**
+     * 对实例值使用指定减数进行减法运算后返回。
+     *
+     * @param operand 减数，不能为 {@code null}
+     * @return 减法运算后的实例值
+     * @throws NullPointerException 当减数为 {@code null} 时抛出此异常
+     */
+    public int subtractAndGet(final MutableNumber<?> operand) {
+        return UPDATER.addAndGet(this, -operand.intValue());
+    }
+
+    /**
+     * 对实例值使用指定减数进行减法运算后返回。
+     *
+     * @param operand 减数，若为 {@code null} 则使用第二个参数作为减数
+     * @param defaultOperand 当减数为 {@code null} 时，使用该值作为减数
+     * @return 减法运算后的实例值
+     */
+    public int subtractAndGet(final MutableNumber<?> operand, final int defaultOperand) {
+        return UPDATER.addAndGet(this, -(operand != null ? operand.intValue() : defaultOperand));
+    }
+
+    /**
+     * 返回当前实例值，并使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数
+     * @return 减法运算之前的实例值
+     */
+    public int getAndSubtract(final int operand) {
+        return UPDATER.getAndAdd(this, -operand);
+    }
+
+    /**
+     * 返回当前实例值，并使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数，不能为 {@code null}
+     * @return 减法运算之前的实例值
+     * @throws NullPointerException 当减数为 {@code null} 时抛出此异常
+     */
+    public int getAndSubtract(final Number operand) {
+        return UPDATER.getAndAdd(this, -operand.intValue());
+    }
+
+    /**
+     * 返回当前实例值，并使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数，若为 {@code null} 则使用第二个参数作为减数
+     * @param defaultOperand 若减数为 {@code null} 则使用该值作为减数
+     * @return 减法运算之前的实例值
+     */
+    public int getAndSubtract(final Number operand, final int defaultOperand) {
+        return UPDATER.getAndAdd(this, -(operand != null ? operand.intValue() : defaultOperand));
+    }
+
+    /**
+     * 返回当前实例值，并使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数，不能为 {@code null}
+     * @return 减法运算之前的实例值
+     * @throws NullPointerException 当减数为 {@code null} 时抛出此异常
+     */
+    public int getAndSubtract(final MutableNumber<?> operand) {
+        return UPDATER.getAndAdd(this, -operand.intValue());
+    }
+
+    /**
+     * 返回当前实例值，并使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数，若为 {@code null} 则使用第二个参数作为减数
+     * @param defaultOperand 若减数为 {@code null} 则使用该值作为减数
+     * @return 减法运算之前的实例值
+     */
+    public int getAndSubtract(final MutableNumber<?> operand, final int defaultOperand) {
+        return UPDATER.getAndAdd(this, -(operand != null ? operand.intValue() : defaultOperand));
+    }
+    // ----- Subtract ----- ending
+
+
+
+    // ----- Multiply ----- beginning
+    /**
+     * 乘法：使用指定乘数对实例值进行乘法运算。
+     *
+     * @param operand 乘数
+     * @return 当前实例
+     */
+    public AtomicMutableInt multiply(final int operand) {
+        UPDATER.accumulateAndGet(this, operand, MULTIPLY);
+        return this;
+    }
+
+    /**
+     * 乘法：使用指定乘数对实例值进行乘法运算。
+     *
+     * @param operand 乘数，不能为 {@code null}
+     * @return 当前实例
+     * @throws NullPointerException 当乘数为 {@code null} 时抛出此异常
+     */
+    public AtomicMutableInt multiply(final Number operand) {
+        UPDATER.accumulateAndGet(this, operand.intValue(), MULTIPLY);
+        return this;
+    }
+
+    /**
+     * 乘法：使用指定减数对实例值进行乘法运算。
+     *
+     * @param operand 乘数，若为 {@code null} 则使用第二个参数作为乘数
+     * @param defaultOperand 当乘数为 {@code null} 时，使用该值作为乘数
+     * @return 当前实例
+     */
+    public AtomicMutableInt multiply(final Number operand, final int defaultOperand) {
+        UPDATER.accumulateAndGet(this, operand != null ? operand.intValue() : defaultOperand, MULTIPLY);
+        return this;
+    }
+
+    /**
+     * 乘法：使用指定乘数对实例值进行乘法运算。
+     *
+     * @param operand 乘数，不能为 {@code null}
+     * @return 当前实例
+     * @throws NullPointerException 当乘数为 {@code null} 时抛出此异常
+     */
+    public AtomicMutableInt multiply(final MutableNumber<?> operand) {
+        UPDATER.accumulateAndGet(this, operand.intValue(), MULTIPLY);
+        return this;
+    }
+
+    /**
+     * 乘法：使用指定减数对实例值进行乘法运算。
+     *
+     * @param operand 乘数，若为 {@code null} 则使用第二个参数作为乘数
+     * @param defaultOperand 当乘数为 {@code null} 时，使用该值作为乘数
+     * @return 当前实例
+     */
+    public AtomicMutableInt multiply(final MutableNumber<?> operand, final int defaultOperand) {
+        UPDATER.accumulateAndGet(this, operand != null ? operand.intValue() : defaultOperand, MULTIPLY);
+        return this;
+    }
+
+    /**
+     * 对实例值使用指定乘数进行乘法运算后返回。
+     *
+     * @param operand 乘数
+     * @return 乘法运算后的实例值
+     */
+    public int multiplyAndGet(final int operand) {
+        return UPDATER.accumulateAndGet(this, operand, MULTIPLY);
+    }
+
+    /**
+     * 对实例值使用指定乘数进行乘法运算后返回。
+     *
+     * @param operand 乘数，不能为 {@code null}
+     * @return 乘法运算后的实例值
+     * @throws NullPointerException 当乘数为 {@code null} 时抛出此异常
+     */
+    public int multiplyAndGet(final Number operand) {
+        return UPDATER.accumulateAndGet(this, operand.intValue(), MULTIPLY);
+    }
+
+    /**
+     * 对实例值使用指定乘数进行乘法运算后返回。
+     *
+     * @param operand 乘数，若为 {@code null} 则使用第二个参数作为乘数
+     * @param defaultOperand 当乘数为 {@code null} 时，使用该值作为乘数
+     * @return 乘法运算后的实例值
+     */
+    public int multiplyAndGet(final Number operand, final int defaultOperand) {
+        return UPDATER.accumulateAndGet(this, operand != null ? operand.intValue() : defaultOperand, MULTIPLY);
+    }
+
+    /**
+     * 对实例值使用指定乘数进行乘法运算后返回。
+     *
+     * @param operand 乘数，不能为 {@code null}
+     * @return 乘法运算后的实例值
+     * @throws NullPointerException 当乘数为 {@code null} 时抛出此异常
+     */
+    public int multiplyAndGet(final MutableNumber<?> operand) {
+        return UPDATER.accumulateAndGet(this, operand.intValue(), MULTIPLY);
+    }
+
+    /**
+     * 对实例值使用指定乘数进行乘法运算后返回。
+     *
+     * @param operand 乘数，若为 {@code null} 则使用第二个参数作为乘数
+     * @param defaultOperand 当乘数为 {@code null} 时，使用该值作为乘数
+     * @return 乘法运算后的实例值
+     */
+    public int multiplyAndGet(final MutableNumber<?> operand, final int defaultOperand) {
+        return UPDATER.accumulateAndGet(this, operand != null ? operand.intValue() : defaultOperand, MULTIPLY);
+    }
+
+    /**
+     * 返回当前实例值，并使用指定乘数对实例值进行乘法运算。
+     *
+     * @param operand 乘数
+     * @return 乘法运算之前的实例值
+     */
+    public int getAndMultiply(final int operand) {
+        return UPDATER.getAndAccumulate(this, operand, MULTIPLY);
+    }
+
+    /**
+     * 返回当前实例值，并使用指定乘数对实例值进行乘法运算。
+     *
+     * @param operand 乘数，不能为 {@code null}
+     * @return 乘法运算之前的实例值
+     * @throws NullPointerException 当乘数为 {@code null} 时抛出此异常
+     */
+    public int getAndMultiply(final Number operand) {
+        return UPDATER.getAndAccumulate(this, operand.intValue(), MULTIPLY);
+    }
+
+    /**
+     * 返回当前实例值，并使用指定乘数对实例值进行乘法运算。
+     *
+     * @param operand 乘数，若为 {@code null} 则使用第二个参数作为乘数
+     * @param defaultOperand 若乘数为 {@code null} 则使用该值作为乘数
+     * @return 乘法运算之前的实例值
+     */
+    public int getAndMultiply(final Number operand, final int defaultOperand) {
+        return UPDATER.getAndAccumulate(this, operand != null ? operand.intValue() : defaultOperand, MULTIPLY);
+    }
+
+    /**
+     * 返回当前实例值，并使用指定乘数对实例值进行乘法运算。
+     *
+     * @param operand 乘数，不能为 {@code null}
+     * @return 乘法运算之前的实例值
+     * @throws NullPointerException 当乘数为 {@code null} 时抛出此异常
+     */
+    public int getAndMultiply(final MutableNumber<?> operand) {
+        return UPDATER.getAndAccumulate(this, operand.intValue(), MULTIPLY);
+    }
+
+    /**
+     * 返回当前实例值，并使用指定乘数对实例值进行乘法运算。
+     *
+     * @param operand 乘数，若为 {@code null} 则使用第二个参数作为乘数
+     * @param defaultOperand 若乘数为 {@code null} 则使用该值作为乘数
+     * @return 乘法运算之前的实例值
+     */
+    public int getAndMultiply(final MutableNumber<?> operand, final int defaultOperand) {
+        return UPDATER.getAndAccumulate(this, operand != null ? operand.intValue() : defaultOperand, MULTIPLY);
+    }
+    // ----- Multiply ----- ending
+
+
+
+    // ----- Divide ----- beginning
+    /**
+     * 除法：使用指定除数对实例值进行除法运算。
+     *
+     * @param operand 除数
+     * @return 当前实例
+     * @throws ArithmeticException 当除数为 {@code 0} 时抛出此异常
+     */
+    public AtomicMutableInt divide(final int operand) {
+        UPDATER.accumulateAndGet(this, operand, DIVIDE);
+        return this;
+    }
+
+    /**
+     * 除法：使用指定除数对实例值进行除法运算。
+     *
+     * @param operand 除数，不能为 {@code null}
+     * @return 当前实例
+     * @throws NullPointerException 当除数为 {@code null} 时抛出此异常
+     * @throws ArithmeticException 当除数为 {@code 0} 时抛出此异常
+     */
+    public AtomicMutableInt divide(final Number operand) {
+        UPDATER.accumulateAndGet(this, operand.intValue(), DIVIDE);
+        return this;
+    }
+
+    /**
+     * 除法：使用指定减数对实例值进行除法运算。
+     *
+     * @param operand 除数，若为 {@code null} 或其 int 值为 {@code 0} 则使用第二个参数作为除数
+     * @param defaultOperand 若除数为 {@code null} 或 {@code 0} 则使用该值作为除数
+     * @return 当前实例
+     * @throws ArithmeticException 当第一个参数为 {@code null} 或 {@code 0}，且第二个参数为 {@code 0} 时抛出此异常
+     */
+    public AtomicMutableInt divide(final Number operand, final int defaultOperand) {
+        UPDATER.accumulateAndGet(this, operand != null && operand.intValue() != 0 ? operand.intValue() : defaultOperand, DIVIDE);
+        return this;
+    }
+
+    /**
+     * 除法：使用指定除数对实例值进行除法运算。
+     *
+     * @param operand 除数，不能为 {@code null}
+     * @return 当前实例
+     * @throws NullPointerException 当除数为 {@code null} 时抛出此异常
+     * @throws ArithmeticException 当除数为 {@code 0} 时抛出此异常
+     */
+    public AtomicMutableInt divide(final MutableNumber<?> operand) {
+        UPDATER.accumulateAndGet(this, operand.intValue(), DIVIDE);
+        return this;
+    }
+
+    /**
+     * 除法：使用指定减数对实例值进行除法运算。
+     *
+     * @param operand 除数，若为 {@code null} 或其 int 值为 {@code 0} 则使用第二个参数作为除数
+     * @param defaultOperand 若除数为 {@code null} 或 {@code 0} 则使用该值作为除数
+     * @return 当前实例
+     * @throws ArithmeticException 当第一个参数为 {@code null} 或 {@code 0}，且第二个参数为 {@code 0} 时抛出此异常
+     */
+    public AtomicMutableInt divide(final MutableNumber<?> operand, final int defaultOperand) {
+        UPDATER.accumulateAndGet(this, operand != null && operand.intValue() != 0 ? operand.intValue() : defaultOperand, DIVIDE);
+        return this;
+    }
+
+    /**
+     * 对实例值使用指定除数进行除法运算后返回。
+     *
+     * @param operand 除数
+     * @return 除法运算后的实例值
+     * @throws ArithmeticException 当除数为 {@code 0} 时抛出此异常
+     */
+    public int divideAndGet(final int operand) {
+        return UPDATER.accumulateAndGet(this, operand, DIVIDE);
+    }
+
+    /**
+     * 对实例值使用指定除数进行除法运算后返回。
+     *
+     * @param operand 除数，不能为 {@code null}
+     * @return 除法运算后的实例值
+     * @throws NullPointerException 当除数为 {@code null} 时抛出此异常
+     * @throws ArithmeticException 当除数为 {@code 0} 时抛出此异常
+     */
+    public int divideAndGet(final Number operand) {
+        return UPDATER.accumulateAndGet(this, operand.intValue(), DIVIDE);
+    }
+
+    /**
+     * 对实例值使用指定除数进行除法运算后返回。
+     *
+     * @param operand 除数，若为 {@code null} 或其 int 值为 {@code 0} 则使用第二个参数作为除数
+     * @param defaultOperand 若除数为 {@code null} 或 {@code 0} 则使用该值作为除数
+     * @return 除法运算后的实例值
+     * @throws ArithmeticException 当第一个参数为 {@code null} 或 {@code 0}，且第二个参数为 {@code 0} 时抛出此异常
+     */
+    public int divideAndGet(final Number operand, final int defaultOperand) {
+        return UPDATER.accumulateAndGet(this, operand != null && operand.intValue() != 0 ? operand.intValue() : defaultOperand, DIVIDE);
+    }
+
+    /**
+     * 对实例值使用指定除数进行除法运算后返回。
+     *
+     * @param operand 除数，不能为 {@code null}
+     * @return 除法运算后的实例值
+     * @throws NullPointerException 当除数为 {@code null} 时抛出此异常
+     * @throws ArithmeticException 当除数为 {@code 0} 时抛出此异常
+     */
+    public int divideAndGet(final MutableNumber<?> operand) {
+        return UPDATER.accumulateAndGet(this, operand.intValue(), DIVIDE);
+    }
+
+    /**
+     * 对实例值使用指定除数进行除法运算后返回。
+     *
+     * @param operand 除数，若为 {@code null} 或其 int 值为 {@code 0} 则使用第二个参数作为除数
+     * @param defaultOperand 若除数为 {@code null} 或 {@code 0} 则使用该值作为除数
+     * @return 除法运算后的实例值
+     * @throws ArithmeticException 当第一个参数为 {@code null} 或 {@code 0}，且第二个参数为 {@code 0} 时抛出此异常
+     */
+    public int divideAndGet(final MutableNumber<?> operand, final int defaultOperand) {
+        return UPDATER.accumulateAndGet(this, operand != null && operand.intValue() != 0 ? operand.intValue() : defaultOperand, DIVIDE);
+    }
+
+    /**
+     * 返回当前实例值，并使用指定除数对实例值进行除法运算。
+     *
+     * @param operand 除数
+     * @return 除法运算之前的实例值
+     * @throws ArithmeticException 当除数为 {@code 0} 时抛出此异常
+     */
+    public int getAndDivide(final int operand) {
+        return UPDATER.getAndAccumulate(this, operand, DIVIDE);
+    }
+
+    /**
+     * 返回当前实例值，并使用指定除数对实例值进行除法运算。
+     *
+     * @param operand 除数，不能为 {@code null}
+     * @return 除法运算之前的实例值
+     * @throws NullPointerException 当除数为 {@code null} 时抛出此异常
+     * @throws ArithmeticException 当除数为 {@code 0} 时抛出此异常
+     */
+    public int getAndDivide(final Number operand) {
+        return UPDATER.getAndAccumulate(this, operand.intValue(), DIVIDE);
+    }
+
+    /**
+     * 返回当前实例值，并使用指定除数对实例值进行除法运算。
+     *
+     * @param operand 除数，若为 {@code null} 或其 int 值为 {@code 0} 则使用第二个参数作为除数
+     * @param defaultOperand 若除数为 {@code null} 或 {@code 0} 则使用该值作为除数
+     * @return 除法运算之前的实例值
+     * @throws ArithmeticException 当第一个参数为 {@code null} 或 {@code 0}，且第二个参数为 {@code 0} 时抛出此异常
+     */
+    public int getAndDivide(final Number operand, final int defaultOperand) {
+        return UPDATER.getAndAccumulate(this, operand != null && operand.intValue() != 0 ? operand.intValue() : defaultOperand, DIVIDE);
+    }
+
+    /**
+     * 返回当前实例值，并使用指定除数对实例值进行除法运算。
+     *
+     * @param operand 除数，不能为 {@code null}
+     * @return 除法运算之前的实例值
+     * @throws NullPointerException 当除数为 {@code null} 时抛出此异常
+     * @throws ArithmeticException 当除数为 {@code 0} 时抛出此异常
+     */
+    public int getAndDivide(final MutableNumber<?> operand) {
+        return UPDATER.getAndAccumulate(this, operand.intValue(), DIVIDE);
+    }
+
+    /**
+     * 返回当前实例值，并使用指定除数对实例值进行除法运算。
+     *
+     * @param operand 除数，若为 {@code null} 或其 int 值为 {@code 0} 则使用第二个参数作为除数
+     * @param defaultOperand 若除数为 {@code null} 或 {@code 0} 则使用该值作为除数
+     * @return 除法运算之前的实例值
+     * @throws ArithmeticException 当第一个参数为 {@code null} 或 {@code 0}，且第二个参数为 {@code 0} 时抛出此异常
+     */
+    public int getAndDivide(final MutableNumber<?> operand, final int defaultOperand) {
+        return UPDATER.getAndAccumulate(this, operand != null && operand.intValue() != 0 ? operand.intValue() : defaultOperand, DIVIDE);
+    }
+    // ----- Divide ----- ending
+
+
+    /**
+     * <p>将此实例和另一个 {@link MutableNumber} 对象进行 int 值的升序比较。</p>
+     *
+     * @param o 另一个 {@link MutableNumber} 实现对象，不能为 {@code null}
+     * @return 若此实例的 int 值较小则返回负数；若此实例的 int 值较大则返回正数；若 int 值相等则返回 0
+     * @throws NullPointerException 当指定参数为 {@code null} 时抛出此异常
+     */
+    @Override
+    public int compareTo(final MutableNumber o) {
+        return Integer.compare(this.value, o.intValue());
+    }
+
+    /**
+     * <p>将此实例和指定值进行 int 值的升序比较。</p>
+     *
+     * @param o 要比较的值
+     * @return 若此实例的 int 值较小则返回负数；若此实例的 int 值较大则返回正数；若 int 值相等则返回 0
+     */
+    public int compareTo(final int o) {
+        return Integer.compare(this.value, o);
+    }
+
+    /**
+     * 以字符串类型返回实例值。
+     *
+     * @return 实例值的字符串类型
+     */
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    /**
+     * <p>返回一个适合此可变实例的哈希码。</p>
+     *
+     * @return 一个合适的哈希码
+     */
+    @Override
+    public int hashCode() {
+        return value;
+    }
+
+    /**
+     * <p>将此实例与指定对象进行比较。当且仅当指定对象不为 {@code null} 并是一个包含与此实例 int 值相等的 AtomicMutableInt 对象时，比较结果才是 {@code true}。</p>
+     *
+     * @param obj 要比较的对象，若为 {@code null} 则返回 {@code false}
+     * @return 若相等返回 {@code true}，否则返回 {@code false}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj instanceof AtomicMutableInt) {
+            return value == ((AtomicMutableInt) obj).intValue();
+        }
+        return false;
+    }
+}
\ No newline at end of file
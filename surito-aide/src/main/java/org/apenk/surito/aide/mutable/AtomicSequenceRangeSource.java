@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>基于内存中的 {@link AtomicLong} 分配号段的 {@link SequenceRangeSource}。</p>
+ *
+ * <p>每次分配只需要一次 CAS，进程重启后会重新从初始值开始，需要重启后不重复时应使用 {@link FileSequenceRangeSource}。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class AtomicSequenceRangeSource implements SequenceRangeSource {
+
+    /**
+     * 下一个尚未分配的值
+     */
+    private final AtomicLong next;
+
+    /**
+     * 创建一个从 0 开始分配的 AtomicSequenceRangeSource 实例。
+     */
+    public AtomicSequenceRangeSource() {
+        this(0L);
+    }
+
+    /**
+     * 创建一个从指定值开始分配的 AtomicSequenceRangeSource 实例。
+     *
+     * @param initialValue 第一个号段的起始值
+     */
+    public AtomicSequenceRangeSource(final long initialValue) {
+        super();
+        this.next = new AtomicLong(initialValue);
+    }
+
+    @Override
+    public long reserve(final int size) {
+        long start;
+        do {
+            start = next.get();
+            if (start > Long.MAX_VALUE - size) {
+                throw new IllegalStateException("Sequence exhausted: [" + start + "]");
+            }
+        } while (!next.compareAndSet(start, start + size));
+        return start;
+    }
+
+    /**
+     * 返回下一个尚未分配的值。
+     *
+     * @return 下一个尚未分配的值
+     */
+    public long peek() {
+        return next.get();
+    }
+}
\ No newline at end of file
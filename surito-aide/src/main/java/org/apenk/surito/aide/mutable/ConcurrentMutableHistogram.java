@@ -0,0 +1,245 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>支持多线程并发记录的 {@link MutableHistogram}。</p>
+ *
+ * <p>分桶规则与 {@link MutableHistogram} 相同，计数存放在 {@link AtomicLongArray} 中，记录一个值只需要对所在的桶做一次原子累加，
+ * 不同的值通常落在不同的桶中，因此竞争很少；总和使用 {@link LongAdder} 累加，最小值和最大值只在被刷新时才需要 CAS。</p>
+ *
+ * <p>查询时先通过 {@link #snapshot()} 复制出一个 {@link MutableHistogram}，再在快照上计算百分位等统计量。</p>
+ *
+ * <p>注，快照不是原子的，与之并发的记录可能只有一部分被计入（例如计入了计数但未计入总和）。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class ConcurrentMutableHistogram implements Serializable {
+    private static final long serialVersionUID = -2712985606217345493L;
+
+    private static final AtomicLongFieldUpdater<ConcurrentMutableHistogram> MIN_UPDATER = AtomicLongFieldUpdater.newUpdater(ConcurrentMutableHistogram.class, "min");
+
+    private static final AtomicLongFieldUpdater<ConcurrentMutableHistogram> MAX_UPDATER = AtomicLongFieldUpdater.newUpdater(ConcurrentMutableHistogram.class, "max");
+
+    private final HistogramLayout layout;
+
+    private final AtomicLongArray counts;
+
+    private final LongAdder sum = new LongAdder();
+
+    private volatile long min = Long.MAX_VALUE;
+
+    private volatile long max = Long.MIN_VALUE;
+
+    // ----- 构造方法 ----- beginning
+    /**
+     * 使用默认的精度位数创建一个可以记录所有非负 long 值的 ConcurrentMutableHistogram 实例。
+     */
+    public ConcurrentMutableHistogram() {
+        this(Long.MAX_VALUE, MutableHistogram.DEFAULT_PRECISION_BITS);
+    }
+
+    /**
+     * 使用指定的最大可记录值和精度位数创建一个 ConcurrentMutableHistogram 实例。
+     *
+     * @param highestTrackableValue 最大可记录值，必须为正数
+     * @param precisionBits 精度位数，取值范围为 [1, 20]，越大越精确但占用越多内存
+     * @throws IllegalArgumentException 当参数超出范围时抛出此异常
+     */
+    public ConcurrentMutableHistogram(final long highestTrackableValue, final int precisionBits) {
+        super();
+        this.layout = new HistogramLayout(highestTrackableValue, precisionBits);
+        this.counts = new AtomicLongArray(layout.getBucketCount());
+    }
+    // ----- 构造方法 ----- ending
+
+
+
+    // ----- Record ----- beginning
+    /**
+     * 记录一个值。
+     *
+     * @param value 要记录的值，不能为负数
+     * @throws IllegalArgumentException 当值为负数时抛出此异常
+     */
+    public void record(final long value) {
+        final int index = layout.indexOf(layout.clamp(value));
+        // 先更新最小值和最大值再累加计数，读取到该计数的快照也能读取到对应的最小值和最大值
+        updateMinMax(value);
+        counts.getAndIncrement(index);
+        sum.add(value);
+    }
+
+    /**
+     * 将一个值记录指定的次数。
+     *
+     * @param value 要记录的值，不能为负数
+     * @param count 次数，不能为负数
+     * @throws IllegalArgumentException 当值或次数为负数时抛出此异常
+     */
+    public void record(final long value, final long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: [" + count + "]");
+        }
+        if (count == 0) {
+            return;
+        }
+        final int index = layout.indexOf(layout.clamp(value));
+        updateMinMax(value);
+        counts.getAndAdd(index, count);
+        sum.add(value * count);
+    }
+
+    /**
+     * <p>清除所有的记录。</p>
+     *
+     * <p>注，该操作不是原子的，与之并发的记录可能会部分丢失。</p>
+     */
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0L);
+        }
+        sum.reset();
+        min = Long.MAX_VALUE;
+        max = Long.MIN_VALUE;
+    }
+    // ----- Record ----- ending
+
+
+
+    // ----- Snapshot ----- beginning
+    /**
+     * 将当前的所有记录复制到一个新的 {@link MutableHistogram} 中返回，用于查询百分位等统计量或与其它直方图合并。
+     *
+     * @return 当前记录的快照
+     */
+    public MutableHistogram snapshot() {
+        final MutableHistogram snapshot = new MutableHistogram(layout);
+        long total = 0;
+        int first = -1;
+        int last = -1;
+        for (int i = 0; i < counts.length(); i++) {
+            final long count = counts.get(i);
+            if (count != 0) {
+                snapshot.addAt(i, count);
+                total += count;
+                if (first < 0) {
+                    first = i;
+                }
+                last = i;
+            }
+        }
+        snapshot.add(total, sum.sum(), observedMin(first), observedMax(last));
+        return snapshot;
+    }
+
+    /**
+     * <p>将当前的所有记录合并到指定的直方图中，与 {@code target.merge(snapshot())} 等价，但不会创建中间的快照。</p>
+     *
+     * @param target 目标直方图，不能为 {@code null}，最大可记录值和精度位数必须与此实例相同
+     * @return 目标直方图
+     * @throws IllegalArgumentException 当两个直方图的最大可记录值或精度位数不同时抛出此异常
+     */
+    public MutableHistogram addTo(final MutableHistogram target) {
+        target.checkLayout(layout);
+        long total = 0;
+        int first = -1;
+        int last = -1;
+        for (int i = 0; i < counts.length(); i++) {
+            final long count = counts.get(i);
+            if (count != 0) {
+                target.addAt(i, count);
+                total += count;
+                if (first < 0) {
+                    first = i;
+                }
+                last = i;
+            }
+        }
+        target.add(total, sum.sum(), observedMin(first), observedMax(last));
+        return target;
+    }
+
+    /**
+     * 返回最大可记录值。
+     *
+     * @return 最大可记录值
+     */
+    public long getHighestTrackableValue() {
+        return layout.getHighestTrackableValue();
+    }
+
+    /**
+     * 返回精度位数。
+     *
+     * @return 精度位数
+     */
+    public int getPrecisionBits() {
+        return layout.getPrecisionBits();
+    }
+    // ----- Snapshot ----- ending
+
+
+
+    /**
+     * 在读取计数之后读取最小值。与 {@link #reset()} 并发时，读取到的计数可能没有对应的最小值（仍为初始值或大于第一个非空桶），
+     * 此时以第一个非空桶的下界代替，避免百分位等统计量返回 {@link Long#MAX_VALUE}。
+     */
+    private long observedMin(final int first) {
+        final long current = min;
+        if (first >= 0 && current > layout.highestValueAt(first)) {
+            return layout.lowestValueAt(first);
+        }
+        return current;
+    }
+
+    /**
+     * 在读取计数之后读取最大值，与 {@link #observedMin(int)} 相同，必要时以最后一个非空桶的上界代替。
+     */
+    private long observedMax(final int last) {
+        final long current = max;
+        if (last >= 0 && current < layout.lowestValueAt(last)) {
+            return layout.highestValueAt(last);
+        }
+        return current;
+    }
+
+    private void updateMinMax(final long value) {
+        long current;
+        while (value < (current = min) && !MIN_UPDATER.compareAndSet(this, current, value)) {
+            // 重试
+        }
+        while (value > (current = max) && !MAX_UPDATER.compareAndSet(this, current, value)) {
+            // 重试
+        }
+    }
+
+    /**
+     * 以 {@link MutableHistogram#toString()} 的格式返回当前快照的字符串。
+     *
+     * @return 字符串表示
+     */
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+}
\ No newline at end of file
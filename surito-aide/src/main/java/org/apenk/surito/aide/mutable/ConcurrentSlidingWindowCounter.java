@@ -0,0 +1,221 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>支持多线程并发计数的 {@link SlidingWindowCounter}。</p>
+ *
+ * <p>计数器由若干条带（stripe）组成，每个条带是一个独立的桶环，线程按其 ID 固定地映射到某个条带上，
+ * 因此不同线程通常更新不同的桶，读取时再对所有条带求和。</p>
+ *
+ * <p>每个桶以一个 long 同时保存其所属时间片（高 32 位）和计数（低 32 位），
+ * 因此判断桶是否过期、清零和累加可以在同一次 CAS 中完成，不会在桶切换时间片的瞬间丢失或错计事件。</p>
+ *
+ * <p>注 1，每个条带的每个桶最多计数 {@code 2^32 - 1} 次。</p>
+ *
+ * <p>注 2，读取到的值不是原子快照，与之并发的计数可能被计入也可能不被计入。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class ConcurrentSlidingWindowCounter {
+
+    private static final long COUNT_MASK = 0xFFFFFFFFL;
+
+    private final LongSupplier clock;
+
+    private final long bucketNanos;
+
+    private final int buckets;
+
+    private final int stripeMask;
+
+    /**
+     * 所有条带的桶，第 {@code s} 个条带的第 {@code b} 个桶位于 {@code s * buckets + b}
+     */
+    private final AtomicLongArray cells;
+
+    // ----- 构造方法 ----- beginning
+    /**
+     * 创建一个由指定数量、指定时长的桶组成的 ConcurrentSlidingWindowCounter 实例，条带数量与处理器数量相当。
+     *
+     * @param buckets 桶的数量，必须为正数
+     * @param bucketDuration 每个桶的时长，必须为正数
+     * @param unit 时长的单位，不能为 {@code null}
+     * @throws IllegalArgumentException 当桶的数量或时长不为正数时抛出此异常
+     */
+    public ConcurrentSlidingWindowCounter(final int buckets, final long bucketDuration, final TimeUnit unit) {
+        this(buckets, bucketDuration, unit, Runtime.getRuntime().availableProcessors(), System::nanoTime);
+    }
+
+    /**
+     * 使用指定的条带数量和时钟创建一个 ConcurrentSlidingWindowCounter 实例。
+     *
+     * @param buckets 桶的数量，必须为正数
+     * @param bucketDuration 每个桶的时长，必须为正数
+     * @param unit 时长的单位，不能为 {@code null}
+     * @param stripes 条带数量，必须为正数，会向上取整为 2 的幂
+     * @param nanoClock 以纳秒为单位的单调时钟，不能为 {@code null}
+     * @throws IllegalArgumentException 当参数不为正数或条带数量过大时抛出此异常
+     */
+    public ConcurrentSlidingWindowCounter(final int buckets, final long bucketDuration, final TimeUnit unit, final int stripes, final LongSupplier nanoClock) {
+        super();
+        this.bucketNanos = SlidingWindowCounter.checkWindow(buckets, bucketDuration, unit);
+        if (stripes <= 0 || stripes > 1 << 16) {
+            throw new IllegalArgumentException("Stripe count must be in range [1, 65536]: [" + stripes + "]");
+        }
+        final int stripeCount = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        if ((long) stripeCount * buckets > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many cells: [" + stripeCount + " * " + buckets + "]");
+        }
+        this.buckets = buckets;
+        this.stripeMask = stripeCount - 1;
+        this.clock = nanoClock;
+        this.cells = new AtomicLongArray(stripeCount * buckets);
+    }
+    // ----- 构造方法 ----- ending
+
+
+
+    // ----- Record ----- beginning
+    /**
+     * 当前时间片的计数递增 1。
+     */
+    public void increment() {
+        add(1);
+    }
+
+    /**
+     * 将指定数量的事件计入当前时间片。
+     *
+     * @param count 事件数量，不能为负数
+     * @throws IllegalArgumentException 当数量为负数时抛出此异常
+     */
+    public void add(final int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: [" + count + "]");
+        }
+        final long slot = currentSlot();
+        final int tag = (int) slot;
+        final int index = stripe() * buckets + (int) Math.floorMod(slot, (long) buckets);
+        long current;
+        long update;
+        do {
+            current = cells.get(index);
+            if ((int) (current >>> 32) == tag) {
+                update = current + count;
+            } else {
+                // 桶属于已过期的时间片，清零后复用
+                update = ((long) tag << 32) | count;
+            }
+        } while (!cells.compareAndSet(index, current, update));
+    }
+
+    /**
+     * <p>清除所有的计数。</p>
+     *
+     * <p>注，该操作不是原子的，与之并发的计数可能会丢失。</p>
+     */
+    public void reset() {
+        for (int i = 0; i < cells.length(); i++) {
+            cells.set(i, 0L);
+        }
+    }
+    // ----- Record ----- ending
+
+
+
+    // ----- Query ----- beginning
+    /**
+     * 返回整个窗口内的事件数。
+     *
+     * @return 事件数
+     */
+    public long sum() {
+        return sumOfLast(buckets);
+    }
+
+    /**
+     * 返回最近一段时间内的事件数，时长会向上取整为桶时长的整数倍，且不超过窗口长度。
+     *
+     * @param duration 时长
+     * @param unit 时长的单位，不能为 {@code null}
+     * @return 事件数
+     */
+    public long sum(final long duration, final TimeUnit unit) {
+        return sumOfLast(SlidingWindowCounter.bucketsFor(duration, unit, bucketNanos, buckets));
+    }
+
+    /**
+     * 返回整个窗口内平均每秒的事件数。
+     *
+     * @return 每秒事件数
+     */
+    public double ratePerSecond() {
+        return sum() * (double) TimeUnit.SECONDS.toNanos(1) / (bucketNanos * buckets);
+    }
+
+    /**
+     * 返回窗口的长度。
+     *
+     * @param unit 返回值的单位，不能为 {@code null}
+     * @return 窗口长度
+     */
+    public long getWindow(final TimeUnit unit) {
+        return unit.convert(bucketNanos * buckets, TimeUnit.NANOSECONDS);
+    }
+    // ----- Query ----- ending
+
+
+
+    private long sumOfLast(final int recent) {
+        final int tag = (int) currentSlot();
+        long sum = 0;
+        for (int i = 0; i < cells.length(); i++) {
+            final long cell = cells.get(i);
+            // 时间片只保留了低 32 位，以 int 减法计算相差的时间片数，可以正确处理回绕
+            final int age = tag - (int) (cell >>> 32);
+            if (age >= 0 && age < recent) {
+                sum += cell & COUNT_MASK;
+            }
+        }
+        return sum;
+    }
+
+    private int stripe() {
+        final long id = Thread.currentThread().getId();
+        final int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & stripeMask;
+    }
+
+    private long currentSlot() {
+        return Math.floorDiv(clock.getAsLong(), bucketNanos);
+    }
+
+    /**
+     * 以 {@code {window=...ms, sum=...}} 的格式返回字符串。
+     *
+     * @return 字符串表示
+     */
+    @Override
+    public String toString() {
+        return "{window=" + getWindow(TimeUnit.MILLISECONDS) + "ms, sum=" + sum() + "}";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,264 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * <p>按名称管理的一组计数器，每个线程累加自己的单元，读取时再汇总。</p>
+ *
+ * <p>通过 {@link #counter(String)} 获取的 {@link Counter} 应由调用方持有并复用，之后的累加不再需要按名称查找。
+ * 每个线程第一次累加某个计数器时会为其创建一个只属于该线程的单元并登记到计数器中，此后的累加只需通过 {@link ThreadLocal} 找到单元，
+ * 再对单元做一次无竞争的有序写，不会有任何 CAS 或锁。</p>
+ *
+ * <p>{@link #snapshot()} 和 {@link Counter#sum()} 对已登记的单元求和，不会阻塞正在累加的线程。
+ * 求和时，所属线程已经结束的单元会被并入计数器的退役总数（retired total）并从登记中移除，因此线程频繁创建和销毁也不会导致单元堆积。</p>
+ *
+ * <p>注，读取到的值不是原子快照，与之并发的累加可能被计入也可能不被计入。</p>
+ *
+ * <p>该类是线程安全的。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class CounterRegistry {
+
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 创建一个空的 CounterRegistry 实例。
+     */
+    public CounterRegistry() {
+        super();
+    }
+
+    /**
+     * 获取指定名称的计数器，不存在时创建。同一名称总是返回同一个实例。
+     *
+     * @param name 计数器名称，不能为 {@code null}
+     * @return 计数器
+     * @throws NullPointerException 当名称为 {@code null} 时抛出此异常
+     */
+    public Counter counter(final String name) {
+        final Counter counter = counters.get(name);
+        if (counter != null) {
+            return counter;
+        }
+        return counters.computeIfAbsent(name, Counter::new);
+    }
+
+    /**
+     * 按名称的字典序返回所有计数器当前的值。
+     *
+     * @return 计数器名称到值的不可修改映射
+     */
+    public Map<String, Long> snapshot() {
+        final Map<String, Long> snapshot = new TreeMap<>();
+        for (final Counter counter : counters.values()) {
+            snapshot.put(counter.getName(), counter.sum());
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * <p>将所有计数器归零。</p>
+     *
+     * <p>注，与之并发的累加可能被计入也可能不被计入归零之后的值，参见 {@link Counter#reset()}。</p>
+     */
+    public void reset() {
+        for (final Counter counter : counters.values()) {
+            counter.reset();
+        }
+    }
+
+
+
+    // ----- Inner classes ----- beginning
+    /**
+     * <p>{@link CounterRegistry} 中的一个计数器。</p>
+     *
+     * <p>通过 {@link #increment()} 和 {@link #add(long)} 累加，通过 {@link #sum()} 读取所有线程累加的总和。</p>
+     */
+    public static final class Counter {
+
+        private final String name;
+
+        /**
+         * 当前线程在此计数器上的单元
+         */
+        private final ThreadLocal<Cell> local = ThreadLocal.withInitial(this::register);
+
+        /**
+         * 所有已登记的单元，受 this 锁保护；累加的线程只在登记时才会获取该锁
+         */
+        private final List<Cell> cells = new ArrayList<>();
+
+        /**
+         * 所属线程已经结束的单元的总和，受 this 锁保护
+         */
+        private long retired;
+
+        private Counter(final String name) {
+            super();
+            this.name = name;
+        }
+
+        /**
+         * 返回计数器名称。
+         *
+         * @return 计数器名称
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * 计数器递增 1。
+         */
+        public void increment() {
+            local.get().add(1L);
+        }
+
+        /**
+         * 使用指定增量对计数器进行累加。
+         *
+         * @param delta 增量
+         */
+        public void add(final long delta) {
+            local.get().add(delta);
+        }
+
+        /**
+         * <p>返回所有线程累加的总和，包括已经结束的线程。</p>
+         *
+         * <p>求和时会将所属线程已经结束的单元并入退役总数，不会阻塞正在累加的线程。</p>
+         *
+         * @return 总和
+         */
+        public synchronized long sum() {
+            long sum = 0L;
+            final Iterator<Cell> iterator = cells.iterator();
+            while (iterator.hasNext()) {
+                final Cell cell = iterator.next();
+                // 必须先判断线程是否结束再读取值：线程结束之前的写入对 isAlive() 返回 false 之后的读取可见
+                if (cell.isOrphaned()) {
+                    retired += cell.get();
+                    iterator.remove();
+                } else {
+                    sum += cell.get();
+                }
+            }
+            return sum + retired;
+        }
+
+        /**
+         * <p>将计数器归零。</p>
+         *
+         * <p>单元的值只由所属线程写入，归零时只记录各个单元当前的值作为基线，求和时再减去基线，
+         * 因此与之并发的累加可能被计入也可能不被计入归零之后的值，但归零之前的累加不会重新出现。</p>
+         */
+        public synchronized void reset() {
+            retired = 0L;
+            for (final Cell cell : cells) {
+                cell.reset();
+            }
+        }
+
+        /**
+         * 返回当前已登记的单元数量，即尚未并入退役总数的线程数量。
+         *
+         * @return 已登记的单元数量
+         */
+        public synchronized int liveCells() {
+            return cells.size();
+        }
+
+        private synchronized Cell register() {
+            final Cell cell = new Cell(Thread.currentThread());
+            cells.add(cell);
+            return cell;
+        }
+
+        /**
+         * 以 {@code name=sum} 的格式返回字符串。
+         *
+         * @return 字符串表示
+         */
+        @Override
+        public String toString() {
+            return name + "=" + sum();
+        }
+    }
+
+    /**
+     * 某个线程在某个计数器上的单元，{@link #value} 只由所属线程写入。
+     */
+    private static final class Cell {
+
+        private static final AtomicLongFieldUpdater<Cell> UPDATER = AtomicLongFieldUpdater.newUpdater(Cell.class, "value");
+
+        /**
+         * 所属线程，使用弱引用以免阻止线程对象被回收
+         */
+        private final WeakReference<Thread> owner;
+
+        private volatile long value;
+
+        /**
+         * 最近一次归零时的值，受所属计数器的锁保护
+         */
+        private long baseline;
+
+        private Cell(final Thread owner) {
+            super();
+            this.owner = new WeakReference<>(owner);
+        }
+
+        private void add(final long delta) {
+            UPDATER.lazySet(this, value + delta);
+        }
+
+        /**
+         * 返回自最近一次归零以来累加的值，只能在持有所属计数器的锁时调用。
+         */
+        private long get() {
+            return value - baseline;
+        }
+
+        /**
+         * 以当前的值作为基线，只能在持有所属计数器的锁时调用。不写入 {@link #value}，
+         * 以免覆盖所属线程并发的读-改-写而使归零之前的值重新出现。
+         */
+        private void reset() {
+            baseline = value;
+        }
+
+        private boolean isOrphaned() {
+            final Thread thread = owner.get();
+            return thread == null || !thread.isAlive();
+        }
+    }
+    // ----- Inner classes ----- ending
+}
\ No newline at end of file
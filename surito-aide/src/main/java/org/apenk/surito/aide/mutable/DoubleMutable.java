@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * <p>{@link Mutable} 的 double 特化版本，读写值时不会装箱。</p>
+ *
+ * <p>通过 {@link Mutable} 接口读写 double 值时，{@link Mutable#getValue()} 和 {@link Mutable#setValue(Object)} 都需要经过 {@link Double}；
+ * 面向此接口编写的通用代码则直接以 double 类型读写。实现类有 {@link MutableDouble} 和 {@link MutableFloat}（其 {@link #set(double)} 会将值舍入为 float）。</p>
+ *
+ * <p>注，{@code updateAndGet} 等默认方法由 {@link #getAsDouble()} 和 {@link #set(double)} 组成，并非原子操作；
+ * 线程安全的实现类会将其重写为原子操作。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public interface DoubleMutable extends DoubleSupplier {
+
+    /**
+     * 返回当前值。
+     *
+     * @return 当前值
+     */
+    @Override
+    double getAsDouble();
+
+    /**
+     * 设置值。
+     *
+     * @param value 要设置的值
+     */
+    void set(double value);
+
+    /**
+     * 使用指定函数更新值并返回更新后的值。
+     *
+     * @param updateFunction 更新函数，不能为 {@code null}
+     * @return 更新之后的值
+     */
+    default double updateAndGet(final DoubleUnaryOperator updateFunction) {
+        final double next = updateFunction.applyAsDouble(getAsDouble());
+        set(next);
+        return next;
+    }
+
+    /**
+     * 使用指定函数更新值并返回更新前的值。
+     *
+     * @param updateFunction 更新函数，不能为 {@code null}
+     * @return 更新之前的值
+     */
+    default double getAndUpdate(final DoubleUnaryOperator updateFunction) {
+        final double previous = getAsDouble();
+        set(updateFunction.applyAsDouble(previous));
+        return previous;
+    }
+
+    /**
+     * 使用指定函数将当前值与给定值合并，并返回合并后的值。
+     *
+     * @param x 给定值，作为函数的第二个参数
+     * @param accumulatorFunction 合并函数，第一个参数为当前值，不能为 {@code null}
+     * @return 合并之后的值
+     */
+    default double accumulateAndGet(final double x, final DoubleBinaryOperator accumulatorFunction) {
+        final double next = accumulatorFunction.applyAsDouble(getAsDouble(), x);
+        set(next);
+        return next;
+    }
+
+    /**
+     * 使用指定函数将当前值与给定值合并，并返回合并前的值。
+     *
+     * @param x 给定值，作为函数的第二个参数
+     * @param accumulatorFunction 合并函数，第一个参数为当前值，不能为 {@code null}
+     * @return 合并之前的值
+     */
+    default double getAndAccumulate(final double x, final DoubleBinaryOperator accumulatorFunction) {
+        final double previous = getAsDouble();
+        set(accumulatorFunction.applyAsDouble(previous, x));
+        return previous;
+    }
+}
\ No newline at end of file
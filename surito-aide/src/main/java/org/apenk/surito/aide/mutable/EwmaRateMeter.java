@@ -0,0 +1,364 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>指数加权移动平均（EWMA）的事件速率计，提供最近 1 分钟、5 分钟和 15 分钟的平均速率，与 Unix 的 load average 算法相同。</p>
+ *
+ * <p>事件通过 {@link #mark()} 计入一个 {@link StripedMutableLong}，多线程并发计数时几乎没有竞争。
+ * 速率每隔 {@link #TICK_INTERVAL_SECONDS} 秒按新增的事件数衰减更新一次，但该类不使用任何后台线程：
+ * 每次计数或读取时检查是否已经到达下一个周期，到达时由其中一个线程补算所有错过的周期。
+ * 因此即使创建成千上万个速率计，每个也只占用少量字段，且长时间不被访问的速率计不会产生任何开销。</p>
+ *
+ * <p>作为 {@link MutableNumber}，其值为最近 1 分钟的每秒平均速率，可以直接交给读取 {@link #doubleValue()} 的已有代码使用。</p>
+ *
+ * <p>注 1，速率的更新周期为 {@link #TICK_INTERVAL_SECONDS} 秒，因此读取到的速率最多滞后一个周期。</p>
+ *
+ * <p>注 2，值由事件决定，不支持 {@link #setValue(Number)}；实例之间按引用比较。</p>
+ *
+ * <p>该类是线程安全的。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class EwmaRateMeter extends MutableNumber<Number> {
+    private static final long serialVersionUID = -3415837069281146310L;
+
+    /**
+     * 速率的更新周期（秒）
+     */
+    public static final int TICK_INTERVAL_SECONDS = 5;
+
+    private static final long TICK_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(TICK_INTERVAL_SECONDS);
+
+    private static final double M1_ALPHA = alpha(1);
+
+    private static final double M5_ALPHA = alpha(5);
+
+    private static final double M15_ALPHA = alpha(15);
+
+    private static final AtomicLongFieldUpdater<EwmaRateMeter> LAST_TICK_UPDATER = AtomicLongFieldUpdater.newUpdater(EwmaRateMeter.class, "lastTick");
+
+    private final transient LongSupplier clock;
+
+    /**
+     * 所有事件的累计数量
+     */
+    private final StripedMutableLong count = new StripedMutableLong();
+
+    /**
+     * 上一个已结算周期的结束时间（纳秒）
+     */
+    private volatile long lastTick;
+
+    /**
+     * 截至上一个已结算周期的事件数量，只由赢得 {@link #lastTick} CAS 的线程修改；
+     * 该写入发生在 CAS 之后，因此声明为 volatile，以保证下一个赢得 CAS 的线程（可能是其它线程）能读取到最新值
+     */
+    private volatile long committed;
+
+    /**
+     * 每纳秒的速率
+     */
+    private volatile double m1Rate;
+
+    private volatile double m5Rate;
+
+    private volatile double m15Rate;
+
+    /**
+     * 是否已经结算过至少一个周期，第一个周期的瞬时速率直接作为初始速率
+     */
+    private volatile boolean initialized;
+
+    // ----- 构造方法 ----- beginning
+    /**
+     * 创建一个 EwmaRateMeter 实例。
+     */
+    public EwmaRateMeter() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * 使用指定的时钟创建一个 EwmaRateMeter 实例，通常用于测试。
+     *
+     * @param nanoClock 以纳秒为单位的单调时钟，不能为 {@code null}
+     */
+    public EwmaRateMeter(final LongSupplier nanoClock) {
+        super();
+        this.clock = nanoClock;
+        this.lastTick = nanoClock.getAsLong();
+    }
+    // ----- 构造方法 ----- ending
+
+
+
+    // ----- Mark ----- beginning
+    /**
+     * 记录一个事件。
+     */
+    public void mark() {
+        mark(1L);
+    }
+
+    /**
+     * 记录指定数量的事件。
+     *
+     * @param events 事件数量
+     */
+    public void mark(final long events) {
+        tickIfNecessary();
+        count.add(events);
+    }
+
+    /**
+     * 返回已记录的事件总数。
+     *
+     * @return 事件总数
+     */
+    public long getCount() {
+        return count.sum();
+    }
+    // ----- Mark ----- ending
+
+
+
+    // ----- Rate ----- beginning
+    /**
+     * 返回最近 1 分钟的平均速率。
+     *
+     * @param unit 速率的时间单位，例如 {@link TimeUnit#SECONDS} 表示每秒的事件数，不能为 {@code null}
+     * @return 平均速率
+     */
+    public double getOneMinuteRate(final TimeUnit unit) {
+        tickIfNecessary();
+        return m1Rate * unit.toNanos(1);
+    }
+
+    /**
+     * 返回最近 5 分钟的平均速率。
+     *
+     * @param unit 速率的时间单位，例如 {@link TimeUnit#SECONDS} 表示每秒的事件数，不能为 {@code null}
+     * @return 平均速率
+     */
+    public double getFiveMinuteRate(final TimeUnit unit) {
+        tickIfNecessary();
+        return m5Rate * unit.toNanos(1);
+    }
+
+    /**
+     * 返回最近 15 分钟的平均速率。
+     *
+     * @param unit 速率的时间单位，例如 {@link TimeUnit#SECONDS} 表示每秒的事件数，不能为 {@code null}
+     * @return 平均速率
+     */
+    public double getFifteenMinuteRate(final TimeUnit unit) {
+        tickIfNecessary();
+        return m15Rate * unit.toNanos(1);
+    }
+    // ----- Rate ----- ending
+
+
+
+    // ----- MutableNumber ----- beginning
+    /**
+     * 不支持，速率计的值只能由事件决定。
+     *
+     * @param value 忽略
+     * @throws UnsupportedOperationException 总是抛出此异常
+     */
+    @Override
+    public void setValue(final Number value) {
+        throw new UnsupportedOperationException("EwmaRateMeter value is derived from marked events");
+    }
+
+    /**
+     * 以 {@link Double} 实例的形式返回最近 1 分钟的每秒平均速率。
+     *
+     * @return 每秒平均速率的 {@link Double} 实例，不会为 {@code null}
+     */
+    @Override
+    public Double getValue() {
+        return Double.valueOf(doubleValue());
+    }
+
+    /**
+     * 以 int 类型返回最近 1 分钟的每秒平均速率，小数部分被截断。
+     *
+     * @return 每秒平均速率
+     */
+    @Override
+    public int intValue() {
+        return (int) doubleValue();
+    }
+
+    /**
+     * 以 long 类型返回最近 1 分钟的每秒平均速率，小数部分被截断。
+     *
+     * @return 每秒平均速率
+     */
+    @Override
+    public long longValue() {
+        return (long) doubleValue();
+    }
+
+    /**
+     * 以 float 类型返回最近 1 分钟的每秒平均速率。
+     *
+     * @return 每秒平均速率
+     */
+    @Override
+    public float floatValue() {
+        return (float) doubleValue();
+    }
+
+    /**
+     * 返回最近 1 分钟的每秒平均速率。
+     *
+     * @return 每秒平均速率
+     */
+    @Override
+    public double doubleValue() {
+        return getOneMinuteRate(TimeUnit.SECONDS);
+    }
+
+    /**
+     * 以每秒平均速率的形式追加，与 {@link #toString()} 相同。
+     *
+     * @param builder 目标，不能为 {@code null}
+     * @return 目标 {@code builder}
+     */
+    @Override
+    public StringBuilder appendTo(final StringBuilder builder) {
+        return builder.append(doubleValue());
+    }
+
+    /**
+     * 以每秒平均速率的形式追加，与 {@link #toString()} 相同。
+     *
+     * @param appendable 目标，不能为 {@code null}
+     * @return 目标 {@code appendable}
+     * @throws IOException 当目标追加字符失败时抛出此异常
+     */
+    @Override
+    public Appendable appendTo(final Appendable appendable) throws IOException {
+        return new MutableDouble(doubleValue()).appendTo(appendable);
+    }
+
+    /**
+     * 以每秒平均速率的形式写入，与 {@link #toString()} 相同。
+     *
+     * @param bytes 目标数组，不能为 {@code null}
+     * @param offset 写入的起始索引
+     * @return 写入的最后一个字节之后的索引
+     * @throws IndexOutOfBoundsException 当数组的剩余空间不足时抛出此异常
+     */
+    @Override
+    public int writeAscii(final byte[] bytes, final int offset) {
+        return new MutableDouble(doubleValue()).writeAscii(bytes, offset);
+    }
+
+    /**
+     * 以每秒平均速率的形式写入，与 {@link #toString()} 相同。
+     *
+     * @param buffer 目标缓冲区，不能为 {@code null}
+     * @return 目标缓冲区
+     * @throws java.nio.BufferOverflowException 当缓冲区的剩余空间不足时抛出此异常
+     */
+    @Override
+    public ByteBuffer writeAscii(final ByteBuffer buffer) {
+        return new MutableDouble(doubleValue()).writeAscii(buffer);
+    }
+
+    /**
+     * <p>将此实例和另一个 {@link MutableNumber} 对象进行 double 值的升序比较。</p>
+     *
+     * @param o 另一个 {@link MutableNumber} 实现对象，不能为 {@code null}
+     * @return 若此实例的速率较小则返回负数；若此实例的速率较大则返回正数；若相等则返回 0
+     * @throws NullPointerException 当指定参数为 {@code null} 时抛出此异常
+     */
+    @Override
+    public int compareTo(final MutableNumber o) {
+        return Double.compare(doubleValue(), o.doubleValue());
+    }
+    // ----- MutableNumber ----- ending
+
+
+
+    /**
+     * 到达下一个周期时，由赢得 CAS 的线程结算所有已经结束的周期。
+     */
+    private void tickIfNecessary() {
+        final long last = lastTick;
+        final long age = clock.getAsLong() - last;
+        if (age < TICK_INTERVAL_NANOS) {
+            return;
+        }
+        final long ticks = age / TICK_INTERVAL_NANOS;
+        if (!LAST_TICK_UPDATER.compareAndSet(this, last, last + ticks * TICK_INTERVAL_NANOS)) {
+            // 其它线程正在结算
+            return;
+        }
+        final long total = count.sum();
+        final double instantRate = (double) (total - committed) / TICK_INTERVAL_NANOS;
+        committed = total;
+        if (initialized) {
+            m1Rate += M1_ALPHA * (instantRate - m1Rate);
+            m5Rate += M5_ALPHA * (instantRate - m5Rate);
+            m15Rate += M15_ALPHA * (instantRate - m15Rate);
+        } else {
+            m1Rate = instantRate;
+            m5Rate = instantRate;
+            m15Rate = instantRate;
+            initialized = true;
+        }
+        if (ticks > 1) {
+            // 之后的周期中没有被计数的事件（事件都计入了第一个周期），速率只衰减
+            m1Rate *= Math.pow(1 - M1_ALPHA, ticks - 1);
+            m5Rate *= Math.pow(1 - M5_ALPHA, ticks - 1);
+            m15Rate *= Math.pow(1 - M15_ALPHA, ticks - 1);
+        }
+    }
+
+    private static double alpha(final int minutes) {
+        return 1 - Math.exp(-TICK_INTERVAL_SECONDS / 60.0D / minutes);
+    }
+
+    /**
+     * 以字符串类型返回最近 1 分钟的每秒平均速率。
+     *
+     * @return 每秒平均速率的字符串类型
+     */
+    @Override
+    public String toString() {
+        return String.valueOf(doubleValue());
+    }
+
+    /**
+     * 序列化时以当前最近 1 分钟每秒平均速率的 {@link MutableDouble} 快照替代。
+     *
+     * @return 当前速率的快照
+     */
+    private Object writeReplace() {
+        return new MutableDouble(doubleValue());
+    }
+}
\ No newline at end of file
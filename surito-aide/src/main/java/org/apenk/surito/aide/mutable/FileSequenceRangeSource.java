@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>将分配进度持久化到文件中的 {@link SequenceRangeSource}，进程重启后从上次的进度继续分配，不会重复。</p>
+ *
+ * <p>文件中只保存一个大端字节序的 long 值，即下一个尚未分配的值。每次分配号段时，先将新的进度写入文件并强制落盘，
+ * 再返回号段，因此即使进程在号段用完前崩溃，重启后也不会重新分配已经交出的值，代价是未用完的号段会被跳过。
+ * 落盘的开销由号段的长度分摊，号段越长，落盘越少，但重启时跳过的值也越多。</p>
+ *
+ * <p>该类是线程安全的。同一个文件同时只应由一个实例使用。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class FileSequenceRangeSource implements SequenceRangeSource, Closeable {
+
+    private final Path path;
+
+    private final FileChannel channel;
+
+    /**
+     * 用于读写进度的缓冲区，受 this 锁保护
+     */
+    private final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+
+    /**
+     * 下一个尚未分配的值，受 this 锁保护
+     */
+    private long next;
+
+    private FileSequenceRangeSource(final Path path, final FileChannel channel, final long next) {
+        super();
+        this.path = path;
+        this.channel = channel;
+        this.next = next;
+    }
+
+    /**
+     * <p>打开或创建一个进度文件。</p>
+     *
+     * <p>文件不存在或为空时，从指定的初始值开始分配；否则从文件中保存的进度继续分配，忽略初始值。</p>
+     *
+     * @param path 文件路径，不能为 {@code null}
+     * @param initialValue 新文件的第一个号段的起始值
+     * @return 号段来源
+     * @throws IOException 当文件无法打开，或已有文件的格式不正确时抛出此异常
+     */
+    public static FileSequenceRangeSource open(final Path path, final long initialValue) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            final long size = channel.size();
+            final long next;
+            if (size == 0) {
+                next = initialValue;
+            } else if (size == Long.BYTES) {
+                final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, buffer.position()) < 0) {
+                        throw new IOException("Unexpected end of sequence file " + path);
+                    }
+                }
+                next = buffer.getLong(0);
+            } else {
+                throw new IOException("Sequence file " + path + " has size " + size + ", expected " + Long.BYTES);
+            }
+            final FileSequenceRangeSource source = new FileSequenceRangeSource(path, channel, next);
+            if (size == 0) {
+                source.persist(next);
+            }
+            return source;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UncheckedIOException 当进度无法写入文件时抛出此异常，此时不会分配号段
+     */
+    @Override
+    public synchronized long reserve(final int size) {
+        final long start = next;
+        if (start > Long.MAX_VALUE - size) {
+            throw new IllegalStateException("Sequence exhausted: [" + start + "]");
+        }
+        try {
+            persist(start + size);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to persist sequence to " + path, e);
+        }
+        next = start + size;
+        return start;
+    }
+
+    /**
+     * 返回下一个尚未分配的值。
+     *
+     * @return 下一个尚未分配的值
+     */
+    public synchronized long peek() {
+        return next;
+    }
+
+    /**
+     * 返回文件路径。
+     *
+     * @return 文件路径
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * 关闭文件通道，已分配的进度均已落盘。
+     *
+     * @throws IOException 当关闭通道失败时抛出此异常
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private synchronized void persist(final long value) throws IOException {
+        buffer.clear();
+        buffer.putLong(0, value);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, buffer.position());
+        }
+        channel.force(false);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import java.io.Serializable;
+
+/**
+ * <p>对数-线性（log-linear）直方图的分桶规则，由 {@link MutableHistogram} 和 {@link ConcurrentMutableHistogram} 共用。</p>
+ *
+ * <p>设精度位数为 {@code p}：小于 {@code 2^p} 的值各占一个桶，是精确的；
+ * 对于更大的值，保留其最高的 {@code p} 位，即每个 2 的幂区间再线性地划分为 {@code 2^(p-1)} 个桶。
+ * 因此任意值所在桶的宽度不超过该值的 {@code 2^-(p-1)}，桶的数量只与精度位数和最大可记录值有关。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+final class HistogramLayout implements Serializable {
+    private static final long serialVersionUID = -4938107519442040873L;
+
+    /**
+     * 精度位数的上限
+     */
+    static final int MAX_PRECISION_BITS = 20;
+
+    private final int precisionBits;
+
+    private final long highestTrackableValue;
+
+    /**
+     * 每个 2 的幂区间的桶数量，即 {@code 2^(p-1)}
+     */
+    private final int halfCount;
+
+    private final int bucketCount;
+
+    HistogramLayout(final long highestTrackableValue, final int precisionBits) {
+        super();
+        if (precisionBits < 1 || precisionBits > MAX_PRECISION_BITS) {
+            throw new IllegalArgumentException("Precision bits must be in range [1, " + MAX_PRECISION_BITS + "]: [" + precisionBits + "]");
+        }
+        if (highestTrackableValue < 1) {
+            throw new IllegalArgumentException("Highest trackable value must be positive: [" + highestTrackableValue + "]");
+        }
+        this.precisionBits = precisionBits;
+        this.highestTrackableValue = highestTrackableValue;
+        this.halfCount = 1 << (precisionBits - 1);
+        this.bucketCount = indexOf(highestTrackableValue) + 1;
+    }
+
+    int getPrecisionBits() {
+        return precisionBits;
+    }
+
+    long getHighestTrackableValue() {
+        return highestTrackableValue;
+    }
+
+    int getBucketCount() {
+        return bucketCount;
+    }
+
+    /**
+     * 检查值是否为非负数，并将超过最大可记录值的值截断为最大可记录值。
+     */
+    long clamp(final long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative value cannot be recorded: [" + value + "]");
+        }
+        return value > highestTrackableValue ? highestTrackableValue : value;
+    }
+
+    /**
+     * 返回非负值所在桶的索引。
+     */
+    int indexOf(final long value) {
+        final int shift = 64 - Long.numberOfLeadingZeros(value) - precisionBits;
+        if (shift <= 0) {
+            return (int) value;
+        }
+        return shift * halfCount + (int) (value >>> shift);
+    }
+
+    /**
+     * 返回指定桶中的最小值。
+     */
+    long lowestValueAt(final int index) {
+        final int shift = index / halfCount - 1;
+        if (shift <= 0) {
+            return index;
+        }
+        return (long) (index - shift * halfCount) << shift;
+    }
+
+    /**
+     * 返回指定桶中的最大值。
+     */
+    long highestValueAt(final int index) {
+        final int shift = index / halfCount - 1;
+        if (shift <= 0) {
+            return index;
+        }
+        return ((long) (index - shift * halfCount + 1) << shift) - 1;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj instanceof HistogramLayout) {
+            final HistogramLayout other = (HistogramLayout) obj;
+            return precisionBits == other.precisionBits && highestTrackableValue == other.highestTrackableValue;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * precisionBits + Long.hashCode(highestTrackableValue);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * <p>{@link Mutable} 的 int 特化版本，读写值时不会装箱。</p>
+ *
+ * <p>通过 {@link Mutable} 接口读写 int 值时，{@link Mutable#getValue()} 和 {@link Mutable#setValue(Object)} 都需要经过 {@link Integer}；
+ * 面向此接口编写的通用代码则直接以 int 类型读写。实现类有 {@link MutableInt}、{@link AtomicMutableInt}、{@link PaddedMutableInt}、{@link MappedMutableInt}、{@link MutableIntArray.Slot}，
+ * 以及 {@link MutableShort} 和 {@link MutableByte}（二者的 {@link #set(int)} 只接受各自取值范围内的值）。</p>
+ *
+ * <p>注，{@code updateAndGet} 等默认方法由 {@link #getAsInt()} 和 {@link #set(int)} 组成，并非原子操作；
+ * 线程安全的实现类会将其重写为原子操作。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public interface IntMutable extends IntSupplier {
+
+    /**
+     * 返回当前值。
+     *
+     * @return 当前值
+     */
+    @Override
+    int getAsInt();
+
+    /**
+     * 设置值。
+     *
+     * @param value 要设置的值
+     */
+    void set(int value);
+
+    /**
+     * 使用指定函数更新值并返回更新后的值。
+     *
+     * @param updateFunction 更新函数，不能为 {@code null}
+     * @return 更新之后的值
+     */
+    default int updateAndGet(final IntUnaryOperator updateFunction) {
+        final int next = updateFunction.applyAsInt(getAsInt());
+        set(next);
+        return next;
+    }
+
+    /**
+     * 使用指定函数更新值并返回更新前的值。
+     *
+     * @param updateFunction 更新函数，不能为 {@code null}
+     * @return 更新之前的值
+     */
+    default int getAndUpdate(final IntUnaryOperator updateFunction) {
+        final int previous = getAsInt();
+        set(updateFunction.applyAsInt(previous));
+        return previous;
+    }
+
+    /**
+     * 使用指定函数将当前值与给定值合并，并返回合并后的值。
+     *
+     * @param x 给定值，作为函数的第二个参数
+     * @param accumulatorFunction 合并函数，第一个参数为当前值，不能为 {@code null}
+     * @return 合并之后的值
+     */
+    default int accumulateAndGet(final int x, final IntBinaryOperator accumulatorFunction) {
+        final int next = accumulatorFunction.applyAsInt(getAsInt(), x);
+        set(next);
+        return next;
+    }
+
+    /**
+     * 使用指定函数将当前值与给定值合并，并返回合并前的值。
+     *
+     * @param x 给定值，作为函数的第二个参数
+     * @param accumulatorFunction 合并函数，第一个参数为当前值，不能为 {@code null}
+     * @return 合并之前的值
+     */
+    default int getAndAccumulate(final int x, final IntBinaryOperator accumulatorFunction) {
+        final int previous = getAsInt();
+        set(accumulatorFunction.applyAsInt(previous, x));
+        return previous;
+    }
+}
\ No newline at end of file
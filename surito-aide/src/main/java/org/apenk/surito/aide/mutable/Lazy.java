@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Supplier;
+
+/**
+ * <p>延迟计算并记住结果的 {@link Mutable} 容器。</p>
+ *
+ * <p>值在第一次通过 {@link #getValue()} 或 {@link #get()} 读取时才由构造时给定的 {@link Supplier} 计算，之后直接返回已计算的值，
+ * 计算完成后不再持有 {@link Supplier}。也可以在计算之前或之后通过 {@link #setValue(Object)} 直接设置值，此时不会再进行计算。</p>
+ *
+ * <p>有两种初始化模式：</p>
+ * <ul>
+ *     <li>{@link #of(Supplier)}：双重检查加锁，保证计算最多只成功执行一次，适合计算代价高或有副作用的场景；</li>
+ *     <li>{@link #racy(Supplier)}：不加锁，多个线程同时第一次读取时可能各自计算，但只有一个结果会被发布，所有线程读取到的都是同一个值，
+ *     适合计算代价低、无副作用、只是不希望提前计算的场景。</li>
+ * </ul>
+ *
+ * <p>注 1，值可以为 {@code null}，计算结果为 {@code null} 时同样会被记住。</p>
+ *
+ * <p>注 2，计算抛出异常时，异常会传递给读取方，容器保持未初始化的状态，下一次读取时会重新计算。</p>
+ *
+ * <p>该类是线程安全的。</p>
+ *
+ * @param <T> 值的类型
+ * @author Kweny
+ * @since 0.0.1
+ */
+public final class Lazy<T> implements Mutable<T>, Supplier<T> {
+
+    /**
+     * 表示尚未初始化的标记
+     */
+    private static final Object UNINITIALIZED = new Object();
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Lazy, Object> VALUE_UPDATER = AtomicReferenceFieldUpdater.newUpdater(Lazy.class, Object.class, "value");
+
+    private final boolean racy;
+
+    /**
+     * 计算值的函数，初始化后置为 {@code null}
+     */
+    private volatile Supplier<? extends T> supplier;
+
+    private volatile Object value = UNINITIALIZED;
+
+    private Lazy(final Supplier<? extends T> supplier, final boolean racy) {
+        super();
+        if (supplier == null) {
+            throw new NullPointerException("Supplier must not be null");
+        }
+        this.supplier = supplier;
+        this.racy = racy;
+    }
+
+    /**
+     * 创建一个保证计算最多只成功执行一次的 Lazy 实例。
+     *
+     * @param supplier 计算值的函数，不能为 {@code null}
+     * @param <T> 值的类型
+     * @return Lazy 实例
+     * @throws NullPointerException 当 {@code supplier} 为 {@code null} 时抛出此异常
+     */
+    public static <T> Lazy<T> of(final Supplier<? extends T> supplier) {
+        return new Lazy<>(supplier, false);
+    }
+
+    /**
+     * 创建一个不加锁、并发首次读取时可能重复计算的 Lazy 实例。
+     *
+     * @param supplier 计算值的函数，不能为 {@code null}，应当无副作用
+     * @param <T> 值的类型
+     * @return Lazy 实例
+     * @throws NullPointerException 当 {@code supplier} 为 {@code null} 时抛出此异常
+     */
+    public static <T> Lazy<T> racy(final Supplier<? extends T> supplier) {
+        return new Lazy<>(supplier, true);
+    }
+
+    /**
+     * 返回值，尚未初始化时先进行计算。
+     *
+     * @return 值，可能为 {@code null}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getValue() {
+        final Object current = value;
+        if (current != UNINITIALIZED) {
+            return (T) current;
+        }
+        return racy ? computeRacy() : computeLocked();
+    }
+
+    /**
+     * 与 {@link #getValue()} 相同。
+     *
+     * @return 值，可能为 {@code null}
+     */
+    @Override
+    public T get() {
+        return getValue();
+    }
+
+    /**
+     * 直接设置值。无论是否已经初始化，之后读取到的都是该值，且不会再进行计算。
+     *
+     * @param value 要设置的值，可以为 {@code null}
+     */
+    @Override
+    public synchronized void setValue(final T value) {
+        this.value = value;
+        this.supplier = null;
+    }
+
+    /**
+     * 检查值是否已经计算或设置。
+     *
+     * @return 已经初始化时返回 {@code true}，否则返回 {@code false}
+     */
+    public boolean isInitialized() {
+        return value != UNINITIALIZED;
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized T computeLocked() {
+        Object current = value;
+        if (current == UNINITIALIZED) {
+            current = supplier.get();
+            value = current;
+            supplier = null;
+        }
+        return (T) current;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T computeRacy() {
+        final Supplier<? extends T> supplier = this.supplier;
+        if (supplier == null) {
+            // supplier 在 value 写入之后才被清除，因此此时 value 已经初始化
+            return (T) value;
+        }
+        final T computed = supplier.get();
+        if (VALUE_UPDATER.compareAndSet(this, UNINITIALIZED, computed)) {
+            this.supplier = null;
+            return computed;
+        }
+        return (T) value;
+    }
+
+    /**
+     * 以 {@code Lazy[value]} 的格式返回字符串，尚未初始化时不会触发计算，返回 {@code Lazy[<uninitialized>]}。
+     *
+     * @return 字符串表示
+     */
+    @Override
+    public String toString() {
+        final Object current = value;
+        return "Lazy[" + (current == UNINITIALIZED ? "<uninitialized>" : String.valueOf(current)) + "]";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>基于内存映射文件的一组持久化 int 计数器。</p>
+ *
+ * <p>文件布局（大端字节序）：</p>
+ * <pre>
+ *     偏移 0：魔数 {@link #MAGIC}（int）
+ *     偏移 4：槽位数量（int）
+ *     偏移 8 起：各个槽位的值，每个槽位 4 字节
+ * </pre>
+ *
+ * <p>计数器的值直接写入映射内存，由操作系统负责写回磁盘，因此进程重启后依然保留，
+ * 监控进程也可以按上述布局映射同一个文件，零拷贝地读取计数器的值。
+ * 若需要控制落盘时机，可以调用 {@link #force()}，或通过 {@link #scheduleForce(ScheduledExecutorService, long, TimeUnit)} 定期落盘。</p>
+ *
+ * <p>该类是线程安全的，同一文件中所有计数器的更新都以映射缓冲区为锁进行同步，参见 {@link MappedMutableInt}。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class MappedCounterFile implements Closeable {
+
+    /**
+     * 文件头中的魔数，用于识别计数器文件
+     */
+    public static final int MAGIC = 0x5355434E;
+
+    /**
+     * 文件头的字节数
+     */
+    public static final int HEADER_BYTES = 8;
+
+    private final Path path;
+
+    private final FileChannel channel;
+
+    private final MappedByteBuffer buffer;
+
+    private final int slots;
+
+    private MappedCounterFile(final Path path, final FileChannel channel, final MappedByteBuffer buffer, final int slots) {
+        super();
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.slots = slots;
+    }
+
+    /**
+     * <p>打开或创建一个计数器文件。</p>
+     *
+     * <p>如果文件不存在或为空，则创建一个包含指定数量槽位、所有值均为 0 的文件；
+     * 如果文件已存在，则校验其魔数和槽位数量，并保留其中已有的值。</p>
+     *
+     * @param path 文件路径，不能为 {@code null}
+     * @param slots 槽位数量
+     * @return 计数器文件
+     * @throws IllegalArgumentException 当槽位数量不为正数或过大时抛出此异常
+     * @throws IOException 当文件无法打开或映射，或已有文件的格式、槽位数量不匹配时抛出此异常
+     */
+    public static MappedCounterFile open(final Path path, final int slots) throws IOException {
+        if (slots <= 0 || slots > (Integer.MAX_VALUE - HEADER_BYTES) / Integer.BYTES) {
+            throw new IllegalArgumentException("Invalid slot count: [" + slots + "]");
+        }
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            final long existing = channel.size();
+            final int size = HEADER_BYTES + slots * Integer.BYTES;
+            if (existing != 0 && existing != size) {
+                throw new IOException("Counter file " + path + " has size " + existing + ", expected " + size + " for " + slots + " slots");
+            }
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            if (existing == 0) {
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(4, slots);
+            } else if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != slots) {
+                throw new IOException("Counter file " + path + " has an unrecognized header");
+            }
+            return new MappedCounterFile(path, channel, buffer, slots);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 获取指定槽位的计数器。返回的计数器只是槽位的视图，多次获取同一槽位得到的实例共享同一个值。
+     *
+     * @param slot 槽位索引
+     * @return 该槽位的计数器
+     * @throws IndexOutOfBoundsException 当槽位索引越界时抛出此异常
+     */
+    public MappedMutableInt counter(final int slot) {
+        if (slot < 0 || slot >= slots) {
+            throw new IndexOutOfBoundsException("Slot " + slot + " out of range [0, " + slots + ")");
+        }
+        return new MappedMutableInt(buffer, HEADER_BYTES + slot * Integer.BYTES);
+    }
+
+    /**
+     * 返回槽位的数量。
+     *
+     * @return 槽位的数量
+     */
+    public int slots() {
+        return slots;
+    }
+
+    /**
+     * 返回文件路径。
+     *
+     * @return 文件路径
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * <p>将所有计数器的当前值强制写回磁盘。</p>
+     *
+     * <p>注，落盘时不持有计数器的锁，不会阻塞其它线程对计数器的读写；落盘期间发生的写入可能被写回，也可能留到下一次落盘。</p>
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    /**
+     * 使用指定的调度器定期调用 {@link #force()}。调度器由调用方管理，关闭此文件前应取消返回的任务。
+     *
+     * @param executor 调度器，不能为 {@code null}
+     * @param period 落盘周期
+     * @param unit 周期的时间单位，不能为 {@code null}
+     * @return 定期落盘的任务，可用于取消
+     */
+    public ScheduledFuture<?> scheduleForce(final ScheduledExecutorService executor, final long period, final TimeUnit unit) {
+        return executor.scheduleAtFixedRate(this::force, period, period, unit);
+    }
+
+    /**
+     * 将所有计数器落盘并关闭文件通道。
+     *
+     * <p>由于 Java 8 没有公开的解除映射的方法，映射内存会在缓冲区被回收时释放，
+     * 因此关闭后仍持有的 {@link MappedMutableInt} 实例依然可以读写，但不应再使用。</p>
+     *
+     * @throws IOException 当关闭通道失败时抛出此异常
+     */
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+}
\ No newline at end of file
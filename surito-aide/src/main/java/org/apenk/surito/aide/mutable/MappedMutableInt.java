@@ -0,0 +1,437 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import java.nio.ByteBuffer;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * <p>值存放在 {@link ByteBuffer} 某个槽位中的可变 int 类型包装。</p>
+ *
+ * <p>当缓冲区为直接缓冲区（direct buffer）或 {@link java.nio.MappedByteBuffer} 时，值位于堆外内存，不会被 GC 扫描；
+ * 若为内存映射文件，则值在进程重启后依然保留，且可以被同一台机器上的其它进程直接读取。
+ * 通常通过 {@link MappedCounterFile#counter(int)} 获取实例。</p>
+ *
+ * <p>注 1，槽位必须按 4 字节对齐，以保证其它进程读取时不会读到被撕裂的值。</p>
+ *
+ * <p>注 2，同一进程内，对同一个缓冲区中所有槽位的读写都以该缓冲区对象为锁进行同步，因此复合运算在进程内是原子的；
+ * 跨进程时只有单次读写是原子的，如果有多个进程同时写入同一个槽位，需要自行协调。</p>
+ *
+ * <p>注 3，序列化时只会写出当前值的一个 {@link MutableInt} 快照，反序列化得到的是 {@link MutableInt} 实例。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class MappedMutableInt extends MutableNumber<Number> implements IntMutable {
+    private static final long serialVersionUID = 6086133905178405227L;
+
+    /**
+     * 存放值的缓冲区，同时作为同步锁
+     */
+    private final transient ByteBuffer buffer;
+
+    /**
+     * 值在缓冲区中的字节偏移量
+     */
+    private final int offset;
+
+    // ----- 构造方法 ----- beginning
+    /**
+     * 创建一个以指定缓冲区的指定偏移量为存储位置的 MappedMutableInt 实例，不会修改该位置已有的值。
+     *
+     * @param buffer 缓冲区，不能为 {@code null}
+     * @param offset 值在缓冲区中的字节偏移量，必须按 4 字节对齐，且 {@code offset + 4} 不能超过缓冲区的 {@link ByteBuffer#limit()}
+     * @throws NullPointerException 当缓冲区为 {@code null} 时抛出此异常
+     * @throws IllegalArgumentException 当偏移量未对齐或越界时抛出此异常
+     */
+    public MappedMutableInt(final ByteBuffer buffer, final int offset) {
+        super();
+        if (offset < 0 || offset > buffer.limit() - Integer.BYTES) {
+            throw new IllegalArgumentException("Offset out of bounds: [offset=" + offset + ", limit=" + buffer.limit() + "]");
+        }
+        if ((offset & (Integer.BYTES - 1)) != 0) {
+            throw new IllegalArgumentException("Offset must be aligned to " + Integer.BYTES + " bytes: [" + offset + "]");
+        }
+        this.buffer = buffer;
+        this.offset = offset;
+    }
+    // ----- 构造方法 ----- ending
+
+
+
+    // ----- Set/Get ----- beginning
+    /**
+     * 使用一个 {@link Number} 实例设置值。
+     *
+     * @param value 要设置的值，不能为 {@code null}
+     * @throws NullPointerException 当指定的值为 {@code null} 时抛出此异常
+     */
+    @Override
+    public void setValue(final Number value) {
+        setValue(value.intValue());
+    }
+
+    /**
+     * 设置值
+     *
+     * @param value 要设置的值
+     */
+    public void setValue(final int value) {
+        synchronized (buffer) {
+            buffer.putInt(offset, value);
+        }
+    }
+
+    /**
+     * 以 int 类型返回值，与 {@link #intValue()} 相同。
+     *
+     * @return int 类型的值
+     */
+    @Override
+    public int getAsInt() {
+        return intValue();
+    }
+
+    /**
+     * 设置值，与 {@link #setValue(int)} 相同。
+     *
+     * @param value 要设置的值
+     */
+    @Override
+    public void set(final int value) {
+        setValue(value);
+    }
+
+    /**
+     * 以 {@link Integer} 实例的形式获取值。
+     *
+     * @return 值得 {@link Integer} 实例，不会为 {@code null}
+     */
+    @Override
+    public Integer getValue() {
+        return Integer.valueOf(intValue());
+    }
+
+    /**
+     * 以 int 类型返回该 MappedMutableInt 实例的值
+     *
+     * @return int 类型的值
+     */
+    @Override
+    public int intValue() {
+        synchronized (buffer) {
+            return buffer.getInt(offset);
+        }
+    }
+
+    /**
+     * 以 long 类型返回该 MappedMutableInt 实例的值
+     *
+     * @return long 类型的值
+     */
+    @Override
+    public long longValue() {
+        return intValue();
+    }
+
+    /**
+     * 以 float 类型返回该 MappedMutableInt 实例的值
+     *
+     * @return float 类型的值
+     */
+    @Override
+    public float floatValue() {
+        return intValue();
+    }
+
+    /**
+     * 以 double 类型返回该 MappedMutableInt 实例的值
+     *
+     * @return double 类型的值
+     */
+    @Override
+    public double doubleValue() {
+        return intValue();
+    }
+
+    /**
+     * 返回值在缓冲区中的字节偏移量。
+     *
+     * @return 字节偏移量
+     */
+    public int getOffset() {
+        return offset;
+    }
+    // ----- Set/Get ----- ending
+
+
+
+    // ----- Atomic ----- beginning
+    /**
+     * 设置新值并返回旧值。
+     *
+     * @param value 要设置的值
+     * @return 设置之前的值
+     */
+    public int getAndSet(final int value) {
+        synchronized (buffer) {
+            final int last = buffer.getInt(offset);
+            buffer.putInt(offset, value);
+            return last;
+        }
+    }
+
+    /**
+     * 如果当前值等于期望值，则将其设置为新值。
+     *
+     * @param expect 期望值
+     * @param update 新值
+     * @return 设置成功时返回 {@code true}；当前值不等于期望值时返回 {@code false}
+     */
+    public boolean compareAndSet(final int expect, final int update) {
+        synchronized (buffer) {
+            if (buffer.getInt(offset) != expect) {
+                return false;
+            }
+            buffer.putInt(offset, update);
+            return true;
+        }
+    }
+
+    /**
+     * 使用指定函数更新值并返回更新后的值，在进程内是原子的。
+     *
+     * @param updateFunction 更新函数，不能为 {@code null}
+     * @return 更新之后的值
+     */
+    @Override
+    public int updateAndGet(final IntUnaryOperator updateFunction) {
+        synchronized (buffer) {
+            final int next = updateFunction.applyAsInt(buffer.getInt(offset));
+            buffer.putInt(offset, next);
+            return next;
+        }
+    }
+
+    /**
+     * 使用指定函数更新值并返回更新前的值，在进程内是原子的。
+     *
+     * @param updateFunction 更新函数，不能为 {@code null}
+     * @return 更新之前的值
+     */
+    @Override
+    public int getAndUpdate(final IntUnaryOperator updateFunction) {
+        synchronized (buffer) {
+            final int previous = buffer.getInt(offset);
+            buffer.putInt(offset, updateFunction.applyAsInt(previous));
+            return previous;
+        }
+    }
+
+    /**
+     * 使用指定函数将当前值与给定值合并，并返回合并后的值，在进程内是原子的。
+     *
+     * @param x 给定值，作为函数的第二个参数
+     * @param accumulatorFunction 合并函数，第一个参数为当前值，不能为 {@code null}
+     * @return 合并之后的值
+     */
+    @Override
+    public int accumulateAndGet(final int x, final IntBinaryOperator accumulatorFunction) {
+        synchronized (buffer) {
+            final int next = accumulatorFunction.applyAsInt(buffer.getInt(offset), x);
+            buffer.putInt(offset, next);
+            return next;
+        }
+    }
+
+    /**
+     * 使用指定函数将当前值与给定值合并，并返回合并前的值，在进程内是原子的。
+     *
+     * @param x 给定值，作为函数的第二个参数
+     * @param accumulatorFunction 合并函数，第一个参数为当前值，不能为 {@code null}
+     * @return 合并之前的值
+     */
+    @Override
+    public int getAndAccumulate(final int x, final IntBinaryOperator accumulatorFunction) {
+        synchronized (buffer) {
+            final int previous = buffer.getInt(offset);
+            buffer.putInt(offset, accumulatorFunction.applyAsInt(previous, x));
+            return previous;
+        }
+    }
+    // ----- Atomic ----- ending
+
+
+
+    // ----- Increment/Decrement ----- beginning
+    /**
+     * 实例值递增 1
+     */
+    public void increment() {
+        addAndGet(1);
+    }
+
+    /**
+     * 对实例值递增 1 并返回。
+     *
+     * @return 递增之后的实例值
+     */
+    public int incrementAndGet() {
+        return addAndGet(1);
+    }
+
+    /**
+     * 返回当前实例值，并对实例值递增 1。
+     *
+     * @return 递增之前的实例值
+     */
+    public int getAndIncrement() {
+        return getAndAdd(1);
+    }
+
+    /**
+     * 实例值递减 1
+     */
+    public void decrement() {
+        addAndGet(-1);
+    }
+
+    /**
+     * 对实例值递减 1 并返回。
+     *
+     * @return 递减之后的实例值
+     */
+    public int decrementAndGet() {
+        return addAndGet(-1);
+    }
+
+    /**
+     * 返回当前实例值，并对实例值递减 1。
+     *
+     * @return 递减之前的实例值
+     */
+    public int getAndDecrement() {
+        return getAndAdd(-1);
+    }
+    // ----- Increment/Decrement ----- ending
+
+
+
+    // ----- Add/Subtract ----- beginning
+    /**
+     * 加法：使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数
+     * @return 当前实例
+     */
+    public MappedMutableInt add(final int operand) {
+        addAndGet(operand);
+        return this;
+    }
+
+    /**
+     * 对实例值使用指定加数进行加法运算后返回。
+     *
+     * @param operand 加数
+     * @return 加法运算后的实例值
+     */
+    public int addAndGet(final int operand) {
+        synchronized (buffer) {
+            final int value = buffer.getInt(offset) + operand;
+            buffer.putInt(offset, value);
+            return value;
+        }
+    }
+
+    /**
+     * 返回当前实例值，并使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数
+     * @return 加法运算之前的实例值
+     */
+    public int getAndAdd(final int operand) {
+        synchronized (buffer) {
+            final int last = buffer.getInt(offset);
+            buffer.putInt(offset, last + operand);
+            return last;
+        }
+    }
+
+    /**
+     * 减法：使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数
+     * @return 当前实例
+     */
+    public MappedMutableInt subtract(final int operand) {
+        addAndGet(-operand);
+        return this;
+    }
+
+    /**
+     * 对实例值使用指定减数进行减法运算后返回。
+     *
+     * @param operand 减数
+     * @return 减法运算后的实例值
+     */
+    public int subtractAndGet(final int operand) {
+        return addAndGet(-operand);
+    }
+
+    /**
+     * 返回当前实例值，并使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数
+     * @return 减法运算之前的实例值
+     */
+    public int getAndSubtract(final int operand) {
+        return getAndAdd(-operand);
+    }
+    // ----- Add/Subtract ----- ending
+
+
+    /**
+     * <p>将此实例和另一个 {@link MutableNumber} 对象进行 int 值的升序比较。</p>
+     *
+     * @param o 另一个 {@link MutableNumber} 实现对象，不能为 {@code null}
+     * @return 若此实例的 int 值较小则返回负数；若此实例的 int 值较大则返回正数；若 int 值相等则返回 0
+     * @throws NullPointerException 当指定参数为 {@code null} 时抛出此异常
+     */
+    @Override
+    public int compareTo(final MutableNumber o) {
+        return Integer.compare(intValue(), o.intValue());
+    }
+
+    /**
+     * 以字符串类型返回实例值。
+     *
+     * @return 实例值的字符串类型
+     */
+    @Override
+    public String toString() {
+        return String.valueOf(intValue());
+    }
+
+    /**
+     * 序列化时以当前值的 {@link MutableInt} 快照替代，缓冲区本身不会被序列化。
+     *
+     * @return 当前值的快照
+     */
+    private Object writeReplace() {
+        return new MutableInt(intValue());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,264 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import java.io.Serializable;
+
+/**
+ * <p>可变的 boolean 类型包装。</p>
+ *
+ * <p>注 1，MutableBoolean 并没有继承和扩展 {@link Boolean} 类型，因此 {@link String#format(String, Object...) 不会将其视为 {@link Boolean} 参数}。</p>
+ *
+ * <p>注 2，该类非线程安全，并非 {@link java.util.concurrent.atomic.AtomicBoolean} 原子操作。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class MutableBoolean implements Mutable<Boolean>, Serializable, Comparable<MutableBoolean> {
+    private static final long serialVersionUID = 4729618205553810394L;
+
+    /**
+     * 可变的值
+     */
+    private boolean value;
+
+    // ----- 构造方法 ----- beginning
+    /**
+     * 使用默认值 {@code false} 创建一个 MutableBoolean 实例。
+     */
+    public MutableBoolean() {
+        super();
+    }
+
+    /**
+     * 使用指定值创建一个 MutableBoolean 实例。
+     *
+     * @param value 初始值
+     */
+    public MutableBoolean(final boolean value) {
+        super();
+        this.value = value;
+    }
+
+    /**
+     * 使用 {@link Boolean} 类型的指定值创建一个 MutableBoolean 实例。
+     *
+     * @param value 初始值，不能为 {@code null}
+     * @throws NullPointerException 如果指定的值为 {@code null} 将抛出此异常
+     */
+    public MutableBoolean(final Boolean value) {
+        super();
+        this.value = value.booleanValue();
+    }
+
+    /**
+     * 使用 {@link Boolean} 类型的指定值创建一个 MutableBoolean 实例，若指定值为 {@code null}，则使用第二个参数作为值。
+     *
+     * @param value 初始值，若为 {@code null} 则使用第二个参数作为默认值
+     * @param defaultValue 当第一个参数为 {@code null} 时的默认值
+     */
+    public MutableBoolean(final Boolean value, final boolean defaultValue) {
+        super();
+        this.value = value != null ? value.booleanValue() : defaultValue;
+    }
+
+    /**
+     * 通过指定的字符串解析为初始值创建一个 MutableBoolean 实例，解析规则同 {@link Boolean#parseBoolean(String)}。
+     *
+     * @param value 要解析的字符串，忽略大小写等于 {@code "true"} 时为 {@code true}，否则为 {@code false}
+     */
+    public MutableBoolean(final String value) {
+        super();
+        this.value = Boolean.parseBoolean(value);
+    }
+    // ----- 构造方法 ----- ending
+
+
+
+    // ----- Set/Get ----- beginning
+    /**
+     * 使用一个 {@link Boolean} 实例设置值。
+     *
+     * @param value 要设置的值，不能为 {@code null}
+     * @throws NullPointerException 当指定的值为 {@code null} 时抛出此异常
+     */
+    @Override
+    public void setValue(final Boolean value) {
+        this.value = value.booleanValue();
+    }
+
+    /**
+     * 使用一个 {@link Boolean} 实例设置值，若为 {@code null}，则使用第二个参数作为默认值。
+     *
+     * @param value 要设置的值，若为 {@code null} 则使用第二个参数作为默认值
+     * @param defaultValue 当指定值为 {@code null} 时的默认值
+     */
+    public void setValue(final Boolean value, final boolean defaultValue) {
+        this.value = value != null ? value.booleanValue() : defaultValue;
+    }
+
+    /**
+     * 设置值
+     *
+     * @param value 要设置的值
+     */
+    public void setValue(final boolean value) {
+        this.value = value;
+    }
+
+    /**
+     * 将值设置为 {@code true}。
+     */
+    public void setTrue() {
+        this.value = true;
+    }
+
+    /**
+     * 将值设置为 {@code false}。
+     */
+    public void setFalse() {
+        this.value = false;
+    }
+
+    /**
+     * 以 {@link Boolean} 实例的形式获取值。
+     *
+     * @return 值得 {@link Boolean} 实例，不会为 {@code null}
+     */
+    @Override
+    public Boolean getValue() {
+        return Boolean.valueOf(this.value);
+    }
+
+    /**
+     * 以 boolean 类型返回该 MutableBoolean 实例的值
+     *
+     * @return boolean 类型的值
+     */
+    public boolean booleanValue() {
+        return value;
+    }
+
+    /**
+     * 检查当前值是否为 {@code true}。
+     *
+     * @return 当前值为 {@code true} 时返回 {@code true}
+     */
+    public boolean isTrue() {
+        return value;
+    }
+
+    /**
+     * 检查当前值是否为 {@code false}。
+     *
+     * @return 当前值为 {@code false} 时返回 {@code true}
+     */
+    public boolean isFalse() {
+        return !value;
+    }
+    // ----- Set/Get ----- ending
+
+
+
+    // ----- Toggle ----- beginning
+    /**
+     * 对实例值取反。
+     */
+    public void toggle() {
+        value = !value;
+    }
+
+    /**
+     * 对实例值取反并返回。
+     *
+     * @return 取反之后的实例值
+     */
+    public boolean toggleAndGet() {
+        value = !value;
+        return value;
+    }
+
+    /**
+     * 返回当前实例值，并对实例值取反。
+     *
+     * @return 取反之前的实例值
+     */
+    public boolean getAndToggle() {
+        final boolean last = value;
+        value = !value;
+        return last;
+    }
+
+    /**
+     * 返回当前实例值，并设置新值。
+     *
+     * @param value 要设置的值
+     * @return 设置之前的实例值
+     */
+    public boolean getAndSet(final boolean value) {
+        final boolean last = this.value;
+        this.value = value;
+        return last;
+    }
+    // ----- Toggle ----- ending
+
+
+    /**
+     * <p>将此实例和另一个 MutableBoolean 对象进行比较，{@code false} 小于 {@code true}。</p>
+     *
+     * @param o 另一个 MutableBoolean 对象，不能为 {@code null}
+     * @return 若此实例的值较小则返回负数；若此实例的值较大则返回正数；若值相等则返回 0
+     * @throws NullPointerException 当指定参数为 {@code null} 时抛出此异常
+     */
+    @Override
+    public int compareTo(final MutableBoolean o) {
+        return Boolean.compare(this.value, o.value);
+    }
+
+    /**
+     * 以字符串类型返回实例值。
+     *
+     * @return 实例值的字符串类型
+     */
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    /**
+     * <p>返回一个适合此可变实例的哈希码，与 {@link Boolean#hashCode()} 的结果一致。</p>
+     *
+     * @return 一个合适的哈希码
+     */
+    @Override
+    public int hashCode() {
+        return Boolean.hashCode(value);
+    }
+
+    /**
+     * <p>将此实例与指定对象进行比较。当且仅当指定对象不为 {@code null} 并是一个包含与此实例值相等的 MutableBoolean 对象时，比较结果才是 {@code true}。</p>
+     *
+     * @param obj 要比较的对象，若为 {@code null} 则返回 {@code false}
+     * @return 若相等返回 {@code true}，否则返回 {@code false}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj instanceof MutableBoolean) {
+            return value == ((MutableBoolean) obj).booleanValue();
+        }
+        return false;
+    }
+}
\ No newline at end of file
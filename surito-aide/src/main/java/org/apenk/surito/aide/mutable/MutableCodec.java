@@ -0,0 +1,461 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import org.apenk.surito.aide.collection.IntIntMap;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>可变数字类型的紧凑二进制编解码工具类，直接读写 {@link ByteBuffer}。</p>
+ *
+ * <p>Java 序列化需要写出类描述和反射得到的字段信息，一个 {@link MutableInt} 需要数十个字节；
+ * 该类只写出值本身：整数默认使用 zigzag 变长编码（varint），绝对值较小的值只占 1 ~ 2 个字节；
+ * 数组也可以选择定长编码（{@link Encoding#FIXED}），适合值普遍较大或需要按偏移量随机访问的场景。</p>
+ *
+ * <p>格式（所有定长值均为 {@link ByteBuffer} 当前的字节序）：</p>
+ * <ul>
+ *     <li>单个值：int/long 为 zigzag varint；double 为 8 字节定长；</li>
+ *     <li>{@link MutableIntArray}：1 字节编码方式 + varint 长度 + 各个值；</li>
+ *     <li>{@link IntIntMap}：varint 映射数量 + 各个映射的 zigzag varint 键和值；</li>
+ *     <li>计数器映射：varint 映射数量 + 各个映射的 varint 名称字节数、UTF-8 名称和 zigzag varint 值。</li>
+ * </ul>
+ *
+ * <p>注 1，写入时缓冲区的剩余空间不足会抛出 {@link java.nio.BufferOverflowException}，此时已经写入的部分数据不会被回滚；
+ * 需要预先分配空间时可以通过 {@link #varIntSize(int)} 等方法计算编码长度。</p>
+ *
+ * <p>注 2，读取到格式错误的数据时抛出 {@link IllegalArgumentException}，数据不完整时抛出 {@link java.nio.BufferUnderflowException}。</p>
+ *
+ * <p>注 3，{@link MutableInt}、{@link MutableLong}、{@link MutableDouble}、{@link MutableFloat}、{@link MutableShort} 和 {@link MutableByte}
+ * 在 Java 序列化时也会以同样紧凑的 {@link java.io.Externalizable} 形式写出，作为无法直接使用该类时的后备方案。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class MutableCodec {
+
+    /**
+     * 数组中整数的编码方式。
+     */
+    public enum Encoding {
+        /**
+         * zigzag 变长编码，每个 int 占 1 ~ 5 个字节
+         */
+        VARINT,
+        /**
+         * 定长编码，每个 int 占 4 个字节
+         */
+        FIXED
+    }
+
+    /**
+     * <p>{@link MutableCodec} 的实例不应该在标准编程中构造，而应该直接使用该类的静态方法。</p>
+     *
+     * <p>该构造方法是 public 的，允许需要对 JavaBean 进行操作的工具使用。</p>
+     */
+    public MutableCodec() {
+        super();
+    }
+
+
+
+    // ----- Varint ----- beginning
+    /**
+     * 返回将 int 值视为无符号数时的 varint 编码长度。
+     *
+     * @param value 值
+     * @return 编码长度，取值范围为 [1, 5]
+     */
+    public static int varIntSize(final int value) {
+        return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    /**
+     * 返回将 long 值视为无符号数时的 varint 编码长度。
+     *
+     * @param value 值
+     * @return 编码长度，取值范围为 [1, 10]
+     */
+    public static int varLongSize(final long value) {
+        return (63 - Long.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    /**
+     * 将 int 值视为无符号数，以 varint 编码写入缓冲区。
+     *
+     * @param buffer 目标缓冲区，不能为 {@code null}
+     * @param value 值
+     */
+    public static void writeVarInt(final ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * 从缓冲区读取一个 varint 编码的 int 值。
+     *
+     * @param buffer 源缓冲区，不能为 {@code null}
+     * @return 值
+     * @throws IllegalArgumentException 当编码超过 5 个字节时抛出此异常
+     */
+    public static int readVarInt(final ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint: more than 5 bytes");
+    }
+
+    /**
+     * 将 long 值视为无符号数，以 varint 编码写入缓冲区。
+     *
+     * @param buffer 目标缓冲区，不能为 {@code null}
+     * @param value 值
+     */
+    public static void writeVarLong(final ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * 从缓冲区读取一个 varint 编码的 long 值。
+     *
+     * @param buffer 源缓冲区，不能为 {@code null}
+     * @return 值
+     * @throws IllegalArgumentException 当编码超过 10 个字节时抛出此异常
+     */
+    public static long readVarLong(final ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            final byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint: more than 10 bytes");
+    }
+
+    /**
+     * 以 zigzag varint 编码写入一个有符号 int 值，绝对值较小的负数同样只占很少的字节。
+     *
+     * @param buffer 目标缓冲区，不能为 {@code null}
+     * @param value 值
+     */
+    public static void writeSignedVarInt(final ByteBuffer buffer, final int value) {
+        writeVarInt(buffer, (value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * 读取一个 zigzag varint 编码的有符号 int 值。
+     *
+     * @param buffer 源缓冲区，不能为 {@code null}
+     * @return 值
+     * @throws IllegalArgumentException 当编码格式错误时抛出此异常
+     */
+    public static int readSignedVarInt(final ByteBuffer buffer) {
+        final int value = readVarInt(buffer);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * 以 zigzag varint 编码写入一个有符号 long 值。
+     *
+     * @param buffer 目标缓冲区，不能为 {@code null}
+     * @param value 值
+     */
+    public static void writeSignedVarLong(final ByteBuffer buffer, final long value) {
+        writeVarLong(buffer, encodeZigZag(value));
+    }
+
+    /**
+     * 读取一个 zigzag varint 编码的有符号 long 值。
+     *
+     * @param buffer 源缓冲区，不能为 {@code null}
+     * @return 值
+     * @throws IllegalArgumentException 当编码格式错误时抛出此异常
+     */
+    public static long readSignedVarLong(final ByteBuffer buffer) {
+        return decodeZigZag(readVarLong(buffer));
+    }
+
+    /**
+     * 以与 {@link #writeSignedVarLong(ByteBuffer, long)} 相同的编码写入一个有符号 long 值，供 Java 序列化等面向流的场景使用。
+     *
+     * @param out 目标输出，不能为 {@code null}
+     * @param value 值
+     * @throws IOException 当写入失败时抛出此异常
+     */
+    static void writeSignedVarLong(final DataOutput out, final long value) throws IOException {
+        long unsigned = encodeZigZag(value);
+        while ((unsigned & ~0x7FL) != 0) {
+            out.writeByte((int) ((unsigned & 0x7F) | 0x80));
+            unsigned >>>= 7;
+        }
+        out.writeByte((int) unsigned);
+    }
+
+    /**
+     * 读取一个由 {@link #writeSignedVarLong(DataOutput, long)} 写入的有符号 long 值。
+     *
+     * @param in 源输入，不能为 {@code null}
+     * @return 值
+     * @throws IOException 当读取失败或编码超过 10 个字节时抛出此异常
+     */
+    static long readSignedVarLong(final DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            final byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return decodeZigZag(value);
+            }
+        }
+        throw new IOException("Malformed varint: more than 10 bytes");
+    }
+
+    private static long encodeZigZag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long decodeZigZag(final long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+    // ----- Varint ----- ending
+
+
+
+    // ----- Single value ----- beginning
+    /**
+     * 以 zigzag varint 编码写入一个可变 int 值。
+     *
+     * @param buffer 目标缓冲区，不能为 {@code null}
+     * @param value 要写入的可变值，不能为 {@code null}
+     */
+    public static void writeInt(final ByteBuffer buffer, final IntMutable value) {
+        writeSignedVarInt(buffer, value.getAsInt());
+    }
+
+    /**
+     * 读取一个 zigzag varint 编码的 int 值并设置到指定的可变值中。
+     *
+     * @param buffer 源缓冲区，不能为 {@code null}
+     * @param target 接收值的可变值，不能为 {@code null}
+     * @param <M> 可变值的类型
+     * @return {@code target}
+     */
+    public static <M extends IntMutable> M readInt(final ByteBuffer buffer, final M target) {
+        target.set(readSignedVarInt(buffer));
+        return target;
+    }
+
+    /**
+     * 以 zigzag varint 编码写入一个可变 long 值。
+     *
+     * @param buffer 目标缓冲区，不能为 {@code null}
+     * @param value 要写入的可变值，不能为 {@code null}
+     */
+    public static void writeLong(final ByteBuffer buffer, final LongMutable value) {
+        writeSignedVarLong(buffer, value.getAsLong());
+    }
+
+    /**
+     * 读取一个 zigzag varint 编码的 long 值并设置到指定的可变值中。
+     *
+     * @param buffer 源缓冲区，不能为 {@code null}
+     * @param target 接收值的可变值，不能为 {@code null}
+     * @param <M> 可变值的类型
+     * @return {@code target}
+     */
+    public static <M extends LongMutable> M readLong(final ByteBuffer buffer, final M target) {
+        target.set(readSignedVarLong(buffer));
+        return target;
+    }
+
+    /**
+     * 以 8 字节定长编码写入一个可变 double 值。
+     *
+     * @param buffer 目标缓冲区，不能为 {@code null}
+     * @param value 要写入的可变值，不能为 {@code null}
+     */
+    public static void writeDouble(final ByteBuffer buffer, final DoubleMutable value) {
+        buffer.putDouble(value.getAsDouble());
+    }
+
+    /**
+     * 读取一个 8 字节定长编码的 double 值并设置到指定的可变值中。
+     *
+     * @param buffer 源缓冲区，不能为 {@code null}
+     * @param target 接收值的可变值，不能为 {@code null}
+     * @param <M> 可变值的类型
+     * @return {@code target}
+     */
+    public static <M extends DoubleMutable> M readDouble(final ByteBuffer buffer, final M target) {
+        target.set(buffer.getDouble());
+        return target;
+    }
+    // ----- Single value ----- ending
+
+
+
+    // ----- Array ----- beginning
+    /**
+     * 以指定的编码方式写入一个 {@link MutableIntArray} 的所有值。
+     *
+     * @param buffer 目标缓冲区，不能为 {@code null}
+     * @param array 要写入的数组，不能为 {@code null}
+     * @param encoding 编码方式，不能为 {@code null}
+     */
+    public static void writeIntArray(final ByteBuffer buffer, final MutableIntArray array, final Encoding encoding) {
+        final int length = array.length();
+        buffer.put((byte) encoding.ordinal());
+        writeVarInt(buffer, length);
+        if (encoding == Encoding.FIXED) {
+            for (int i = 0; i < length; i++) {
+                buffer.putInt(array.getAt(i));
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                writeSignedVarInt(buffer, array.getAt(i));
+            }
+        }
+    }
+
+    /**
+     * 读取一个由 {@link #writeIntArray(ByteBuffer, MutableIntArray, Encoding)} 写入的数组。
+     *
+     * @param buffer 源缓冲区，不能为 {@code null}
+     * @return 新的 {@link MutableIntArray}
+     * @throws IllegalArgumentException 当编码方式或长度不正确时抛出此异常
+     */
+    public static MutableIntArray readIntArray(final ByteBuffer buffer) {
+        final int tag = buffer.get();
+        if (tag != Encoding.VARINT.ordinal() && tag != Encoding.FIXED.ordinal()) {
+            throw new IllegalArgumentException("Unknown array encoding: [" + tag + "]");
+        }
+        final int length = readLength(buffer, tag == Encoding.FIXED.ordinal() ? Integer.BYTES : 1);
+        final MutableIntArray array = new MutableIntArray(length);
+        if (tag == Encoding.FIXED.ordinal()) {
+            for (int i = 0; i < length; i++) {
+                array.setAt(i, buffer.getInt());
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                array.setAt(i, readSignedVarInt(buffer));
+            }
+        }
+        return array;
+    }
+    // ----- Array ----- ending
+
+
+
+    // ----- Map ----- beginning
+    /**
+     * 写入一个 {@link IntIntMap} 的所有映射。
+     *
+     * @param buffer 目标缓冲区，不能为 {@code null}
+     * @param map 要写入的映射，不能为 {@code null}
+     */
+    public static void writeIntIntMap(final ByteBuffer buffer, final IntIntMap map) {
+        writeVarInt(buffer, map.size());
+        map.forEach((key, value) -> {
+            writeSignedVarInt(buffer, key);
+            writeSignedVarInt(buffer, value);
+        });
+    }
+
+    /**
+     * 读取一个由 {@link #writeIntIntMap(ByteBuffer, IntIntMap)} 写入的映射。
+     *
+     * @param buffer 源缓冲区，不能为 {@code null}
+     * @return 新的 {@link IntIntMap}
+     * @throws IllegalArgumentException 当映射数量不正确时抛出此异常
+     */
+    public static IntIntMap readIntIntMap(final ByteBuffer buffer) {
+        final int size = readLength(buffer, 2);
+        final IntIntMap map = new IntIntMap(size);
+        for (int i = 0; i < size; i++) {
+            final int key = readSignedVarInt(buffer);
+            map.put(key, readSignedVarInt(buffer));
+        }
+        return map;
+    }
+
+    /**
+     * <p>写入一组按名称索引的计数器，例如 {@link CounterRegistry#snapshot()} 的结果，值以 long 类型写出。</p>
+     *
+     * @param buffer 目标缓冲区，不能为 {@code null}
+     * @param counters 名称到计数器值的映射，不能为 {@code null}，名称和值都不能为 {@code null}
+     */
+    public static void writeCounters(final ByteBuffer buffer, final Map<String, ? extends Number> counters) {
+        writeVarInt(buffer, counters.size());
+        for (final Map.Entry<String, ? extends Number> entry : counters.entrySet()) {
+            final byte[] name = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            writeVarInt(buffer, name.length);
+            buffer.put(name);
+            writeSignedVarLong(buffer, entry.getValue().longValue());
+        }
+    }
+
+    /**
+     * 读取一组由 {@link #writeCounters(ByteBuffer, Map)} 写入的计数器。
+     *
+     * @param buffer 源缓冲区，不能为 {@code null}
+     * @return 按写入顺序排列的名称到计数器值的映射
+     * @throws IllegalArgumentException 当映射数量或名称长度不正确时抛出此异常
+     */
+    public static Map<String, Long> readCounters(final ByteBuffer buffer) {
+        final int size = readLength(buffer, 2);
+        final Map<String, Long> counters = new LinkedHashMap<>(size * 4 / 3 + 1);
+        for (int i = 0; i < size; i++) {
+            final byte[] name = new byte[readLength(buffer, 1)];
+            buffer.get(name);
+            counters.put(new String(name, StandardCharsets.UTF_8), readSignedVarLong(buffer));
+        }
+        return counters;
+    }
+    // ----- Map ----- ending
+
+
+
+    /**
+     * 读取一个 varint 长度，并以每个元素至少占用的字节数校验其不超过缓冲区的剩余空间，以免错误的数据导致分配过大的数组。
+     */
+    private static int readLength(final ByteBuffer buffer, final int minBytesPerElement) {
+        final int length = readVarInt(buffer);
+        if (length < 0 || (long) length * minBytesPerElement > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid length: [" + length + "], remaining " + buffer.remaining() + " bytes");
+        }
+        return length;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * <p>基本可变数字类型在 Java 序列化时的紧凑替身（serialization proxy）。</p>
+ *
+ * <p>{@link MutableInt} 等类型序列化时通过 {@code writeReplace} 替换为此类，只写出 1 字节的类型标记和值本身（整数使用 zigzag varint），
+ * 不再写出各层父类的类描述和字段信息；反序列化时通过 {@link #readResolve()} 还原为原来的类型。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+final class MutableExternalForm implements Externalizable {
+    private static final long serialVersionUID = 2178562935104237716L;
+
+    private static final byte INT = 1;
+
+    private static final byte LONG = 2;
+
+    private static final byte DOUBLE = 3;
+
+    private static final byte FLOAT = 4;
+
+    private static final byte SHORT = 5;
+
+    private static final byte BYTE = 6;
+
+    private byte type;
+
+    private long bits;
+
+    /**
+     * 供反序列化使用。
+     */
+    public MutableExternalForm() {
+        super();
+    }
+
+    MutableExternalForm(final MutableNumber<?> value) {
+        super();
+        if (value instanceof MutableInt) {
+            this.type = INT;
+            this.bits = value.intValue();
+        } else if (value instanceof MutableLong) {
+            this.type = LONG;
+            this.bits = value.longValue();
+        } else if (value instanceof MutableDouble) {
+            this.type = DOUBLE;
+            this.bits = Double.doubleToRawLongBits(value.doubleValue());
+        } else if (value instanceof MutableFloat) {
+            this.type = FLOAT;
+            this.bits = Float.floatToRawIntBits(value.floatValue());
+        } else if (value instanceof MutableShort) {
+            this.type = SHORT;
+            this.bits = value.shortValue();
+        } else if (value instanceof MutableByte) {
+            this.type = BYTE;
+            this.bits = value.byteValue();
+        } else {
+            throw new IllegalArgumentException("Unsupported mutable type: [" + value.getClass().getName() + "]");
+        }
+    }
+
+    @Override
+    public void writeExternal(final ObjectOutput out) throws IOException {
+        out.writeByte(type);
+        switch (type) {
+            case DOUBLE:
+                out.writeLong(bits);
+                break;
+            case FLOAT:
+                out.writeInt((int) bits);
+                break;
+            default:
+                // 整数类型以 zigzag varint 写出，与 MutableCodec 的编码相同
+                MutableCodec.writeSignedVarLong(out, bits);
+                break;
+        }
+    }
+
+    @Override
+    public void readExternal(final ObjectInput in) throws IOException {
+        type = in.readByte();
+        switch (type) {
+            case DOUBLE:
+                bits = in.readLong();
+                break;
+            case FLOAT:
+                bits = in.readInt();
+                break;
+            default:
+                bits = MutableCodec.readSignedVarLong(in);
+                break;
+        }
+    }
+
+    /**
+     * 还原为原来的可变类型。
+     *
+     * @return 原来类型的实例
+     * @throws InvalidObjectException 当类型标记不正确时抛出此异常
+     */
+    private Object readResolve() throws InvalidObjectException {
+        switch (type) {
+            case INT:
+                return new MutableInt((int) bits);
+            case LONG:
+                return new MutableLong(bits);
+            case DOUBLE:
+                return new MutableDouble(Double.longBitsToDouble(bits));
+            case FLOAT:
+                return new MutableFloat(Float.intBitsToFloat((int) bits));
+            case SHORT:
+                return new MutableShort((short) bits);
+            case BYTE:
+                return new MutableByte((byte) bits);
+            default:
+                throw new InvalidObjectException("Unknown mutable type: [" + type + "]");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,1156 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * <p>可变的 float 类型包装。</p>
+ *
+ * <p>注 1，MutableFloat 并没有继承和扩展 {@link Float} 类型，因此 {@link String#format(String, Object...) 不会将其视为 {@link Float} 参数}。</p>
+ *
+ * <p>注 2，该类非线程安全。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class MutableFloat extends MutableNumber<Number> implements DoubleMutable {
+    private static final long serialVersionUID = 8162509528385005189L;
+
+    /**
+     * 可变的值
+     */
+    private float value;
+
+    // ----- 构造方法 ----- beginning
+    /**
+     * 使用默认值 0 创建一个 MutableFloat 实例。
+     */
+    public MutableFloat() {
+        super();
+    }
+
+    /**
+     * 使用指定值创建一个 MutableFloat 实例。
+     *
+     * @param value 初始值
+     */
+    public MutableFloat(final float value) {
+        super();
+        this.value = value;
+    }
+
+    /**
+     * 使用 {@link Number} 类型的指定值创建一个 MutableFloat 实例。
+     *
+     * @param value 初始值，不能为 {@code null}
+     * @throws NullPointerException 如果指定的值为 {@code null} 将抛出此异常
+     */
+    public MutableFloat(final Number value) {
+        super();
+        this.value = value.floatValue();
+    }
+
+    /**
+     * 使用 {@link Number} 类型的指定值创建一个 MutableFloat 实例，若指定值为 {@code null}，则使用第二个参数作为值。
+     *
+     * @param value 初始值，若为 {@code null} 则使用第二个参数作为默认值
+     * @param defaultValue 当第一个参数为 {@code null} 时的默认值
+     */
+    public MutableFloat(final Number value, final float defaultValue) {
+        super();
+        this.value = value != null ? value.floatValue() : defaultValue;
+    }
+
+    /**
+     * 通过指定的字符串解析为初始值创建一个 MutableFloat 实例。
+     *
+     * @param value 要解析的字符串，不能为 {@code null}
+     * @throws NumberFormatException 如果指定的字符串无法解析为 float 值时抛出此异常
+     */
+    public MutableFloat(final String value) {
+        super();
+        this.value = Float.parseFloat(value);
+    }
+
+    /**
+     * 通过指定的字符串解析为初始值创建一个 MutableFloat 实例，若字符串无法解析为 float 值，则使用第二个参数作为值。
+     *
+     * @param value 要解析的字符串，若无法解析为 float 值时则使用第二个参数作为默认值
+     * @param defaultValue 当指定字符串无法解析为 float 值时的默认值
+     */
+    public MutableFloat(final String value, final float defaultValue) {
+        super();
+        try {
+            this.value = Float.parseFloat(value);
+        } catch (NumberFormatException e) {
+            this.value = defaultValue;
+        }
+    }
+    // ----- 构造方法 ----- ending
+
+
+
+    // ----- Set/Get ----- beginning
+    /**
+     * 使用一个 {@link Number} 实例设置值。
+     *
+     * @param value 要设置的值，不能为 {@code null}
+     * @throws NullPointerException 当指定的值为 {@code null} 时抛出此异常
+     */
+    @Override
+    public void setValue(final Number value) {
+        this.value = value.floatValue();
+    }
+
+    /**
+     * 使用一个 {@link Number} 实例设置值，若为 {@code null}，则使用第二个参数作为默认值。
+     *
+     * @param value 要设置的值，若为 {@code null} 则使用第二个参数作为默认值
+     * @param defaultValue 当指定值为 {@code null} 时的默认值
+     */
+    public void setValue(final Number value, final float defaultValue) {
+        this.value = value != null ? value.floatValue() : defaultValue;
+    }
+
+    /**
+     * 设置值
+     *
+     * @param value 要设置的值
+     */
+    public void setValue(final float value) {
+        this.value = value;
+    }
+
+    /**
+     * 以 double 类型返回值，与 {@link #doubleValue()} 相同，float 到 double 的转换不会损失精度。
+     *
+     * @return double 类型的值
+     */
+    @Override
+    public double getAsDouble() {
+        return doubleValue();
+    }
+
+    /**
+     * 设置值，指定的 double 值会按 {@code (float) value} 舍入为最接近的 float 值，超出 float 范围时变为对应符号的无穷大；
+     * 通过 {@link DoubleMutable} 的默认方法更新值时同样如此。
+     *
+     * @param value 要设置的值
+     */
+    @Override
+    public void set(final double value) {
+        this.value = (float) value;
+    }
+
+    /**
+     * 以 {@link Float} 实例的形式获取值。
+     *
+     * @return 值得 {@link Float} 实例，不会为 {@code null}
+     */
+    @Override
+    public Float getValue() {
+        return Float.valueOf(this.value);
+    }
+
+    /**
+     * 以 int 类型返回该 MutableFloat 实例的值
+     *
+     * @return int 类型的值
+     */
+    @Override
+    public int intValue() {
+        return (int) value;
+    }
+
+    /**
+     * 以 long 类型返回该 MutableFloat 实例的值
+     *
+     * @return long 类型的值
+     */
+    @Override
+    public long longValue() {
+        return (long) value;
+    }
+
+    /**
+     * 以 float 类型返回该 MutableFloat 实例的值
+     *
+     * @return float 类型的值
+     */
+    @Override
+    public float floatValue() {
+        return value;
+    }
+
+    /**
+     * 以 double 类型返回该 MutableFloat 实例的值
+     *
+     * @return double 类型的值
+     */
+    @Override
+    public double doubleValue() {
+        return value;
+    }
+    // ----- Set/Get ----- ending
+
+
+
+    // ----- Increment/Decrement ----- beginning
+    /**
+     * 实例值递增 1
+     */
+    public void increment() {
+        value++;
+    }
+
+    /**
+     * 对实例值递增 1 并返回。
+     *
+     * @return 递增之后的实例值
+     */
+    public float incrementAndGet() {
+        value++;
+        return value;
+    }
+
+    /**
+     * 返回当前实例值，并对实例值递增 1。
+     *
+     * @return 递增之前的实例值
+     */
+    public float getAndIncrement() {
+        final float last = value;
+        value++;
+        return last;
+    }
+
+    /**
+     * 实例值递减 1
+     */
+    public void decrement() {
+        value--;
+    }
+
+    /**
+     * 对实例值递减 1 并返回。
+     *
+     * @return 递减之后的实例值
+     */
+    public float decrementAndGet() {
+        value--;
+        return value;
+    }
+
+    /**
+     * 返回当前实例值，并对实例值递减 1。
+     *
+     * @return 递减之前的实例值
+     */
+    public float getAndDecrement() {
+        final float last = value;
+        value--;
+        return last;
+    }
+    // ----- Increment/Decrement ----- ending
+
+
+
+    // ----- Add ----- beginning
+    /**
+     * 加法：使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数
+     * @return 当前实例
+     */
+    public MutableFloat add(final float operand) {
+        this.value += operand;
+        return this;
+    }
+
+    /**
+     * 加法：使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数，不能为 {@code null}
+     * @return 当前实例
+     * @throws NullPointerException 当加数为 {@code null} 时抛出此异常
+     */
+    public MutableFloat add(final Number operand) {
+        this.value += operand.floatValue();
+        return this;
+    }
+
+    /**
+     * 加法：使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数，若为 {@code null} 则使用第二个参数作为加数
+     * @param defaultOperand 当加数为 {@code null} 时，使用该值作为加数
+     * @return 当前实例
+     */
+    public MutableFloat add(final Number operand, final float defaultOperand) {
+        this.value += (operand != null ? operand.floatValue() : defaultOperand);
+        return this;
+    }
+
+    /**
+     * 加法：使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数，不能为 {@code null}
+     * @return 当前实例
+     * @throws NullPointerException 当加数为 {@code null} 时抛出此异常
+     */
+    public MutableFloat add(final MutableNumber<?> operand) {
+        this.value += operand.floatValue();
+        return this;
+    }
+
+    /**
+     * 加法：使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数，若为 {@code null} 则使用第二个参数作为加数
+     * @param defaultOperand 当加数为 {@code null} 时，使用该值作为加数
+     * @return 当前实例
+     */
+    public MutableFloat add(final MutableNumber<?> operand, final float defaultOperand) {
+        this.value += (operand != null ? operand.floatValue() : defaultOperand);
+        return this;
+    }
+
+    /**
+     * 对实例值使用指定加数进行加法运算后返回。
+     *
+     * @param operand 加数
+     * @return 加法运算后的实例值
+     */
+    public float addAndGet(final float operand) {
+        this.value += operand;
+        return value;
+    }
+
+    /**
+     * 对实例值使用指定加数进行加法运算后返回。
+     *
+     * @param operand 加数，不能为 {@code null}
+     * @return 加法运算后的实例值
+     * @throws NullPointerException 当加数为 {@code null} 时抛出此异常
+     */
+    public float addAndGet(final Number operand) {
+        this.value += operand.floatValue();
+        return value;
+    }
+
+    /**
+     * 对实例值使用指定加数进行加法运算后返回。
+     *
+     * @param operand 加数，若为 {@code null} 则使用第二个参数作为加数
+     * @param defaultOperand 当加数为 {@code null} 时，使用该值作为加数
+     * @return 加法运算后的实例值
+     */
+    public float addAndGet(final Number operand, final float defaultOperand) {
+        this.value += (operand != null ? operand.floatValue() : defaultOperand);
+        return value;
+    }
+
+    /**
+     * 对实例值使用指定加数进行加法运算后返回。
+     *
+     * @param operand 加数，不能为 {@code null}
+     * @return 加法运算后的实例值
+     * @throws NullPointerException 当加数为 {@code null} 时抛出此异常
+     */
+    public float addAndGet(final MutableNumber<?> operand) {
+        this.value += operand.floatValue();
+        return value;
+    }
+
+    /**
+     * 对实例值使用指定加数进行加法运算后返回。
+     *
+     * @param operand 加数，若为 {@code null} 则使用第二个参数作为加数
+     * @param defaultOperand 当加数为 {@code null} 时，使用该值作为加数
+     * @return 加法运算后的实例值
+     */
+    public float addAndGet(final MutableNumber<?> operand, final float defaultOperand) {
+        this.value += (operand != null ? operand.floatValue() : defaultOperand);
+        return value;
+    }
+
+    /**
+     * 返回当前实例值，并使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数
+     * @return 加法运算之前的实例值
+     */
+    public float getAndAdd(final float operand) {
+        final float last = value;
+        this.value += operand;
+        return last;
+    }
+
+    /**
+     * 返回当前实例值，并使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数，不能为 {@code null}
+     * @return 加法运算之前的实例值
+     * @throws NullPointerException 当加数为 {@code null} 时抛出此异常
+     */
+    public float getAndAdd(final Number operand) {
+        final float last = value;
+        this.value += operand.floatValue();
+        return last;
+    }
+
+    /**
+     * 返回当前实例值，并使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数，若为 {@code null} 则使用第二个参数作为加数
+     * @param defaultOperand 若加数为 {@code null} 则使用该值作为加数
+     * @return 加法运算之前的实例值
+     */
+    public float getAndAdd(final Number operand, final float defaultOperand) {
+        final float last = value;
+        this.value += (operand != null ? operand.floatValue() : defaultOperand);
+        return last;
+    }
+
+    /**
+     * 返回当前实例值，并使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数，不能为 {@code null}
+     * @return 加法运算之前的实例值
+     * @throws NullPointerException 当加数为 {@code null} 时抛出此异常
+     */
+    public float getAndAdd(final MutableNumber<?> operand) {
+        final float last = value;
+        this.value += operand.floatValue();
+        return last;
+    }
+
+    /**
+     * 返回当前实例值，并使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数，若为 {@code null} 则使用第二个参数作为加数
+     * @param defaultOperand 若加数为 {@code null} 则使用该值作为加数
+     * @return 加法运算之前的实例值
+     */
+    public float getAndAdd(final MutableNumber<?> operand, final float defaultOperand) {
+        final float last = value;
+        this.value += (operand != null ? operand.floatValue() : defaultOperand);
+        return last;
+    }
+    // ----- Add ----- ending
+
+
+
+    // ----- Subtract ----- beginning
+    /**
+     * 减法：使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数
+     * @return 当前实例
+     */
+    public MutableFloat subtract(final float operand) {
+        this.value -= operand;
+        return this;
+    }
+
+    /**
+     * 减法：使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数，不能为 {@code null}
+     * @return 当前实例
+     * @throws NullPointerException 当减数为 {@code null} 时抛出此异常
+     */
+    public MutableFloat subtract(final Number operand) {
+        this.value -= operand.floatValue();
+        return this;
+    }
+
+    /**
+     * 减法：使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数，若为 {@code null} 则使用第二个参数作为减数
+     * @param defaultOperand 当减数为 {@code null} 时，使用该值作为减数
+     * @return 当前实例
+     */
+    public MutableFloat subtract(final Number operand, final float defaultOperand) {
+        this.value -= (operand != null ? operand.floatValue() : defaultOperand);
+        return this;
+    }
+
+    /**
+     * 减法：使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数，不能为 {@code null}
+     * @return 当前实例
+     * @throws NullPointerException 当减数为 {@code null} 时抛出此异常
+     */
+    public MutableFloat subtract(final MutableNumber<?> operand) {
+        this.value -= operand.floatValue();
+        return this;
+    }
+
+    /**
+     * 减法：使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数，若为 {@code null} 则使用第二个参数作为减数
+     * @param defaultOperand 当减数为 {@code null} 时，使用该值作为减数
+     * @return 当前实例
+     */
+    public MutableFloat subtract(final MutableNumber<?> operand, final float defaultOperand) {
+        this.value -= (operand != null ? operand.floatValue() : defaultOperand);
+        return this;
+    }
+
+    /**
+     * 对实例值使用指定减数进行减法运算后返回。
+     *
+     * @param operand 减数
+     * @return 减法运算后的实例值
+     */
+    public float subtractAndGet(final float operand) {
+        this.value -= operand;
+        return value;
+    }
+
+    /**
+     * 对实例值使用指定减数进行减法运算后返回。
+     *
+     * @param operand 减数，不能为 {@code null}
+     * @return 减法运算后的实例值
+     * @throws NullPointerException 当减数为 {@code null} 时抛出此异常
+     */
+    public float subtractAndGet(final Number operand) {
+        this.value -= operand.floatValue();
+        return value;
+    }
+
+    /**
+     * 对实例值使用指定减数进行减法运算后返回。
+     *
+     * @param operand 减数，若为 {@code null} 则使用第二个参数作为减数
+     * @param defaultOperand 当减数为 {@code null} 时，使用该值作为减数
+     * @return 减法运算后的实例值
+     */
+    public float subtractAndGet(final Number operand, final float defaultOperand) {
+        this.value -= (operand != null ? operand.floatValue() : defaultOperand);
+        return value;
+    }
+
+    /**
+     * 对实例值使用指定减数进行减法运算后返回。
+     *
+     * @param operand 减数，不能为 {@code null}
+     * @return 减法运算后的实例值
+     * @throws NullPointerException 当减数为 {@code null} 时抛出此异常
+     */
+    public float subtractAndGet(final MutableNumber<?> operand) {
+        this.value -= operand.floatValue();
+        return value;
+    }
+
+    /**
+     * 对实例值使用指定减数进行减法运算后返回。
+     *
+     * @param operand 减数，若为 {@code null} 则使用第二个参数作为减数
+     * @param defaultOperand 当减数为 {@code null} 时，使用该值作为减数
+     * @return 减法运算后的实例值
+     */
+    public float subtractAndGet(final MutableNumber<?> operand, final float defaultOperand) {
+        this.value -= (operand != null ? operand.floatValue() : defaultOperand);
+        return value;
+    }
+
+    /**
+     * 返回当前实例值，并使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数
+     * @return 减法运算之前的实例值
+     */
+    public float getAndSubtract(final float operand) {
+        final float last = value;
+        this.value -= operand;
+        return last;
+    }
+
+    /**
+     * 返回当前实例值，并使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数，不能为 {@code null}
+     * @return 减法运算之前的实例值
+     * @throws NullPointerException 当减数为 {@code null} 时抛出此异常
+     */
+    public float getAndSubtract(final Number operand) {
+        final float last = value;
+        this.value -= operand.floatValue();
+        return last;
+    }
+
+    /**
+     * 返回当前实例值，并使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数，若为 {@code null} 则使用第二个参数作为减数
+     * @param defaultOperand 若减数为 {@code null} 则使用该值作为减数
+     * @return 减法运算之前的实例值
+     */
+    public float getAndSubtract(final Number operand, final float defaultOperand) {
+        final float last = value;
+        this.value -= (operand != null ? operand.floatValue() : defaultOperand);
+        return last;
+    }
+
+    /**
+     * 返回当前实例值，并使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数，不能为 {@code null}
+     * @return 减法运算之前的实例值
+     * @throws NullPointerException 当减数为 {@code null} 时抛出此异常
+     */
+    public float getAndSubtract(final MutableNumber<?> operand) {
+        final float last = value;
+        this.value -= operand.floatValue();
+        return last;
+    }
+
+    /**
+     * 返回当前实例值，并使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数，若为 {@code null} 则使用第二个参数作为减数
+     * @param defaultOperand 若减数为 {@code null} 则使用该值作为减数
+     * @return 减法运算之前的实例值
+     */
+    public float getAndSubtract(final MutableNumber<?> operand, final float defaultOperand) {
+        final float last = value;
+        this.value -= (operand != null ? operand.floatValue() : defaultOperand);
+        return last;
+    }
+    // ----- Subtract ----- ending
+
+
+
+    // ----- Multiply ----- beginning
+    /**
+     * 乘法：使用指定乘数对实例值进行乘法运算。
+     *
+     * @param operand 乘数
+     * @return 当前实例
+     */
+    public MutableFloat multiply(final float operand) {
+        this.value *= operand;
+        return this;
+    }
+
+    /**
+     * 乘法：使用指定乘数对实例值进行乘法运算。
+     *
+     * @param operand 乘数，不能为 {@code null}
+     * @return 当前实例
+     * @throws NullPointerException 当乘数为 {@code null} 时抛出此异常
+     */
+    public MutableFloat multiply(final Number operand) {
+        this.value *= operand.floatValue();
+        return this;
+    }
+
+    /**
+     * 乘法：使用指定减数对实例值进行乘法运算。
+     *
+     * @param operand 乘数，若为 {@code null} 则使用第二个参数作为乘数
+     * @param defaultOperand 当乘数为 {@code null} 时，使用该值作为乘数
+     * @return 当前实例
+     */
+    public MutableFloat multiply(final Number operand, final float defaultOperand) {
+        this.value *= (operand != null ? operand.floatValue() : defaultOperand);
+        return this;
+    }
+
+    /**
+     * 乘法：使用指定乘数对实例值进行乘法运算。
+     *
+     * @param operand 乘数，不能为 {@code null}
+     * @return 当前实例
+     * @throws NullPointerException 当乘数为 {@code null} 时抛出此异常
+     */
+    public MutableFloat multiply(final MutableNumber<?> operand) {
+        this.value *= operand.floatValue();
+        return this;
+    }
+
+    /**
+     * 乘法：使用指定减数对实例值进行乘法运算。
+     *
+     * @param operand 乘数，若为 {@code null} 则使用第二个参数作为乘数
+     * @param defaultOperand 当乘数为 {@code null} 时，使用该值作为乘数
+     * @return 当前实例
+     */
+    public MutableFloat multiply(final MutableNumber<?> operand, final float defaultOperand) {
+        this.value *= (operand != null ? operand.floatValue() : defaultOperand);
+        return this;
+    }
+
+    /**
+     * 对实例值使用指定乘数进行乘法运算后返回。
+     *
+     * @param operand 乘数
+     * @return 乘法运算后的实例值
+     */
+    public float multiplyAndGet(final float operand) {
+        this.value *= operand;
+        return value;
+    }
+
+    /**
+     * 对实例值使用指定乘数进行乘法运算后返回。
+     *
+     * @param operand 乘数，不能为 {@code null}
+     * @return 乘法运算后的实例值
+     * @throws NullPointerException 当乘数为 {@code null} 时抛出此异常
+     */
+    public float multiplyAndGet(final Number operand) {
+        this.value *= operand.floatValue();
+        return value;
+    }
+
+    /**
+     * 对实例值使用指定乘数进行乘法运算后返回。
+     *
+     * @param operand 乘数，若为 {@code null} 则使用第二个参数作为乘数
+     * @param defaultOperand 当乘数为 {@code null} 时，使用该值作为乘数
+     * @return 乘法运算后的实例值
+     */
+    public float multiplyAndGet(final Number operand, final float defaultOperand) {
+        this.value *= (operand != null ? operand.floatValue() : defaultOperand);
+        return value;
+    }
+
+    /**
+     * 对实例值使用指定乘数进行乘法运算后返回。
+     *
+     * @param operand 乘数，不能为 {@code null}
+     * @return 乘法运算后的实例值
+     * @throws NullPointerException 当乘数为 {@code null} 时抛出此异常
+     */
+    public float multiplyAndGet(final MutableNumber<?> operand) {
+        this.value *= operand.floatValue();
+        return value;
+    }
+
+    /**
+     * 对实例值使用指定乘数进行乘法运算后返回。
+     *
+     * @param operand 乘数，若为 {@code null} 则使用第二个参数作为乘数
+     * @param defaultOperand 当乘数为 {@code null} 时，使用该值作为乘数
+     * @return 乘法运算后的实例值
+     */
+    public float multiplyAndGet(final MutableNumber<?> operand, final float defaultOperand) {
+        this.value *= (operand != null ? operand.floatValue() : defaultOperand);
+        return value;
+    }
+
+    /**
+     * 返回当前实例值，并使用指定乘数对实例值进行乘法运算。
+     *
+     * @param operand 乘数
+     * @return 乘法运算之前的实例值
+     */
+    public float getAndMultiply(final float operand) {
+        final float last = value;
+        this.value *= operand;
+        return last;
+    }
+
+    /**
+     * 返回当前实例值，并使用指定乘数对实例值进行乘法运算。
+     *
+     * @param operand 乘数，不能为 {@code null}
+     * @return 乘法运算之前的实例值
+     * @throws NullPointerException 当乘数为 {@code null} 时抛出此异常
+     */
+    public float getAndMultiply(final Number operand) {
+        final float last = value;
+        this.value *= operand.floatValue();
+        return last;
+    }
+
+    /**
+     * 返回当前实例值，并使用指定乘数对实例值进行乘法运算。
+     *
+     * @param operand 乘数，若为 {@code null} 则使用第二个参数作为乘数
+     * @param defaultOperand 若乘数为 {@code null} 则使用该值作为乘数
+     * @return 乘法运算之前的实例值
+     */
+    public float getAndMultiply(final Number operand, final float defaultOperand) {
+        final float last = value;
+        this.value *= (operand != null ? operand.floatValue() : defaultOperand);
+        return last;
+    }
+
+    /**
+     * 返回当前实例值，并使用指定乘数对实例值进行乘法运算。
+     *
+     * @param operand 乘数，不能为 {@code null}
+     * @return 乘法运算之前的实例值
+     * @throws NullPointerException 当乘数为 {@code null} 时抛出此异常
+     */
+    public float getAndMultiply(final MutableNumber<?> operand) {
+        final float last = value;
+        this.value *= operand.floatValue();
+        return last;
+    }
+
+    /**
+     * 返回当前实例值，并使用指定乘数对实例值进行乘法运算。
+     *
+     * @param operand 乘数，若为 {@code null} 则使用第二个参数作为乘数
+     * @param defaultOperand 若乘数为 {@code null} 则使用该值作为乘数
+     * @return 乘法运算之前的实例值
+     */
+    public float getAndMultiply(final MutableNumber<?> operand, final float defaultOperand) {
+        final float last = value;
+        this.value *= (operand != null ? operand.floatValue() : defaultOperand);
+        return last;
+    }
+    // ----- Multiply ----- ending
+
+
+
+    // ----- Divide ----- beginning
+    /**
+     * 除法：使用指定除数对实例值进行除法运算。
+     *
+     * @param operand 除数
+     * @return 当前实例
+     */
+    public MutableFloat divide(final float operand) {
+        this.value /= operand;
+        return this;
+    }
+
+    /**
+     * 除法：使用指定除数对实例值进行除法运算。
+     *
+     * @param operand 除数，不能为 {@code null}
+     * @return 当前实例
+     * @throws NullPointerException 当除数为 {@code null} 时抛出此异常
+     */
+    public MutableFloat divide(final Number operand) {
+        this.value /= operand.floatValue();
+        return this;
+    }
+
+    /**
+     * 除法：使用指定减数对实例值进行除法运算。
+     *
+     * @param operand 除数，若为 {@code null} 或其 float 值为 {@code 0} 则使用第二个参数作为除数
+     * @param defaultOperand 若除数为 {@code null} 或 {@code 0} 则使用该值作为除数
+     * @return 当前实例
+     */
+    public MutableFloat divide(final Number operand, final float defaultOperand) {
+        this.value /= (operand != null && operand.floatValue() != 0 ? operand.floatValue() : defaultOperand);
+        return this;
+    }
+
+    /**
+     * 除法：使用指定除数对实例值进行除法运算。
+     *
+     * @param operand 除数，不能为 {@code null}
+     * @return 当前实例
+     * @throws NullPointerException 当除数为 {@code null} 时抛出此异常
+     */
+    public MutableFloat divide(final MutableNumber<?> operand) {
+        this.value /= operand.floatValue();
+        return this;
+    }
+
+    /**
+     * 除法：使用指定减数对实例值进行除法运算。
+     *
+     * @param operand 除数，若为 {@code null} 或其 float 值为 {@code 0} 则使用第二个参数作为除数
+     * @param defaultOperand 若除数为 {@code null} 或 {@code 0} 则使用该值作为除数
+     * @return 当前实例
+     */
+    public MutableFloat divide(final MutableNumber<?> operand, final float defaultOperand) {
+        this.value /= (operand != null && operand.floatValue() != 0 ? operand.floatValue() : defaultOperand);
+        return this;
+    }
+
+    /**
+     * 对实例值使用指定除数进行除法运算后返回。
+     *
+     * @param operand 除数
+     * @return 除法运算后的实例值
+     */
+    public float divideAndGet(final float operand) {
+        this.value /= operand;
+        return value;
+    }
+
+    /**
+     * 对实例值使用指定除数进行除法运算后返回。
+     *
+     * @param operand 除数，不能为 {@code null}
+     * @return 除法运算后的实例值
+     * @throws NullPointerException 当除数为 {@code null} 时抛出此异常
+     */
+    public float divideAndGet(final Number operand) {
+        this.value /= operand.floatValue();
+        return value;
+    }
+
+    /**
+     * 对实例值使用指定除数进行除法运算后返回。
+     *
+     * @param operand 除数，若为 {@code null} 或其 float 值为 {@code 0} 则使用第二个参数作为除数
+     * @param defaultOperand 若除数为 {@code null} 或 {@code 0} 则使用该值作为除数
+     * @return 除法运算后的实例值
+     */
+    public float divideAndGet(final Number operand, final float defaultOperand) {
+        this.value /= (operand != null && operand.floatValue() != 0 ? operand.floatValue() : defaultOperand);
+        return value;
+    }
+
+    /**
+     * 对实例值使用指定除数进行除法运算后返回。
+     *
+     * @param operand 除数，不能为 {@code null}
+     * @return 除法运算后的实例值
+     * @throws NullPointerException 当除数为 {@code null} 时抛出此异常
+     */
+    public float divideAndGet(final MutableNumber<?> operand) {
+        this.value /= operand.floatValue();
+        return value;
+    }
+
+    /**
+     * 对实例值使用指定除数进行除法运算后返回。
+     *
+     * @param operand 除数，若为 {@code null} 或其 float 值为 {@code 0} 则使用第二个参数作为除数
+     * @param defaultOperand 若除数为 {@code null} 或 {@code 0} 则使用该值作为除数
+     * @return 除法运算后的实例值
+     */
+    public float divideAndGet(final MutableNumber<?> operand, final float defaultOperand) {
+        this.value /= (operand != null && operand.floatValue() != 0 ? operand.floatValue() : defaultOperand);
+        return value;
+    }
+
+    /**
+     * 返回当前实例值，并使用指定除数对实例值进行除法运算。
+     *
+     * @param operand 除数
+     * @return 除法运算之前的实例值
+     */
+    public float getAndDivide(final float operand) {
+        final float last = value;
+        this.value /= operand;
+        return last;
+    }
+
+    /**
+     * 返回当前实例值，并使用指定除数对实例值进行除法运算。
+     *
+     * @param operand 除数，不能为 {@code null}
+     * @return 除法运算之前的实例值
+     * @throws NullPointerException 当除数为 {@code null} 时抛出此异常
+     */
+    public float getAndDivide(final Number operand) {
+        final float last = value;
+        this.value /= operand.floatValue();
+        return last;
+    }
+
+    /**
+     * 返回当前实例值，并使用指定除数对实例值进行除法运算。
+     *
+     * @param operand 除数，若为 {@code null} 或其 float 值为 {@code 0} 则使用第二个参数作为除数
+     * @param defaultOperand 若除数为 {@code null} 或 {@code 0} 则使用该值作为除数
+     * @return 除法运算之前的实例值
+     */
+    public float getAndDivide(final Number operand, final float defaultOperand) {
+        final float last = value;
+        this.value /= (operand != null && operand.floatValue() != 0 ? operand.floatValue() : defaultOperand);
+        return last;
+    }
+
+    /**
+     * 返回当前实例值，并使用指定除数对实例值进行除法运算。
+     *
+     * @param operand 除数，不能为 {@code null}
+     * @return 除法运算之前的实例值
+     * @throws NullPointerException 当除数为 {@code null} 时抛出此异常
+     */
+    public float getAndDivide(final MutableNumber<?> operand) {
+        final float last = value;
+        this.value /= operand.floatValue();
+        return last;
+    }
+
+    /**
+     * 返回当前实例值，并使用指定除数对实例值进行除法运算。
+     *
+     * @param operand 除数，若为 {@code null} 或其 float 值为 {@code 0} 则使用第二个参数作为除数
+     * @param defaultOperand 若除数为 {@code null} 或 {@code 0} 则使用该值作为除数
+     * @return 除法运算之前的实例值
+     */
+    public float getAndDivide(final MutableNumber<?> operand, final float defaultOperand) {
+        final float last = value;
+        this.value /= (operand != null && operand.floatValue() != 0 ? operand.floatValue() : defaultOperand);
+        return last;
+    }
+    // ----- Divide ----- ending
+
+
+    /**
+     * <p>将此实例和另一个 {@link MutableNumber} 对象进行 float 值的升序比较。</p>
+     *
+     * @param o 另一个 {@link MutableNumber} 实现对象，不能为 {@code null}
+     * @return 若此实例的 float 值较小则返回负数；若此实例的 float 值较大则返回正数；若 float 值相等则返回 0
+     * @throws NullPointerException 当指定参数为 {@code null} 时抛出此异常
+     */
+    @Override
+    public int compareTo(final MutableNumber o) {
+        return Float.compare(this.value, o.floatValue());
+    }
+
+    /**
+     * <p>将此实例和指定值进行 float 值的升序比较。</p>
+     *
+     * @param o 要比较的值
+     * @return 若此实例的 float 值较小则返回负数；若此实例的 float 值较大则返回正数；若 float 值相等则返回 0
+     */
+    public int compareTo(final float o) {
+        return Float.compare(this.value, o);
+    }
+
+    /**
+     * 以字符串类型返回实例值。
+     *
+     * @return 实例值的字符串类型
+     */
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    /**
+     * <p>将实例值追加到 {@link StringBuilder} 中，结果与 {@link #toString()} 相同。</p>
+     *
+     * <p>{@link StringBuilder#append(float)} 直接写入字符，不会创建 {@link String}。</p>
+     *
+     * @param builder 目标，不能为 {@code null}
+     * @return 目标 {@code builder}
+     */
+    @Override
+    public StringBuilder appendTo(final StringBuilder builder) {
+        return builder.append(value);
+    }
+
+    /**
+     * <p>将实例值追加到 {@link Appendable} 中，结果与 {@link #toString()} 相同。</p>
+     *
+     * <p>注，目标为 {@link StringBuilder} 时不会创建 {@link String}；其它目标需要先通过 {@link Float#toString(float)} 转换。</p>
+     *
+     * @param appendable 目标，不能为 {@code null}
+     * @return 目标 {@code appendable}
+     * @throws IOException 当目标追加字符失败时抛出此异常
+     */
+    @Override
+    public Appendable appendTo(final Appendable appendable) throws IOException {
+        if (appendable instanceof StringBuilder) {
+            return ((StringBuilder) appendable).append(value);
+        }
+        return appendable.append(String.valueOf(value));
+    }
+
+    /**
+     * <p>将实例值以 ASCII 字节写入数组的指定位置，结果与 {@link #toString()} 相同。</p>
+     *
+     * <p>注，浮点数需要先通过 {@link Float#toString(float)} 转换，因此会创建一个临时的 {@link String}。</p>
+     *
+     * @param bytes 目标数组，不能为 {@code null}
+     * @param offset 写入的起始索引
+     * @return 写入的最后一个字节之后的索引，即下一次写入的起始索引
+     * @throws IndexOutOfBoundsException 当数组的剩余空间不足时抛出此异常，此时数组不会被修改
+     */
+    @Override
+    public int writeAscii(final byte[] bytes, final int offset) {
+        final String text = String.valueOf(value);
+        final int length = text.length();
+        if (offset < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + (offset + length) + ") out of bounds for length " + bytes.length);
+        }
+        for (int i = 0; i < length; i++) {
+            bytes[offset + i] = (byte) text.charAt(i);
+        }
+        return offset + length;
+    }
+
+    /**
+     * <p>将实例值以 ASCII 字节写入缓冲区的当前位置，并将 position 后移，结果与 {@link #toString()} 相同。</p>
+     *
+     * <p>注，浮点数需要先通过 {@link Float#toString(float)} 转换，因此会创建一个临时的 {@link String}。</p>
+     *
+     * @param buffer 目标缓冲区，不能为 {@code null}
+     * @return 目标缓冲区
+     * @throws BufferOverflowException 当缓冲区的剩余空间不足时抛出此异常，此时缓冲区不会被修改
+     */
+    @Override
+    public ByteBuffer writeAscii(final ByteBuffer buffer) {
+        final String text = String.valueOf(value);
+        final int length = text.length();
+        if (buffer.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        for (int i = 0; i < length; i++) {
+            buffer.put((byte) text.charAt(i));
+        }
+        return buffer;
+    }
+
+    /**
+     * <p>返回一个适合此可变实例的哈希码。</p>
+     *
+     * @return 一个合适的哈希码
+     */
+    @Override
+    public int hashCode() {
+        return Float.floatToIntBits(value);
+    }
+
+    /**
+     * <p>将此实例与指定对象进行比较。当且仅当指定对象不为 {@code null} 并是一个包含与此实例 float 值相等的 MutableFloat 对象时，比较结果才是 {@code true}。</p>
+     *
+     * @param obj 要比较的对象，若为 {@code null} 则返回 {@code false}
+     * @return 若相等返回 {@code true}，否则返回 {@code false}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj instanceof MutableFloat) {
+            return Float.floatToIntBits(value) == Float.floatToIntBits(((MutableFloat) obj).floatValue());
+        }
+        return false;
+    }
+
+    /**
+     * 序列化时以紧凑的 {@link MutableExternalForm} 替代，只写出类型标记和值。
+     *
+     * @return 序列化替身
+     */
+    private Object writeReplace() {
+        return new MutableExternalForm(this);
+    }
+}
\ No newline at end of file
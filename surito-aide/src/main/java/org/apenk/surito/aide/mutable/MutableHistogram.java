@@ -0,0 +1,323 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * <p>内存固定的对数-线性（log-linear）分桶直方图，用于记录延迟等非负 long 值的分布。</p>
+ *
+ * <p>所有计数存放在一个 long 数组中，数组大小在构造时由最大可记录值和精度位数确定，之后不再变化。
+ * 记录一个值只需要计算桶索引并累加计数，是 O(1) 且不会创建对象的；百分位查询只需遍历一次计数数组，
+ * 不需要像将值放入 {@link java.util.TreeSet} 或 {@link java.util.ArrayList} 再排序那样保存所有的值。</p>
+ *
+ * <p>精度位数为 {@code p} 时，小于 {@code 2^p} 的值是精确记录的，更大的值的相对误差不超过 {@code 2^-(p-1)}，
+ * 例如默认的 8 位精度的相对误差不超过 0.79%。最小值、最大值、数量和总和是精确记录的。</p>
+ *
+ * <p>注 1，不能记录负数；超过最大可记录值的值会被计入最大可记录值所在的桶，但最大值和总和依然以原值记录。</p>
+ *
+ * <p>注 2，该类非线程安全，多线程记录时应使用 {@link ConcurrentMutableHistogram}，或为每个线程各自维护一个实例，读取时再通过 {@link #merge(MutableHistogram)} 合并。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class MutableHistogram implements Serializable {
+    private static final long serialVersionUID = 7190428931675216325L;
+
+    /**
+     * 默认的精度位数，相对误差不超过 0.79%
+     */
+    public static final int DEFAULT_PRECISION_BITS = 8;
+
+    private final HistogramLayout layout;
+
+    private final long[] counts;
+
+    private long totalCount;
+
+    private long sum;
+
+    private long min = Long.MAX_VALUE;
+
+    private long max = Long.MIN_VALUE;
+
+    // ----- 构造方法 ----- beginning
+    /**
+     * 使用默认的精度位数创建一个可以记录所有非负 long 值的 MutableHistogram 实例。
+     */
+    public MutableHistogram() {
+        this(Long.MAX_VALUE, DEFAULT_PRECISION_BITS);
+    }
+
+    /**
+     * 使用指定的最大可记录值和精度位数创建一个 MutableHistogram 实例。
+     *
+     * @param highestTrackableValue 最大可记录值，必须为正数
+     * @param precisionBits 精度位数，取值范围为 [1, 20]，越大越精确但占用越多内存
+     * @throws IllegalArgumentException 当参数超出范围时抛出此异常
+     */
+    public MutableHistogram(final long highestTrackableValue, final int precisionBits) {
+        this(new HistogramLayout(highestTrackableValue, precisionBits));
+    }
+
+    MutableHistogram(final HistogramLayout layout) {
+        super();
+        this.layout = layout;
+        this.counts = new long[layout.getBucketCount()];
+    }
+    // ----- 构造方法 ----- ending
+
+
+
+    // ----- Record ----- beginning
+    /**
+     * 记录一个值。
+     *
+     * @param value 要记录的值，不能为负数
+     * @throws IllegalArgumentException 当值为负数时抛出此异常
+     */
+    public void record(final long value) {
+        counts[layout.indexOf(layout.clamp(value))]++;
+        totalCount++;
+        sum += value;
+        if (value < min) {
+            min = value;
+        }
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * 将一个值记录指定的次数。
+     *
+     * @param value 要记录的值，不能为负数
+     * @param count 次数，不能为负数
+     * @throws IllegalArgumentException 当值或次数为负数时抛出此异常
+     */
+    public void record(final long value, final long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: [" + count + "]");
+        }
+        if (count == 0) {
+            return;
+        }
+        counts[layout.indexOf(layout.clamp(value))] += count;
+        totalCount += count;
+        sum += value * count;
+        if (value < min) {
+            min = value;
+        }
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * <p>将另一个直方图的所有记录合并到此实例中，{@code other} 不会被修改。</p>
+     *
+     * @param other 另一个直方图，不能为 {@code null}，最大可记录值和精度位数必须与此实例相同
+     * @return 当前实例
+     * @throws IllegalArgumentException 当两个直方图的最大可记录值或精度位数不同时抛出此异常
+     */
+    public MutableHistogram merge(final MutableHistogram other) {
+        checkLayout(other.layout);
+        final long[] counts = this.counts;
+        final long[] otherCounts = other.counts;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += otherCounts[i];
+        }
+        add(other.totalCount, other.sum, other.min, other.max);
+        return this;
+    }
+
+    /**
+     * 清除所有的记录。
+     */
+    public void reset() {
+        Arrays.fill(counts, 0L);
+        totalCount = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = Long.MIN_VALUE;
+    }
+    // ----- Record ----- ending
+
+
+
+    // ----- Query ----- beginning
+    /**
+     * 返回已记录的值的数量。
+     *
+     * @return 数量
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * 返回已记录的值的总和。
+     *
+     * @return 总和
+     */
+    public long getSum() {
+        return sum;
+    }
+
+    /**
+     * 返回已记录的最小值，没有任何记录时返回 0。
+     *
+     * @return 最小值
+     */
+    public long getMin() {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    /**
+     * 返回已记录的最大值，没有任何记录时返回 0。
+     *
+     * @return 最大值
+     */
+    public long getMax() {
+        return totalCount == 0 ? 0 : max;
+    }
+
+    /**
+     * 返回已记录的值的平均值，没有任何记录时返回 0。
+     *
+     * @return 平均值
+     */
+    public double getMean() {
+        return totalCount == 0 ? 0.0D : (double) sum / totalCount;
+    }
+
+    /**
+     * <p>返回指定百分位上的值，即至少有 {@code percentile}% 的记录小于或等于该值的最小桶中的最大值。</p>
+     *
+     * <p>结果不会小于最小值，也不会大于最大值。例如 {@code valueAtPercentile(99.9)} 返回 P999 延迟。</p>
+     *
+     * @param percentile 百分位，取值范围为 [0, 100]
+     * @return 该百分位上的值，没有任何记录时返回 0
+     * @throws IllegalArgumentException 当百分位超出范围时抛出此异常
+     */
+    public long valueAtPercentile(final double percentile) {
+        if (!(percentile >= 0.0D && percentile <= 100.0D)) {
+            throw new IllegalArgumentException("Percentile must be in range [0, 100]: [" + percentile + "]");
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0D * totalCount));
+        final long[] counts = this.counts;
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.max(min, Math.min(max, layout.highestValueAt(i)));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * 返回中位数，即 {@code valueAtPercentile(50)}。
+     *
+     * @return 中位数，没有任何记录时返回 0
+     */
+    public long median() {
+        return valueAtPercentile(50.0D);
+    }
+
+    /**
+     * 返回小于或等于指定值的记录所占的百分比，精度受分桶的限制。
+     *
+     * @param value 值
+     * @return 百分比，取值范围为 [0, 100]，没有任何记录时返回 0
+     */
+    public double percentileAtOrBelow(final long value) {
+        if (totalCount == 0 || value < 0) {
+            return 0.0D;
+        }
+        final int last = layout.indexOf(Math.min(value, layout.getHighestTrackableValue()));
+        long seen = 0;
+        for (int i = 0; i <= last; i++) {
+            seen += counts[i];
+        }
+        return 100.0D * seen / totalCount;
+    }
+
+    /**
+     * 返回最大可记录值。
+     *
+     * @return 最大可记录值
+     */
+    public long getHighestTrackableValue() {
+        return layout.getHighestTrackableValue();
+    }
+
+    /**
+     * 返回精度位数。
+     *
+     * @return 精度位数
+     */
+    public int getPrecisionBits() {
+        return layout.getPrecisionBits();
+    }
+    // ----- Query ----- ending
+
+
+
+    void checkLayout(final HistogramLayout other) {
+        if (!layout.equals(other)) {
+            throw new IllegalArgumentException("Histogram layouts differ: [highestTrackableValue=" + other.getHighestTrackableValue()
+                    + ", precisionBits=" + other.getPrecisionBits() + "] vs [highestTrackableValue=" + layout.getHighestTrackableValue()
+                    + ", precisionBits=" + layout.getPrecisionBits() + "]");
+        }
+    }
+
+    /**
+     * 累加指定桶的计数，仅更新计数数组，由调用方通过 {@link #add(long, long, long, long)} 更新汇总值。
+     */
+    void addAt(final int index, final long count) {
+        counts[index] += count;
+    }
+
+    void add(final long count, final long sum, final long min, final long max) {
+        if (count == 0) {
+            return;
+        }
+        this.totalCount += count;
+        this.sum += sum;
+        if (min < this.min) {
+            this.min = min;
+        }
+        if (max > this.max) {
+            this.max = max;
+        }
+    }
+
+    /**
+     * 以 {@code {count=..., min=..., max=..., mean=..., p50=..., p99=..., p999=...}} 的格式返回字符串。
+     *
+     * @return 字符串表示
+     */
+    @Override
+    public String toString() {
+        return "{count=" + totalCount + ", min=" + getMin() + ", max=" + getMax() + ", mean=" + getMean()
+                + ", p50=" + median() + ", p99=" + valueAtPercentile(99.0D) + ", p999=" + valueAtPercentile(99.9D) + "}";
+    }
+}
\ No newline at end of file
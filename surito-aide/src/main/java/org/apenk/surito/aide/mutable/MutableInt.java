@@ -15,6 +15,8 @@
  */
 package org.apenk.surito.aide.mutable;
 
+import org.apenk.surito.aide.NumberAide;
+
 /**
  * <p>可变的 int 类型包装。</p>
  *
@@ -25,7 +27,7 @@ package org.apenk.surito.aide.mutable;
  * @author Kweny
  * @since 0.0.1
  */
-public class MutableInt extends MutableNumber<Number> {
+public class MutableInt extends MutableNumber<Number> implements IntMutable {
     private static final long serialVersionUID = -6579174585762474609L;
 
     /**
@@ -87,14 +89,15 @@ public class MutableInt extends MutableNumber<Number> {
     /**
      * 通过指定的字符串解析为初始值创建一个 MutableInt 实例，若字符串无法解析为 int 值，则使用第二个参数作为值。
      *
-     * @param value 要解析的字符串，若无法解析为 int 值时则使用第二个参数作为默认值
+     * <p>解析失败时不会抛出和捕获 {@link NumberFormatException}，适合输入中经常出现非法值的场景。</p>
+     *
+     * @param value 要解析的字符串，若为 {@code null} 或无法解析为 int 值时则使用第二个参数作为默认值
      * @param defaultValue 当指定字符串无法解析为 int 值时的默认值
+     * @see NumberAide#tryParseInt(CharSequence, MutableInt)
      */
     public MutableInt(final String value, final int defaultValue) {
         super();
-        try {
-            this.value = Integer.parseInt(value);
-        } catch (NumberFormatException e) {
+        if (!NumberAide.tryParseInt(value, this)) {
             this.value = defaultValue;
         }
     }
@@ -133,6 +136,53 @@ public class MutableInt extends MutableNumber<Number> {
         this.value = value;
     }
 
+    /**
+     * 以 int 类型返回值，与 {@link #intValue()} 相同。
+     *
+     * @return int 类型的值
+     */
+    @Override
+    public int getAsInt() {
+        return intValue();
+    }
+
+    /**
+     * 设置值，与 {@link #setValue(int)} 相同。
+     *
+     * @param value 要设置的值
+     */
+    @Override
+    public void set(final int value) {
+        setValue(value);
+    }
+
+    /**
+     * <p>将字符序列按十进制解析后设置值。解析失败时不会抛出异常，实例值保持不变。</p>
+     *
+     * <p>注，该方法没有命名为 {@code setValue}，以免 {@code setValue(null)} 与 {@link #setValue(Number)} 产生重载歧义。</p>
+     *
+     * @param value 要解析的字符序列，可以为 {@code null}
+     * @return 解析成功并已设置值时返回 {@code true}，否则返回 {@code false}
+     * @see NumberAide#tryParseInt(CharSequence, MutableInt)
+     */
+    public boolean parseValue(final CharSequence value) {
+        return NumberAide.tryParseInt(value, this);
+    }
+
+    /**
+     * <p>将 ASCII 字节数组中的指定范围按十进制解析后设置值，无需先创建 {@link String}。解析失败时不会抛出异常，实例值保持不变。</p>
+     *
+     * @param bytes 要解析的字节数组，可以为 {@code null}
+     * @param offset 起始索引
+     * @param length 字节数
+     * @return 解析成功并已设置值时返回 {@code true}，否则返回 {@code false}
+     * @throws IndexOutOfBoundsException 当范围越界时抛出此异常
+     * @see NumberAide#tryParseInt(byte[], int, int, int, MutableInt)
+     */
+    public boolean parseValue(final byte[] bytes, final int offset, final int length) {
+        return NumberAide.tryParseInt(bytes, offset, length, 10, this);
+    }
+
     /**
      * 以 {@link Integer} 实例的形式获取值。
      *
@@ -228,7 +278,7 @@ public class MutableInt extends MutableNumber<Number> {
      * @return 递减之后的实例值
      */
     public int decrementAndGet() {
-        value++;
+        value--;
         return value;
     }
 
@@ -1059,4 +1109,13 @@ public class MutableInt extends MutableNumber<Number> {
         }
         return false;
     }
+
+    /**
+     * 序列化时以紧凑的 {@link MutableExternalForm} 替代，只写出类型标记和值。
+     *
+     * @return 序列化替身
+     */
+    private Object writeReplace() {
+        return new MutableExternalForm(this);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,471 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * <p>一组可变 int 值的紧凑存储。</p>
+ *
+ * <p>所有的值连续地存放在同一个 int 数组中，每个值只占用 4 个字节，
+ * 相比于为每个计数器创建一个 {@link MutableInt}（对象头 + 引用），内存占用更少，遍历时也更加缓存友好，适合直方图、分桶计数表等场景。</p>
+ *
+ * <p>需要以对象形式传递某个槽位时，可以通过 {@link #slot(int)} 获取一个 {@link Slot} 视图，
+ * 视图可以通过 {@link Slot#moveTo(int)} 移动到其它槽位重复使用，从而避免为每个槽位都创建对象。</p>
+ *
+ * <p>注，该类非线程安全。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class MutableIntArray implements Serializable {
+    private static final long serialVersionUID = 8153006829148412637L;
+
+    /**
+     * 存放所有值的数组
+     */
+    private final int[] values;
+
+    // ----- 构造方法 ----- beginning
+    /**
+     * 创建一个指定长度、所有值均为 0 的 MutableIntArray 实例。
+     *
+     * @param length 长度
+     * @throws NegativeArraySizeException 当长度为负数时抛出此异常
+     */
+    public MutableIntArray(final int length) {
+        super();
+        this.values = new int[length];
+    }
+
+    /**
+     * 使用指定数组的副本作为初始值创建一个 MutableIntArray 实例。
+     *
+     * @param values 初始值，不能为 {@code null}
+     * @throws NullPointerException 当指定的数组为 {@code null} 时抛出此异常
+     */
+    public MutableIntArray(final int[] values) {
+        super();
+        this.values = values.clone();
+    }
+    // ----- 构造方法 ----- ending
+
+
+
+    // ----- Set/Get ----- beginning
+    /**
+     * 返回槽位的数量。
+     *
+     * @return 槽位的数量
+     */
+    public int length() {
+        return values.length;
+    }
+
+    /**
+     * 获取指定槽位的值。
+     *
+     * @param index 槽位索引
+     * @return 槽位的值
+     * @throws ArrayIndexOutOfBoundsException 当索引越界时抛出此异常
+     */
+    public int getAt(final int index) {
+        return values[index];
+    }
+
+    /**
+     * 设置指定槽位的值。
+     *
+     * @param index 槽位索引
+     * @param value 要设置的值
+     * @throws ArrayIndexOutOfBoundsException 当索引越界时抛出此异常
+     */
+    public void setAt(final int index, final int value) {
+        values[index] = value;
+    }
+
+    /**
+     * 将所有槽位的值复制到一个新数组中返回。
+     *
+     * @return 所有槽位的值的副本
+     */
+    public int[] toArray() {
+        return values.clone();
+    }
+    // ----- Set/Get ----- ending
+
+
+
+    // ----- Arithmetic ----- beginning
+    /**
+     * 指定槽位的值递增 1。
+     *
+     * @param index 槽位索引
+     * @throws ArrayIndexOutOfBoundsException 当索引越界时抛出此异常
+     */
+    public void incrementAt(final int index) {
+        values[index]++;
+    }
+
+    /**
+     * 指定槽位的值递增 1 并返回。
+     *
+     * @param index 槽位索引
+     * @return 递增之后的值
+     * @throws ArrayIndexOutOfBoundsException 当索引越界时抛出此异常
+     */
+    public int incrementAndGetAt(final int index) {
+        return ++values[index];
+    }
+
+    /**
+     * 指定槽位的值递减 1。
+     *
+     * @param index 槽位索引
+     * @throws ArrayIndexOutOfBoundsException 当索引越界时抛出此异常
+     */
+    public void decrementAt(final int index) {
+        values[index]--;
+    }
+
+    /**
+     * 使用指定加数对指定槽位的值进行加法运算。
+     *
+     * @param index 槽位索引
+     * @param operand 加数
+     * @throws ArrayIndexOutOfBoundsException 当索引越界时抛出此异常
+     */
+    public void addAt(final int index, final int operand) {
+        values[index] += operand;
+    }
+
+    /**
+     * 使用指定加数对指定槽位的值进行加法运算后返回。
+     *
+     * @param index 槽位索引
+     * @param operand 加数
+     * @return 加法运算后的值
+     * @throws ArrayIndexOutOfBoundsException 当索引越界时抛出此异常
+     */
+    public int addAndGetAt(final int index, final int operand) {
+        values[index] += operand;
+        return values[index];
+    }
+
+    /**
+     * 将指定数组的各个元素逐一加到对应的槽位上，即 {@code this[i] += operands[i]}。
+     *
+     * @param operands 加数数组，不能为 {@code null}，长度不能超过槽位数量
+     * @throws NullPointerException 当加数数组为 {@code null} 时抛出此异常
+     * @throws IllegalArgumentException 当加数数组的长度超过槽位数量时抛出此异常
+     */
+    public void addAll(final int[] operands) {
+        if (operands.length > values.length) {
+            throw new IllegalArgumentException("Operands length " + operands.length + " exceeds array length " + values.length);
+        }
+        final int[] values = this.values;
+        for (int i = 0; i < operands.length; i++) {
+            values[i] += operands[i];
+        }
+    }
+
+    /**
+     * 将另一个 MutableIntArray 的各个槽位逐一加到对应的槽位上，通常用于合并多个分片的计数表。
+     *
+     * @param operands 另一个 MutableIntArray，不能为 {@code null}，长度不能超过此实例
+     * @throws NullPointerException 当参数为 {@code null} 时抛出此异常
+     * @throws IllegalArgumentException 当参数的长度超过此实例的长度时抛出此异常
+     */
+    public void addAll(final MutableIntArray operands) {
+        addAll(operands.values);
+    }
+
+    /**
+     * 将所有槽位的值重置为 0。
+     */
+    public void reset() {
+        Arrays.fill(values, 0);
+    }
+    // ----- Arithmetic ----- ending
+
+
+
+    // ----- Aggregate ----- beginning
+    /**
+     * 返回所有槽位的值之和，以 long 类型计算以避免溢出。
+     *
+     * @return 所有槽位的值之和
+     */
+    public long sum() {
+        long sum = 0;
+        for (final int value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * 返回所有槽位中的最大值。
+     *
+     * @return 最大值
+     * @throws IllegalStateException 当长度为 0 时抛出此异常
+     */
+    public int max() {
+        checkNotEmpty();
+        int max = values[0];
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] > max) {
+                max = values[i];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * 返回所有槽位中的最小值。
+     *
+     * @return 最小值
+     * @throws IllegalStateException 当长度为 0 时抛出此异常
+     */
+    public int min() {
+        checkNotEmpty();
+        int min = values[0];
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] < min) {
+                min = values[i];
+            }
+        }
+        return min;
+    }
+    // ----- Aggregate ----- ending
+
+
+
+    // ----- Slot view ----- beginning
+    /**
+     * <p>创建一个指向指定槽位的 {@link Slot} 视图。</p>
+     *
+     * <p>视图不复制值，对视图的修改直接作用于此数组。在循环中应复用同一个视图并使用 {@link Slot#moveTo(int)} 切换槽位。</p>
+     *
+     * @param index 槽位索引
+     * @return 指向该槽位的视图
+     * @throws ArrayIndexOutOfBoundsException 当索引越界时抛出此异常
+     */
+    public Slot slot(final int index) {
+        return new Slot(index);
+    }
+    // ----- Slot view ----- ending
+
+
+    private void checkNotEmpty() {
+        if (values.length == 0) {
+            throw new IllegalStateException("MutableIntArray is empty");
+        }
+    }
+
+    /**
+     * 以字符串类型返回所有槽位的值，格式同 {@link Arrays#toString(int[])}。
+     *
+     * @return 所有槽位的值的字符串类型
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+
+
+
+    // ----- Inner classes ----- beginning
+    /**
+     * <p>{@link MutableIntArray} 中某个槽位的可变视图。</p>
+     *
+     * <p>视图本身只保存槽位索引，所有的读写都直接作用于所属数组。
+     * 视图之间按引用比较，没有重写 {@link #equals(Object)} 和 {@link #hashCode()}。</p>
+     */
+    public class Slot extends MutableNumber<Number> implements IntMutable {
+        private static final long serialVersionUID = -2287914705360517548L;
+
+        private int index;
+
+        private Slot(final int index) {
+            super();
+            moveTo(index);
+        }
+
+        /**
+         * 将视图移动到指定槽位。
+         *
+         * @param index 槽位索引
+         * @return 当前视图
+         * @throws ArrayIndexOutOfBoundsException 当索引越界时抛出此异常
+         */
+        public Slot moveTo(final int index) {
+            if (index < 0 || index >= values.length) {
+                throw new ArrayIndexOutOfBoundsException(index);
+            }
+            this.index = index;
+            return this;
+        }
+
+        /**
+         * 返回视图当前指向的槽位索引。
+         *
+         * @return 槽位索引
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * 使用一个 {@link Number} 实例设置槽位的值。
+         *
+         * @param value 要设置的值，不能为 {@code null}
+         * @throws NullPointerException 当指定的值为 {@code null} 时抛出此异常
+         */
+        @Override
+        public void setValue(final Number value) {
+            values[index] = value.intValue();
+        }
+
+        /**
+         * 设置槽位的值。
+         *
+         * @param value 要设置的值
+         */
+        public void setValue(final int value) {
+            values[index] = value;
+        }
+
+        /**
+         * 以 int 类型返回值，与 {@link #intValue()} 相同。
+         *
+         * @return int 类型的值
+         */
+        @Override
+        public int getAsInt() {
+            return intValue();
+        }
+
+        /**
+         * 设置值，与 {@link #setValue(int)} 相同。
+         *
+         * @param value 要设置的值
+         */
+        @Override
+        public void set(final int value) {
+            setValue(value);
+        }
+
+        /**
+         * 以 {@link Integer} 实例的形式获取槽位的值。
+         *
+         * @return 值得 {@link Integer} 实例，不会为 {@code null}
+         */
+        @Override
+        public Integer getValue() {
+            return Integer.valueOf(values[index]);
+        }
+
+        @Override
+        public int intValue() {
+            return values[index];
+        }
+
+        @Override
+        public long longValue() {
+            return values[index];
+        }
+
+        @Override
+        public float floatValue() {
+            return values[index];
+        }
+
+        @Override
+        public double doubleValue() {
+            return values[index];
+        }
+
+        /**
+         * 槽位的值递增 1
+         */
+        public void increment() {
+            values[index]++;
+        }
+
+        /**
+         * 对槽位的值递增 1 并返回。
+         *
+         * @return 递增之后的值
+         */
+        public int incrementAndGet() {
+            return ++values[index];
+        }
+
+        /**
+         * 槽位的值递减 1
+         */
+        public void decrement() {
+            values[index]--;
+        }
+
+        /**
+         * 使用指定加数对槽位的值进行加法运算。
+         *
+         * @param operand 加数
+         * @return 当前视图
+         */
+        public Slot add(final int operand) {
+            values[index] += operand;
+            return this;
+        }
+
+        /**
+         * 对槽位的值使用指定加数进行加法运算后返回。
+         *
+         * @param operand 加数
+         * @return 加法运算后的值
+         */
+        public int addAndGet(final int operand) {
+            values[index] += operand;
+            return values[index];
+        }
+
+        /**
+         * <p>将槽位的值和另一个 {@link MutableNumber} 对象进行 int 值的升序比较。</p>
+         *
+         * @param o 另一个 {@link MutableNumber} 实现对象，不能为 {@code null}
+         * @return 若槽位的值较小则返回负数；若槽位的值较大则返回正数；若相等则返回 0
+         * @throws NullPointerException 当指定参数为 {@code null} 时抛出此异常
+         */
+        @Override
+        public int compareTo(final MutableNumber o) {
+            return Integer.compare(values[index], o.intValue());
+        }
+
+        /**
+         * 以字符串类型返回槽位的值。
+         *
+         * @return 槽位的值的字符串类型
+         */
+        @Override
+        public String toString() {
+            return String.valueOf(values[index]);
+        }
+    }
+    // ----- Inner classes ----- ending
+}
\ No newline at end of file
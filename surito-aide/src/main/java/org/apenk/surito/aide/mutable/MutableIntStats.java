@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import java.util.function.IntConsumer;
+
+/**
+ * <p>int 值的运行时统计量累加器，参见 {@link MutableStats}。</p>
+ *
+ * <p>实现了 {@link IntConsumer}，可以直接用于 {@code forEach} 等方法。总和以 long 类型累加，不会因 int 溢出而出错。</p>
+ *
+ * <p>注 1，没有记录任何值时，最小值为 {@code Integer.MAX_VALUE}，最大值为 {@code Integer.MIN_VALUE}。</p>
+ *
+ * <p>注 2，该类非线程安全。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class MutableIntStats extends MutableStats implements IntConsumer {
+    private static final long serialVersionUID = -7820745583927410521L;
+
+    private long sum;
+
+    private int min = Integer.MAX_VALUE;
+
+    private int max = Integer.MIN_VALUE;
+
+    /**
+     * 创建一个没有记录任何值的 MutableIntStats 实例。
+     */
+    public MutableIntStats() {
+        super();
+    }
+
+
+
+    // ----- Record ----- beginning
+    /**
+     * 记录一个值。
+     *
+     * @param value 要记录的值
+     */
+    @Override
+    public void accept(final int value) {
+        update(value);
+        sum += value;
+        if (value < min) {
+            min = value;
+        }
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * 记录数组中的所有值。
+     *
+     * @param values 要记录的值，不能为 {@code null}
+     */
+    public void acceptAll(final int[] values) {
+        for (final int value : values) {
+            accept(value);
+        }
+    }
+
+    /**
+     * <p>将另一个实例的统计量合并到此实例中，结果等同于此实例记录了两者记录过的所有值。</p>
+     *
+     * <p>{@code other} 不会被修改；合并期间 {@code other} 不应被其它线程更新。</p>
+     *
+     * @param other 另一个实例，不能为 {@code null}
+     * @return 当前实例
+     */
+    public MutableIntStats merge(final MutableIntStats other) {
+        if (other.getCount() == 0) {
+            return this;
+        }
+        combine(other);
+        sum += other.sum;
+        if (other.min < min) {
+            min = other.min;
+        }
+        if (other.max > max) {
+            max = other.max;
+        }
+        return this;
+    }
+
+    /**
+     * 清除所有已记录的值。
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        sum = 0;
+        min = Integer.MAX_VALUE;
+        max = Integer.MIN_VALUE;
+    }
+    // ----- Record ----- ending
+
+
+
+    // ----- Get ----- beginning
+    /**
+     * 返回已记录的值的总和。
+     *
+     * @return 总和
+     */
+    public long getSum() {
+        return sum;
+    }
+
+    /**
+     * 返回已记录的值中的最小值，没有记录任何值时返回 {@code Integer.MAX_VALUE}。
+     *
+     * @return 最小值
+     */
+    public int getMin() {
+        return min;
+    }
+
+    /**
+     * 返回已记录的值中的最大值，没有记录任何值时返回 {@code Integer.MIN_VALUE}。
+     *
+     * @return 最大值
+     */
+    public int getMax() {
+        return max;
+    }
+
+    @Override
+    public double getSumAsDouble() {
+        return sum;
+    }
+
+    @Override
+    public double getMinAsDouble() {
+        return min;
+    }
+
+    @Override
+    public double getMaxAsDouble() {
+        return max;
+    }
+
+    @Override
+    public Snapshot snapshot() {
+        return newSnapshot(Long.valueOf(sum), Integer.valueOf(min), Integer.valueOf(max));
+    }
+    // ----- Get ----- ending
+}
\ No newline at end of file
@@ -15,9 +15,17 @@
  */
 package org.apenk.surito.aide.mutable;
 
+import org.apenk.surito.aide.NumberAide;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 /**
  * <p>可变数字类型包装的基类</p>
  *
+ * <p>除 {@link #toString()} 外，还可以通过 {@code appendTo} 和 {@code writeAscii} 系列方法将值的十进制表示直接写入目标，
+ * 整数类型的实现不会创建中间的 {@link String}。</p>
+ *
  * @author Kweny
  * @since 0.0.1
  */
@@ -43,4 +51,160 @@ public abstract class MutableNumber<T extends Number> extends Number implements
     public static MutableInt newInt(final String value, final int defaultValue) {
         return new MutableInt(value, defaultValue);
     }
+
+    public static MutableLong newLong(final long value) {
+        return new MutableLong(value);
+    }
+
+    public static MutableLong newLong(final Number value) {
+        return new MutableLong(value);
+    }
+
+    public static MutableLong newLong(final Number value, final long defaultValue) {
+        return new MutableLong(value, defaultValue);
+    }
+
+    public static MutableLong newLong(final String value) {
+        return new MutableLong(value);
+    }
+
+    public static MutableLong newLong(final String value, final long defaultValue) {
+        return new MutableLong(value, defaultValue);
+    }
+
+    public static MutableDouble newDouble(final double value) {
+        return new MutableDouble(value);
+    }
+
+    public static MutableDouble newDouble(final Number value) {
+        return new MutableDouble(value);
+    }
+
+    public static MutableDouble newDouble(final Number value, final double defaultValue) {
+        return new MutableDouble(value, defaultValue);
+    }
+
+    public static MutableDouble newDouble(final String value) {
+        return new MutableDouble(value);
+    }
+
+    public static MutableDouble newDouble(final String value, final double defaultValue) {
+        return new MutableDouble(value, defaultValue);
+    }
+
+    public static MutableFloat newFloat(final float value) {
+        return new MutableFloat(value);
+    }
+
+    public static MutableFloat newFloat(final Number value) {
+        return new MutableFloat(value);
+    }
+
+    public static MutableFloat newFloat(final Number value, final float defaultValue) {
+        return new MutableFloat(value, defaultValue);
+    }
+
+    public static MutableFloat newFloat(final String value) {
+        return new MutableFloat(value);
+    }
+
+    public static MutableFloat newFloat(final String value, final float defaultValue) {
+        return new MutableFloat(value, defaultValue);
+    }
+
+    public static MutableShort newShort(final short value) {
+        return new MutableShort(value);
+    }
+
+    public static MutableShort newShort(final Number value) {
+        return new MutableShort(value);
+    }
+
+    public static MutableShort newShort(final Number value, final short defaultValue) {
+        return new MutableShort(value, defaultValue);
+    }
+
+    public static MutableShort newShort(final String value) {
+        return new MutableShort(value);
+    }
+
+    public static MutableShort newShort(final String value, final short defaultValue) {
+        return new MutableShort(value, defaultValue);
+    }
+
+    public static MutableByte newByte(final byte value) {
+        return new MutableByte(value);
+    }
+
+    public static MutableByte newByte(final Number value) {
+        return new MutableByte(value);
+    }
+
+    public static MutableByte newByte(final Number value, final byte defaultValue) {
+        return new MutableByte(value, defaultValue);
+    }
+
+    public static MutableByte newByte(final String value) {
+        return new MutableByte(value);
+    }
+
+    public static MutableByte newByte(final String value, final byte defaultValue) {
+        return new MutableByte(value, defaultValue);
+    }
+
+
+
+    // ----- Format ----- beginning
+    /**
+     * <p>将实例值的十进制表示追加到 {@link StringBuilder} 中，结果与 {@link #toString()} 相同，但不会创建 {@link String}。</p>
+     *
+     * <p>默认以 {@link #longValue()} 输出，适用于所有的整数类型，浮点类型的子类会重写此方法。</p>
+     *
+     * @param builder 目标，不能为 {@code null}
+     * @return 目标 {@code builder}
+     */
+    public StringBuilder appendTo(final StringBuilder builder) {
+        return builder.append(longValue());
+    }
+
+    /**
+     * <p>将实例值的十进制表示追加到 {@link Appendable} 中，结果与 {@link #toString()} 相同，但不会创建 {@link String}。</p>
+     *
+     * <p>默认以 {@link #longValue()} 输出，适用于所有的整数类型，浮点类型的子类会重写此方法。</p>
+     *
+     * @param appendable 目标，不能为 {@code null}
+     * @return 目标 {@code appendable}
+     * @throws IOException 当目标追加字符失败时抛出此异常
+     */
+    public Appendable appendTo(final Appendable appendable) throws IOException {
+        return NumberAide.appendTo(longValue(), appendable);
+    }
+
+    /**
+     * <p>将实例值的十进制表示以 ASCII 字节写入数组的指定位置，结果与 {@link #toString()} 相同，但不会创建 {@link String}。</p>
+     *
+     * <p>默认以 {@link #longValue()} 输出，适用于所有的整数类型，浮点类型的子类会重写此方法。</p>
+     *
+     * @param bytes 目标数组，不能为 {@code null}
+     * @param offset 写入的起始索引
+     * @return 写入的最后一个字节之后的索引，即下一次写入的起始索引
+     * @throws IndexOutOfBoundsException 当数组的剩余空间不足时抛出此异常，此时数组不会被修改
+     */
+    public int writeAscii(final byte[] bytes, final int offset) {
+        return NumberAide.writeAscii(longValue(), bytes, offset);
+    }
+
+    /**
+     * <p>将实例值的十进制表示以 ASCII 字节写入缓冲区的当前位置，并将 position 后移，结果与 {@link #toString()} 相同，但不会创建 {@link String}。</p>
+     *
+     * <p>默认以 {@link #longValue()} 输出，适用于所有的整数类型，浮点类型的子类会重写此方法。</p>
+     *
+     * @param buffer 目标缓冲区，不能为 {@code null}
+     * @return 目标缓冲区
+     * @throws java.nio.BufferOverflowException 当缓冲区的剩余空间不足时抛出此异常，此时缓冲区不会被修改
+     */
+    public ByteBuffer writeAscii(final ByteBuffer buffer) {
+        return NumberAide.writeAscii(longValue(), buffer);
+    }
+    // ----- Format ----- ending
 }
\ No newline at end of file
@@ -0,0 +1,234 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * <p>{@link MutableNumber} 实例的线程本地回收池。</p>
+ *
+ * <p>当可变实例逃逸到集合等位置时，逃逸分析无法消除它们，每批数据都会产生大量短命对象。
+ * 通过 {@link #acquire()} 获取实例、用完后通过 {@link #release(MutableNumber)} 归还，可以在批次之间复用同一批实例。
+ * 每个线程各自维护一个池，获取和归还都不需要同步；归还到池中的实例会先由重置函数复位，池满时归还的实例直接丢弃，交给 GC 回收。</p>
+ *
+ * <p>调试模式用于在测试中发现误用，会以全局锁记录所有在池中的实例，代价较高，不应在生产中开启：</p>
+ * <ul>
+ *     <li>重复归还：归还一个已经在池中的实例时抛出 {@link IllegalStateException}；</li>
+ *     <li>归还后使用：归还时记录实例的值，再次被获取时若值已经改变（说明归还后仍被修改）则抛出 {@link IllegalStateException}。
+ *     只能发现归还后的写入，无法发现归还后的读取。</li>
+ * </ul>
+ *
+ * <p>注，实例可以在一个线程获取、在另一个线程归还，此时会进入归还线程的池。</p>
+ *
+ * @param <M> 池中实例的类型
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class MutableRecycler<M extends MutableNumber<?>> {
+
+    /**
+     * 默认的每线程容量
+     */
+    public static final int DEFAULT_MAX_PER_THREAD = 256;
+
+    private final Supplier<? extends M> factory;
+
+    private final Consumer<? super M> resetter;
+
+    private final int maxPerThread;
+
+    private final boolean debug;
+
+    private final ThreadLocal<Stack> stacks = ThreadLocal.withInitial(Stack::new);
+
+    /**
+     * 调试模式下所有在池中的实例及其归还时的值，受自身锁保护
+     */
+    private final Map<Object, Long> pooled;
+
+    // ----- 构造方法 ----- beginning
+    /**
+     * 创建一个 MutableRecycler 实例。
+     *
+     * @param factory 池为空时创建新实例的函数，不能为 {@code null}
+     * @param resetter 实例归还到池中之前的复位函数，为 {@code null} 时不复位
+     * @param maxPerThread 每个线程的池最多保留的实例数量，不能为负数
+     * @param debug 是否开启调试模式
+     * @throws NullPointerException 当 {@code factory} 为 {@code null} 时抛出此异常
+     * @throws IllegalArgumentException 当容量为负数时抛出此异常
+     */
+    public MutableRecycler(final Supplier<? extends M> factory, final Consumer<? super M> resetter, final int maxPerThread, final boolean debug) {
+        super();
+        if (factory == null) {
+            throw new NullPointerException("Factory must not be null");
+        }
+        if (maxPerThread < 0) {
+            throw new IllegalArgumentException("Max per thread must not be negative: [" + maxPerThread + "]");
+        }
+        this.factory = factory;
+        this.resetter = resetter;
+        this.maxPerThread = maxPerThread;
+        this.debug = debug;
+        this.pooled = debug ? new IdentityHashMap<>() : null;
+    }
+
+    /**
+     * 创建一个回收 {@link MutableInt} 的 MutableRecycler 实例，获取到的实例值为 0。
+     *
+     * @param maxPerThread 每个线程的池最多保留的实例数量，不能为负数
+     * @param debug 是否开启调试模式
+     * @return 回收池
+     * @throws IllegalArgumentException 当容量为负数时抛出此异常
+     */
+    public static MutableRecycler<MutableInt> ofInt(final int maxPerThread, final boolean debug) {
+        return new MutableRecycler<>(MutableInt::new, counter -> counter.setValue(0), maxPerThread, debug);
+    }
+
+    /**
+     * 创建一个回收 {@link MutableLong} 的 MutableRecycler 实例，获取到的实例值为 0。
+     *
+     * @param maxPerThread 每个线程的池最多保留的实例数量，不能为负数
+     * @param debug 是否开启调试模式
+     * @return 回收池
+     * @throws IllegalArgumentException 当容量为负数时抛出此异常
+     */
+    public static MutableRecycler<MutableLong> ofLong(final int maxPerThread, final boolean debug) {
+        return new MutableRecycler<>(MutableLong::new, counter -> counter.setValue(0L), maxPerThread, debug);
+    }
+    // ----- 构造方法 ----- ending
+
+
+
+    // ----- Acquire/Release ----- beginning
+    /**
+     * 从当前线程的池中取出一个实例，池为空时创建一个新实例。
+     *
+     * @return 实例
+     * @throws IllegalStateException 调试模式下，当取出的实例在归还后被修改过时抛出此异常
+     */
+    public M acquire() {
+        final Stack stack = stacks.get();
+        if (stack.size == 0) {
+            return factory.get();
+        }
+        @SuppressWarnings("unchecked")
+        final M instance = (M) stack.items[--stack.size];
+        stack.items[stack.size] = null;
+        if (debug) {
+            final Long fingerprint;
+            synchronized (pooled) {
+                fingerprint = pooled.remove(instance);
+            }
+            if (fingerprint == null || fingerprint != fingerprintOf(instance)) {
+                throw new IllegalStateException("Instance was modified after release: [" + instance + "]");
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * <p>将实例归还到当前线程的池中，归还后调用方不应再使用该实例。</p>
+     *
+     * <p>池已满时实例会被丢弃。</p>
+     *
+     * @param instance 要归还的实例，为 {@code null} 时忽略
+     * @throws IllegalStateException 调试模式下，当实例已经在池中（重复归还）时抛出此异常
+     */
+    public void release(final M instance) {
+        if (instance == null) {
+            return;
+        }
+        final Stack stack = stacks.get();
+        if (!debug) {
+            if (stack.size < maxPerThread) {
+                if (resetter != null) {
+                    resetter.accept(instance);
+                }
+                stack.push(instance);
+            }
+            return;
+        }
+        synchronized (pooled) {
+            if (pooled.containsKey(instance)) {
+                throw new IllegalStateException("Instance released twice: [" + instance + "]");
+            }
+            if (stack.size < maxPerThread) {
+                if (resetter != null) {
+                    resetter.accept(instance);
+                }
+                pooled.put(instance, fingerprintOf(instance));
+                stack.push(instance);
+            }
+        }
+    }
+
+    /**
+     * 返回当前线程的池中的实例数量。
+     *
+     * @return 实例数量
+     */
+    public int pooledInCurrentThread() {
+        return stacks.get().size;
+    }
+
+    /**
+     * 返回每个线程的池最多保留的实例数量。
+     *
+     * @return 每线程容量
+     */
+    public int getMaxPerThread() {
+        return maxPerThread;
+    }
+
+    /**
+     * 检查是否开启了调试模式。
+     *
+     * @return 开启时返回 {@code true}
+     */
+    public boolean isDebug() {
+        return debug;
+    }
+    // ----- Acquire/Release ----- ending
+
+
+
+    /**
+     * 返回实例值的指纹，整数类型以 long 值、浮点类型以 double 值的位表示比较。
+     */
+    private static long fingerprintOf(final MutableNumber<?> instance) {
+        return Double.doubleToRawLongBits(instance.doubleValue()) ^ instance.longValue();
+    }
+
+    /**
+     * 线程本地的实例栈。
+     */
+    private static final class Stack {
+        private Object[] items = new Object[16];
+
+        private int size;
+
+        private void push(final Object instance) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size << 1);
+            }
+            items[size++] = instance;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,288 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import java.io.Serializable;
+
+/**
+ * <p>可合并的运行时统计量（数量、总和、最小值、最大值、平均值、方差）累加器的基类。</p>
+ *
+ * <p>平均值和方差使用 Welford 算法逐个更新，每次记录都是 O(1) 且不会创建对象，
+ * 也不会像先求平方和再相减那样在数值较大时损失精度。多个实例可以通过 {@code merge} 合并（Chan 等人的并行合并公式），
+ * 因此可以为每个线程或分片各自维护一个实例，在读取时再合并，避免在共享状态上竞争。</p>
+ *
+ * <p>具体的实现有 {@link MutableIntStats}、{@link MutableLongStats} 和 {@link MutableDoubleStats}，
+ * 它们分别以各自的类型维护总和、最小值和最大值。</p>
+ *
+ * <p>注 1，该类非线程安全，跨线程读取时应先通过 {@link #snapshot()} 在所属线程获取快照，或自行同步。</p>
+ *
+ * <p>注 2，没有记录任何值时，平均值和方差均为 0，最小值和最大值的约定见具体的实现。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public abstract class MutableStats implements Serializable {
+    private static final long serialVersionUID = -1573804460229671822L;
+
+    /**
+     * 已记录的值的数量
+     */
+    private long count;
+
+    /**
+     * 已记录的值的平均值
+     */
+    private double mean;
+
+    /**
+     * 已记录的值与平均值之差的平方和
+     */
+    private double m2;
+
+    MutableStats() {
+        super();
+    }
+
+
+
+    // ----- Get ----- beginning
+    /**
+     * 返回已记录的值的数量。
+     *
+     * @return 数量
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * 返回已记录的值的平均值，没有记录任何值时返回 0。
+     *
+     * @return 平均值
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * 返回已记录的值的总体方差，没有记录任何值时返回 0。
+     *
+     * @return 总体方差
+     */
+    public double getVariance() {
+        return count == 0 ? 0.0D : m2 / count;
+    }
+
+    /**
+     * 返回已记录的值的样本方差（除以 {@code n - 1}），记录的值少于两个时返回 0。
+     *
+     * @return 样本方差
+     */
+    public double getSampleVariance() {
+        return count < 2 ? 0.0D : m2 / (count - 1);
+    }
+
+    /**
+     * 返回已记录的值的总体标准差，没有记录任何值时返回 0。
+     *
+     * @return 总体标准差
+     */
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * 以 double 类型返回已记录的值的总和。
+     *
+     * @return 总和
+     */
+    public abstract double getSumAsDouble();
+
+    /**
+     * 以 double 类型返回已记录的值中的最小值。
+     *
+     * @return 最小值
+     */
+    public abstract double getMinAsDouble();
+
+    /**
+     * 以 double 类型返回已记录的值中的最大值。
+     *
+     * @return 最大值
+     */
+    public abstract double getMaxAsDouble();
+    // ----- Get ----- ending
+
+
+
+    // ----- Snapshot ----- beginning
+    /**
+     * 返回当前统计量的不可变快照，快照不会随此实例的后续更新而变化。
+     *
+     * @return 不可变快照
+     */
+    public abstract Snapshot snapshot();
+
+    /**
+     * 清除所有已记录的值。
+     */
+    public void reset() {
+        count = 0;
+        mean = 0.0D;
+        m2 = 0.0D;
+    }
+    // ----- Snapshot ----- ending
+
+
+
+    /**
+     * 使用 Welford 算法将一个值计入数量、平均值和方差。
+     *
+     * @param value 要记录的值
+     */
+    void update(final double value) {
+        final long n = ++count;
+        final double delta = value - mean;
+        mean += delta / n;
+        m2 += delta * (value - mean);
+    }
+
+    /**
+     * 将另一个实例的数量、平均值和方差合并到此实例中。
+     *
+     * @param other 另一个实例
+     */
+    void combine(final MutableStats other) {
+        final long otherCount = other.count;
+        if (otherCount == 0) {
+            return;
+        }
+        if (count == 0) {
+            count = otherCount;
+            mean = other.mean;
+            m2 = other.m2;
+            return;
+        }
+        final long n = count + otherCount;
+        final double delta = other.mean - mean;
+        mean += delta * otherCount / n;
+        m2 += other.m2 + delta * delta * ((double) count * otherCount / n);
+        count = n;
+    }
+
+    Snapshot newSnapshot(final Number sum, final Number min, final Number max) {
+        return new Snapshot(count, sum, min, max, mean, m2);
+    }
+
+    /**
+     * 以 {@code {count=..., sum=..., min=..., max=..., mean=..., variance=...}} 的格式返回字符串。
+     *
+     * @return 字符串表示
+     */
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+
+
+
+    // ----- Inner classes ----- beginning
+    /**
+     * <p>{@link MutableStats} 的不可变快照。</p>
+     *
+     * <p>总和、最小值和最大值保留所属统计量的类型：{@link MutableIntStats} 的总和为 {@link Long}、最小值和最大值为 {@link Integer}；
+     * {@link MutableLongStats} 均为 {@link Long}；{@link MutableDoubleStats} 均为 {@link Double}。</p>
+     */
+    public static final class Snapshot implements Serializable {
+        private static final long serialVersionUID = 2209187311562457105L;
+
+        private final long count;
+
+        private final Number sum;
+
+        private final Number min;
+
+        private final Number max;
+
+        private final double mean;
+
+        private final double m2;
+
+        private Snapshot(final long count, final Number sum, final Number min, final Number max, final double mean, final double m2) {
+            super();
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+            this.mean = mean;
+            this.m2 = m2;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public Number getSum() {
+            return sum;
+        }
+
+        public Number getMin() {
+            return min;
+        }
+
+        public Number getMax() {
+            return max;
+        }
+
+        public double getMean() {
+            return mean;
+        }
+
+        /**
+         * 返回总体方差，没有记录任何值时返回 0。
+         *
+         * @return 总体方差
+         */
+        public double getVariance() {
+            return count == 0 ? 0.0D : m2 / count;
+        }
+
+        /**
+         * 返回样本方差（除以 {@code n - 1}），记录的值少于两个时返回 0。
+         *
+         * @return 样本方差
+         */
+        public double getSampleVariance() {
+            return count < 2 ? 0.0D : m2 / (count - 1);
+        }
+
+        /**
+         * 返回总体标准差，没有记录任何值时返回 0。
+         *
+         * @return 总体标准差
+         */
+        public double getStandardDeviation() {
+            return Math.sqrt(getVariance());
+        }
+
+        @Override
+        public String toString() {
+            return "{count=" + count + ", sum=" + sum + ", min=" + min + ", max=" + max
+                    + ", mean=" + mean + ", variance=" + getVariance() + "}";
+        }
+    }
+    // ----- Inner classes ----- ending
+}
\ No newline at end of file
@@ -0,0 +1,325 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * <p>经过缓存行填充、单线程写入多线程读取的可变 int 类型包装，用于每个工作线程各持有一个的计数器。</p>
+ *
+ * <p>多个 {@link MutableInt} 连续分配（例如放在同一个数组中由不同线程各自更新）时，相邻实例的值很可能落在同一个缓存行上，
+ * 一个线程的写入会使其它线程缓存中的整行失效，即伪共享（false sharing），导致线程数增加时吞吐量反而下降。
+ * 该类在值的前后各填充 120 字节，使任意两个实例的值之间至少相隔 128 字节，
+ * 即使在缓存行为 64 字节且开启相邻行预取的处理器上也不会互相干扰。</p>
+ *
+ * <p>值只应由一个线程（所有者）修改：写入使用有序写（{@link AtomicIntegerFieldUpdater#lazySet(Object, int)}），开销与普通写入接近，
+ * 读取使用 volatile 读，因此其它线程（例如汇总线程）总能读取到所有者最近写入的值。</p>
+ *
+ * <p>注 1，该类不是 {@link java.util.concurrent.atomic.AtomicInteger}，多个线程同时修改同一个实例会丢失更新；多写场景应使用 {@link AtomicMutableInt} 或 {@link StripedMutableLong}。</p>
+ *
+ * <p>注 2，填充依赖于 HotSpot 将父类字段排在子类字段之前的布局规则，因此填充字段分布在两个父类和此类中。</p>
+ *
+ * <p>注 3，实例之间按引用比较；序列化时只会写出当前值的一个 {@link MutableInt} 快照，不包含填充。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class PaddedMutableInt extends PaddedMutableIntValue implements IntMutable {
+    private static final long serialVersionUID = 2941738208815406271L;
+
+    private static final AtomicIntegerFieldUpdater<PaddedMutableIntValue> UPDATER = AtomicIntegerFieldUpdater.newUpdater(PaddedMutableIntValue.class, "value");
+
+    /**
+     * 值之后的填充
+     */
+    long p16, p17, p18, p19, p20, p21, p22, p23, p24, p25, p26, p27, p28, p29, p30;
+
+    // ----- 构造方法 ----- beginning
+    /**
+     * 使用默认值 0 创建一个 PaddedMutableInt 实例。
+     */
+    public PaddedMutableInt() {
+        super();
+    }
+
+    /**
+     * 使用指定值创建一个 PaddedMutableInt 实例。
+     *
+     * @param value 初始值
+     */
+    public PaddedMutableInt(final int value) {
+        super();
+        UPDATER.lazySet(this, value);
+    }
+
+    /**
+     * <p>创建一个指定长度的数组，并为每个元素创建一个初始值为 0 的 PaddedMutableInt 实例，通常用于为每个工作线程分配一个计数器。</p>
+     *
+     * @param length 数组长度
+     * @return 已填满实例的数组
+     * @throws NegativeArraySizeException 当长度为负数时抛出此异常
+     */
+    public static PaddedMutableInt[] newArray(final int length) {
+        final PaddedMutableInt[] array = new PaddedMutableInt[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = new PaddedMutableInt();
+        }
+        return array;
+    }
+
+    /**
+     * <p>返回数组中所有实例的值之和，以 long 类型计算以避免溢出。</p>
+     *
+     * <p>注，结果不是原子快照，与之并发的更新可能被计入也可能不被计入。</p>
+     *
+     * @param array 实例数组，不能为 {@code null}，也不能包含 {@code null} 元素
+     * @return 所有实例的值之和
+     */
+    public static long sum(final PaddedMutableInt[] array) {
+        long sum = 0;
+        for (final PaddedMutableInt counter : array) {
+            sum += counter.value;
+        }
+        return sum;
+    }
+    // ----- 构造方法 ----- ending
+
+
+
+    // ----- Set/Get ----- beginning
+    /**
+     * 使用一个 {@link Number} 实例设置值。
+     *
+     * @param value 要设置的值，不能为 {@code null}
+     * @throws NullPointerException 当指定的值为 {@code null} 时抛出此异常
+     */
+    @Override
+    public void setValue(final Number value) {
+        UPDATER.lazySet(this, value.intValue());
+    }
+
+    /**
+     * 设置值
+     *
+     * @param value 要设置的值
+     */
+    public void setValue(final int value) {
+        UPDATER.lazySet(this, value);
+    }
+
+    /**
+     * 以 int 类型返回值，与 {@link #intValue()} 相同。
+     *
+     * @return int 类型的值
+     */
+    @Override
+    public int getAsInt() {
+        return intValue();
+    }
+
+    /**
+     * 设置值，与 {@link #setValue(int)} 相同。
+     *
+     * @param value 要设置的值
+     */
+    @Override
+    public void set(final int value) {
+        setValue(value);
+    }
+
+    /**
+     * 以 {@link Integer} 实例的形式获取值。
+     *
+     * @return 值得 {@link Integer} 实例，不会为 {@code null}
+     */
+    @Override
+    public Integer getValue() {
+        return Integer.valueOf(value);
+    }
+
+    /**
+     * 以 int 类型返回该 PaddedMutableInt 实例的值
+     *
+     * @return int 类型的值
+     */
+    @Override
+    public int intValue() {
+        return value;
+    }
+
+    /**
+     * 以 long 类型返回该 PaddedMutableInt 实例的值
+     *
+     * @return long 类型的值
+     */
+    @Override
+    public long longValue() {
+        return value;
+    }
+
+    /**
+     * 以 float 类型返回该 PaddedMutableInt 实例的值
+     *
+     * @return float 类型的值
+     */
+    @Override
+    public float floatValue() {
+        return value;
+    }
+
+    /**
+     * 以 double 类型返回该 PaddedMutableInt 实例的值
+     *
+     * @return double 类型的值
+     */
+    @Override
+    public double doubleValue() {
+        return value;
+    }
+    // ----- Set/Get ----- ending
+
+
+
+    // ----- Increment/Decrement ----- beginning
+    /**
+     * 实例值递增 1
+     */
+    public void increment() {
+        UPDATER.lazySet(this, value + 1);
+    }
+
+    /**
+     * 对实例值递增 1 并返回。
+     *
+     * @return 递增之后的实例值
+     */
+    public int incrementAndGet() {
+        final int next = value + 1;
+        UPDATER.lazySet(this, next);
+        return next;
+    }
+
+    /**
+     * 实例值递减 1
+     */
+    public void decrement() {
+        UPDATER.lazySet(this, value - 1);
+    }
+
+    /**
+     * 对实例值递减 1 并返回。
+     *
+     * @return 递减之后的实例值
+     */
+    public int decrementAndGet() {
+        final int next = value - 1;
+        UPDATER.lazySet(this, next);
+        return next;
+    }
+    // ----- Increment/Decrement ----- ending
+
+
+
+    // ----- Add/Subtract ----- beginning
+    /**
+     * 加法：使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数
+     * @return 当前实例
+     */
+    public PaddedMutableInt add(final int operand) {
+        UPDATER.lazySet(this, value + operand);
+        return this;
+    }
+
+    /**
+     * 对实例值使用指定加数进行加法运算后返回。
+     *
+     * @param operand 加数
+     * @return 加法运算后的实例值
+     */
+    public int addAndGet(final int operand) {
+        final int next = value + operand;
+        UPDATER.lazySet(this, next);
+        return next;
+    }
+
+    /**
+     * 减法：使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数
+     * @return 当前实例
+     */
+    public PaddedMutableInt subtract(final int operand) {
+        UPDATER.lazySet(this, value - operand);
+        return this;
+    }
+    // ----- Add/Subtract ----- ending
+
+
+
+    /**
+     * <p>将此实例和另一个 {@link MutableNumber} 对象进行 int 值的升序比较。</p>
+     *
+     * @param o 另一个 {@link MutableNumber} 实现对象，不能为 {@code null}
+     * @return 若此实例的 int 值较小则返回负数；若此实例的 int 值较大则返回正数；若 int 值相等则返回 0
+     * @throws NullPointerException 当指定参数为 {@code null} 时抛出此异常
+     */
+    @Override
+    public int compareTo(final MutableNumber o) {
+        return Integer.compare(value, o.intValue());
+    }
+
+    /**
+     * 以字符串类型返回实例值。
+     *
+     * @return 实例值的字符串类型
+     */
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    /**
+     * 序列化时以当前值的 {@link MutableInt} 快照替代，填充字段不会被序列化。
+     *
+     * @return 当前值的快照
+     */
+    private Object writeReplace() {
+        return new MutableInt(value);
+    }
+}
+
+/**
+ * 值之前的填充
+ */
+abstract class PaddedMutableIntPadding extends MutableNumber<Number> {
+    private static final long serialVersionUID = -8467127925064829217L;
+
+    long p01, p02, p03, p04, p05, p06, p07, p08, p09, p10, p11, p12, p13, p14, p15;
+}
+
+/**
+ * 位于两段填充之间的值
+ */
+abstract class PaddedMutableIntValue extends PaddedMutableIntPadding {
+    private static final long serialVersionUID = 5330816436101931650L;
+
+    /**
+     * 可变的值，只由所有者线程通过有序写修改
+     */
+    volatile int value;
+}
\ No newline at end of file
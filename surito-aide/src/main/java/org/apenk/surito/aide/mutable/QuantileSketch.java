@@ -0,0 +1,584 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p>基于 KLL 算法的流式近似分位数草图，内存有界且可以合并，适用于无法保存全部数据的无界数据流。</p>
+ *
+ * <p>草图由若干层组成，第 {@code h} 层中的每个值代表 {@code 2^h} 个原始值。新值写入第 0 层，
+ * 某一层满时将其排序，随机地保留奇数位或偶数位上的一半元素提升到上一层，其余的丢弃（compaction）。
+ * 最高层的容量为 {@code k}，往下每层的容量依次乘以 2/3，最小为 8，因此无论记录了多少个值，
+ * 保留的值都不超过约 {@code 3k} 个，记录一个值的均摊代价为 O(1)（忽略排序的对数因子）。</p>
+ *
+ * <p>误差以秩（rank）衡量：若 {@link #quantile(double)} 返回 {@code x}，则 {@code x} 在所有原始值中的真实秩与 {@code q}
+ * 之差不超过 {@code ε}，与值的分布和数量无关。理论上 {@code ε = O(1/k)}，
+ * 对于默认的 {@code k = 200}，单个分位数的秩误差在 99% 的情况下不超过约 1.5%；{@code k} 加倍，误差约减半。
+ * 在 {@code k} 相同的草图之间合并，合并后的误差界与直接记录所有值相同。
+ * 最小值、最大值和数量是精确记录的，在第 0 层第一次被压缩之前（约 {@code k} 个值以内）结果也是精确的。</p>
+ *
+ * <p>通过 {@link #writeTo(ByteBuffer)} 和 {@link #readFrom(ByteBuffer)} 可以将草图序列化为紧凑的字节形式，
+ * 例如由各个节点分别记录，再汇总到一处合并。</p>
+ *
+ * <p>注 1，不能记录 NaN。</p>
+ *
+ * <p>注 2，该类非线程安全，多线程记录时应为每个线程各自维护一个实例，读取时再通过 {@link #merge(QuantileSketch)} 合并。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class QuantileSketch implements Serializable {
+    private static final long serialVersionUID = -3120578365214036480L;
+
+    /**
+     * 默认的 {@code k} 值，单个分位数的秩误差约为 1.5%
+     */
+    public static final int DEFAULT_K = 200;
+
+    /**
+     * {@code k} 的最小值，同时也是每一层的最小容量
+     */
+    public static final int MIN_K = 8;
+
+    /**
+     * {@code k} 的最大值
+     */
+    public static final int MAX_K = 1 << 16;
+
+    /**
+     * 相邻两层容量的比例
+     */
+    private static final double CAPACITY_RATIO = 2.0D / 3.0D;
+
+    /**
+     * 序列化格式的版本号
+     */
+    private static final byte SERIAL_VERSION = 1;
+
+    private final int k;
+
+    /**
+     * 各层的值，第 {@code h} 层的有效部分为 {@code levels[h][0, sizes[h])}
+     */
+    private double[][] levels;
+
+    private int[] sizes;
+
+    private int levelCount;
+
+    /**
+     * 第 0 层的容量，在层数变化时重新计算，避免每次记录都计算一次
+     */
+    private int baseCapacity;
+
+    private long count;
+
+    private double min = Double.NaN;
+
+    private double max = Double.NaN;
+
+    // ----- 构造方法 ----- beginning
+    /**
+     * 使用默认的 {@code k} 值创建一个 QuantileSketch 实例。
+     */
+    public QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * 使用指定的 {@code k} 值创建一个 QuantileSketch 实例。
+     *
+     * @param k 最高层的容量，取值范围为 [8, 65536]，越大越精确但占用越多内存
+     * @throws IllegalArgumentException 当 {@code k} 超出范围时抛出此异常
+     */
+    public QuantileSketch(final int k) {
+        super();
+        if (k < MIN_K || k > MAX_K) {
+            throw new IllegalArgumentException("K must be in range [" + MIN_K + ", " + MAX_K + "]: [" + k + "]");
+        }
+        this.k = k;
+        reset();
+    }
+    // ----- 构造方法 ----- ending
+
+
+
+    // ----- Record ----- beginning
+    /**
+     * 记录一个值。
+     *
+     * @param value 要记录的值
+     * @throws IllegalArgumentException 当值为 NaN 时抛出此异常
+     */
+    public void add(final double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("NaN cannot be recorded");
+        }
+        if (count == 0) {
+            min = value;
+            max = value;
+        } else if (value < min) {
+            min = value;
+        } else if (value > max) {
+            max = value;
+        }
+        count++;
+        append(0, value);
+        if (sizes[0] >= baseCapacity) {
+            compress();
+        }
+    }
+
+    /**
+     * 将另一个草图记录的值合并到此草图中，另一个草图不会被修改。
+     *
+     * @param other 另一个草图，不能为 {@code null}，其 {@code k} 值必须与此草图相同
+     * @return 当前实例
+     * @throws IllegalArgumentException 当两个草图的 {@code k} 值不同时抛出此异常
+     */
+    public QuantileSketch merge(final QuantileSketch other) {
+        if (other.k != k) {
+            throw new IllegalArgumentException("Cannot merge sketches with different k: [" + k + ", " + other.k + "]");
+        }
+        if (other.count == 0) {
+            return this;
+        }
+        // 先复制出另一个草图的状态，以允许合并自身
+        final int otherLevelCount = other.levelCount;
+        final int[] otherSizes = Arrays.copyOf(other.sizes, otherLevelCount);
+        final double[][] otherLevels = new double[otherLevelCount][];
+        for (int h = 0; h < otherLevelCount; h++) {
+            otherLevels[h] = Arrays.copyOf(other.levels[h], otherSizes[h]);
+        }
+        if (count == 0) {
+            min = other.min;
+            max = other.max;
+        } else {
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+        count += other.count;
+        for (int h = 0; h < otherLevelCount; h++) {
+            for (int i = 0; i < otherSizes[h]; i++) {
+                append(h, otherLevels[h][i]);
+            }
+        }
+        compress();
+        return this;
+    }
+
+    /**
+     * 清除所有的记录。
+     */
+    public void reset() {
+        levels = new double[][] {new double[k]};
+        sizes = new int[1];
+        levelCount = 1;
+        baseCapacity = capacity(0);
+        count = 0;
+        min = Double.NaN;
+        max = Double.NaN;
+    }
+    // ----- Record ----- ending
+
+
+
+    // ----- Query ----- beginning
+    /**
+     * 返回已记录的值的数量。
+     *
+     * @return 值的数量
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * 检查是否没有任何记录。
+     *
+     * @return 没有任何记录时返回 {@code true}
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * 返回已记录的最小值，没有任何记录时返回 NaN。
+     *
+     * @return 最小值
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * 返回已记录的最大值，没有任何记录时返回 NaN。
+     *
+     * @return 最大值
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * 返回构造时指定的 {@code k} 值。
+     *
+     * @return {@code k} 值
+     */
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * 返回草图当前保留的值的数量，即实际占用的内存规模。
+     *
+     * @return 保留的值的数量
+     */
+    public int getRetainedCount() {
+        int retained = 0;
+        for (int h = 0; h < levelCount; h++) {
+            retained += sizes[h];
+        }
+        return retained;
+    }
+
+    /**
+     * <p>返回指定分位上的近似值，即（近似地）至少有 {@code q} 比例的值小于或等于它的最小值。</p>
+     *
+     * <p>{@code q} 为 0 和 1 时分别返回精确的最小值和最大值。例如 {@code quantile(0.999)} 返回 P999。</p>
+     *
+     * @param q 分位，取值范围为 [0, 1]
+     * @return 该分位上的近似值，没有任何记录时返回 NaN
+     * @throws IllegalArgumentException 当分位超出范围时抛出此异常
+     */
+    public double quantile(final double q) {
+        return quantiles(q)[0];
+    }
+
+    /**
+     * 一次性返回多个分位上的近似值，各个分位共用同一次排序。
+     *
+     * @param qs 分位，每个值的取值范围为 [0, 1]，不需要有序
+     * @return 与 {@code qs} 一一对应的近似值，没有任何记录时均为 NaN
+     * @throws IllegalArgumentException 当某个分位超出范围时抛出此异常
+     * @see #quantile(double)
+     */
+    public double[] quantiles(final double... qs) {
+        for (final double q : qs) {
+            checkQuantile(q);
+        }
+        final double[] result = new double[qs.length];
+        if (count == 0) {
+            Arrays.fill(result, Double.NaN);
+            return result;
+        }
+        final int retained = getRetainedCount();
+        final double[] values = new double[retained];
+        final long[] weights = new long[retained];
+        sortedView(values, weights);
+        for (int i = 0; i < qs.length; i++) {
+            final double q = qs[i];
+            if (q == 0.0D) {
+                result[i] = min;
+            } else if (q == 1.0D) {
+                result[i] = max;
+            } else {
+                final long rank = Math.max(1L, (long) Math.ceil(q * count));
+                long seen = 0;
+                int j = 0;
+                while (j < retained - 1 && (seen += weights[j]) < rank) {
+                    j++;
+                }
+                result[i] = values[j];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 返回中位数的近似值，即 {@code quantile(0.5)}。
+     *
+     * @return 中位数的近似值，没有任何记录时返回 NaN
+     */
+    public double median() {
+        return quantile(0.5D);
+    }
+
+    /**
+     * 返回小于或等于指定值的记录所占比例的近似值，误差界与 {@link #quantile(double)} 相同。
+     *
+     * @param value 值
+     * @return 比例，取值范围为 [0, 1]，没有任何记录时返回 NaN
+     */
+    public double rank(final double value) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long seen = 0;
+        for (int h = 0; h < levelCount; h++) {
+            final double[] level = levels[h];
+            long below = 0;
+            for (int i = 0; i < sizes[h]; i++) {
+                if (level[i] <= value) {
+                    below++;
+                }
+            }
+            seen += below << h;
+        }
+        return (double) seen / count;
+    }
+    // ----- Query ----- ending
+
+
+
+    // ----- Serialization ----- beginning
+    /**
+     * 返回 {@link #writeTo(ByteBuffer)} 将要写入的字节数。
+     *
+     * @return 字节数
+     */
+    public int serializedSize() {
+        int size = 1 + MutableCodec.varIntSize(k) + MutableCodec.varLongSize(count);
+        if (count == 0) {
+            return size;
+        }
+        size += 2 * Double.BYTES + MutableCodec.varIntSize(levelCount);
+        for (int h = 0; h < levelCount; h++) {
+            size += MutableCodec.varIntSize(sizes[h]) + sizes[h] * Double.BYTES;
+        }
+        return size;
+    }
+
+    /**
+     * <p>将草图以紧凑的字节形式写入缓冲区，只写出各层的有效部分。</p>
+     *
+     * <p>格式依次为：版本号（1 字节）、{@code k}（varint）、数量（varlong），
+     * 数量不为 0 时再依次写出最小值、最大值（各 8 字节）、层数（varint），以及每一层的元素个数（varint）和各个值（各 8 字节）。</p>
+     *
+     * @param buffer 目标缓冲区，不能为 {@code null}
+     * @throws java.nio.BufferOverflowException 当缓冲区的剩余空间不足时抛出此异常
+     */
+    public void writeTo(final ByteBuffer buffer) {
+        buffer.put(SERIAL_VERSION);
+        MutableCodec.writeVarInt(buffer, k);
+        MutableCodec.writeVarLong(buffer, count);
+        if (count == 0) {
+            return;
+        }
+        buffer.putDouble(min);
+        buffer.putDouble(max);
+        MutableCodec.writeVarInt(buffer, levelCount);
+        for (int h = 0; h < levelCount; h++) {
+            final double[] level = levels[h];
+            final int size = sizes[h];
+            MutableCodec.writeVarInt(buffer, size);
+            for (int i = 0; i < size; i++) {
+                buffer.putDouble(level[i]);
+            }
+        }
+    }
+
+    /**
+     * 将草图序列化为字节数组。
+     *
+     * @return 字节数组
+     * @see #writeTo(ByteBuffer)
+     */
+    public byte[] toByteArray() {
+        final ByteBuffer buffer = ByteBuffer.allocate(serializedSize());
+        writeTo(buffer);
+        return buffer.array();
+    }
+
+    /**
+     * 从缓冲区中读取一个由 {@link #writeTo(ByteBuffer)} 写入的草图。
+     *
+     * @param buffer 源缓冲区，不能为 {@code null}
+     * @return 读取到的草图
+     * @throws IllegalArgumentException 当数据格式不正确时抛出此异常
+     * @throws java.nio.BufferUnderflowException 当缓冲区的剩余数据不足时抛出此异常
+     */
+    public static QuantileSketch readFrom(final ByteBuffer buffer) {
+        final byte version = buffer.get();
+        if (version != SERIAL_VERSION) {
+            throw new IllegalArgumentException("Unsupported sketch version: [" + version + "]");
+        }
+        final QuantileSketch sketch = new QuantileSketch(MutableCodec.readVarInt(buffer));
+        final long count = MutableCodec.readVarLong(buffer);
+        if (count < 0) {
+            throw new IllegalArgumentException("Invalid count: [" + count + "]");
+        }
+        if (count == 0) {
+            return sketch;
+        }
+        sketch.min = buffer.getDouble();
+        sketch.max = buffer.getDouble();
+        final int levelCount = MutableCodec.readVarInt(buffer);
+        if (levelCount < 1 || levelCount > Long.SIZE) {
+            throw new IllegalArgumentException("Invalid level count: [" + levelCount + "]");
+        }
+        long weight = 0;
+        for (int h = 0; h < levelCount; h++) {
+            final int size = MutableCodec.readVarInt(buffer);
+            if (size < 0 || size > buffer.remaining() / Double.BYTES) {
+                throw new IllegalArgumentException("Invalid level size: [" + size + "], remaining " + buffer.remaining() + " bytes");
+            }
+            for (int i = 0; i < size; i++) {
+                sketch.append(h, buffer.getDouble());
+            }
+            weight += (long) size << h;
+        }
+        if (weight != count) {
+            throw new IllegalArgumentException("Retained weight " + weight + " does not match count " + count);
+        }
+        sketch.count = count;
+        return sketch;
+    }
+
+    /**
+     * 从字节数组中读取一个由 {@link #toByteArray()} 写入的草图。
+     *
+     * @param bytes 字节数组，不能为 {@code null}
+     * @return 读取到的草图
+     * @throws IllegalArgumentException 当数据格式不正确或不完整时抛出此异常
+     */
+    public static QuantileSketch fromByteArray(final byte[] bytes) {
+        try {
+            return readFrom(ByteBuffer.wrap(bytes));
+        } catch (final java.nio.BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated sketch data: " + bytes.length + " bytes", e);
+        }
+    }
+    // ----- Serialization ----- ending
+
+
+
+    /**
+     * 第 {@code h} 层的容量：最高层为 {@code k}，往下每层乘以 2/3，但不小于 {@link #MIN_K}。
+     */
+    private int capacity(final int h) {
+        final int depth = levelCount - 1 - h;
+        return Math.max(MIN_K, (int) Math.ceil(k * Math.pow(CAPACITY_RATIO, depth)));
+    }
+
+    private void append(final int h, final double value) {
+        while (h >= levelCount) {
+            addLevel();
+        }
+        double[] level = levels[h];
+        final int size = sizes[h];
+        if (size == level.length) {
+            level = Arrays.copyOf(level, Math.max(MIN_K, size + (size >> 1)));
+            levels[h] = level;
+        }
+        level[size] = value;
+        sizes[h] = size + 1;
+    }
+
+    private void addLevel() {
+        if (levelCount == levels.length) {
+            levels = Arrays.copyOf(levels, levelCount + 1);
+            sizes = Arrays.copyOf(sizes, levelCount + 1);
+        }
+        levels[levelCount] = new double[MIN_K];
+        levelCount++;
+        baseCapacity = capacity(0);
+    }
+
+    /**
+     * 自底向上压缩所有超出容量的层，压缩某一层可能使上一层也超出容量。
+     */
+    private void compress() {
+        for (int h = 0; h < levelCount; h++) {
+            if (sizes[h] >= capacity(h)) {
+                compact(h);
+            }
+        }
+    }
+
+    /**
+     * 将第 {@code h} 层排序后随机保留奇数位或偶数位上的元素提升到第 {@code h + 1} 层。
+     * 元素个数为奇数时，最小的元素留在本层，其余的偶数个元素参与压缩，以保证总权重不变。
+     */
+    private void compact(final int h) {
+        final double[] level = levels[h];
+        final int size = sizes[h];
+        Arrays.sort(level, 0, size);
+        final int from = size & 1;
+        int i = from + (ThreadLocalRandom.current().nextBoolean() ? 1 : 0);
+        // append 可能为上一层扩容或增加新的层，但不会替换本层的数组，因此可以继续使用 level
+        for (; i < size; i += 2) {
+            append(h + 1, level[i]);
+        }
+        sizes[h] = from;
+    }
+
+    /**
+     * 将各层分别排序后逐层归并，结果按值升序存放在 {@code values} 中，{@code weights} 为对应的权重。
+     * 两个数组的长度都必须等于 {@link #getRetainedCount()}。
+     */
+    private void sortedView(final double[] values, final long[] weights) {
+        double[] mergedValues = values;
+        long[] mergedWeights = weights;
+        double[] spareValues = new double[values.length];
+        long[] spareWeights = new long[weights.length];
+        int size = 0;
+        for (int h = 0; h < levelCount; h++) {
+            final double[] level = levels[h];
+            final int levelSize = sizes[h];
+            final long weight = 1L << h;
+            Arrays.sort(level, 0, levelSize);
+            int i = 0;
+            int j = 0;
+            int n = 0;
+            while (i < size || j < levelSize) {
+                if (j == levelSize || (i < size && mergedValues[i] <= level[j])) {
+                    spareValues[n] = mergedValues[i];
+                    spareWeights[n++] = mergedWeights[i++];
+                } else {
+                    spareValues[n] = level[j++];
+                    spareWeights[n++] = weight;
+                }
+            }
+            size = n;
+            final double[] swapValues = mergedValues;
+            mergedValues = spareValues;
+            spareValues = swapValues;
+            final long[] swapWeights = mergedWeights;
+            mergedWeights = spareWeights;
+            spareWeights = swapWeights;
+        }
+        if (mergedValues != values) {
+            System.arraycopy(mergedValues, 0, values, 0, size);
+            System.arraycopy(mergedWeights, 0, weights, 0, size);
+        }
+    }
+
+    private static void checkQuantile(final double q) {
+        if (!(q >= 0.0D && q <= 1.0D)) {
+            throw new IllegalArgumentException("Quantile must be in range [0, 1]: [" + q + "]");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "QuantileSketch[k=" + k + ", count=" + count + ", retained=" + getRetainedCount() + ", min=" + min + ", max=" + max + "]";
+    }
+}
\ No newline at end of file
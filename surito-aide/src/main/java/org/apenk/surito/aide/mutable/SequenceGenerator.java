@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+/**
+ * <p>按号段批量分配的序列号生成器。</p>
+ *
+ * <p>每个线程每次从共享的 {@link SequenceRangeSource} 预留一个长度为 {@code blockSize} 的号段，放入线程本地的游标中，
+ * 之后的 {@link #next()} 只需在本地游标上做一次无竞争的递增，直到号段用完才会再次访问共享的来源。
+ * 因此共享来源上的竞争降低为原来的 {@code 1 / blockSize}。</p>
+ *
+ * <p>注 1，生成的值全局唯一，并且在同一线程内单调递增；但不同线程之间的值不保证按调用的先后顺序递增。</p>
+ *
+ * <p>注 2，线程结束或生成器被丢弃时，线程本地号段中未用完的值会被跳过，因此生成的值不保证连续。</p>
+ *
+ * <p>该类是线程安全的。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class SequenceGenerator {
+
+    /**
+     * 默认的号段长度
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    private final SequenceRangeSource source;
+
+    private final int blockSize;
+
+    private final ThreadLocal<Cursor> cursors = ThreadLocal.withInitial(Cursor::new);
+
+    // ----- 构造方法 ----- beginning
+    /**
+     * 创建一个从 0 开始、在内存中分配号段、使用默认号段长度的 SequenceGenerator 实例。
+     */
+    public SequenceGenerator() {
+        this(new AtomicSequenceRangeSource(), DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * 使用指定的号段来源和默认号段长度创建一个 SequenceGenerator 实例。
+     *
+     * @param source 号段来源，不能为 {@code null}
+     * @throws NullPointerException 当号段来源为 {@code null} 时抛出此异常
+     */
+    public SequenceGenerator(final SequenceRangeSource source) {
+        this(source, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * 使用指定的号段来源和号段长度创建一个 SequenceGenerator 实例。
+     *
+     * @param source 号段来源，不能为 {@code null}
+     * @param blockSize 每次预留的号段长度，必须为正数
+     * @throws NullPointerException 当号段来源为 {@code null} 时抛出此异常
+     * @throws IllegalArgumentException 当号段长度不为正数时抛出此异常
+     */
+    public SequenceGenerator(final SequenceRangeSource source, final int blockSize) {
+        super();
+        if (source == null) {
+            throw new NullPointerException("Sequence range source must not be null");
+        }
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive: [" + blockSize + "]");
+        }
+        this.source = source;
+        this.blockSize = blockSize;
+    }
+    // ----- 构造方法 ----- ending
+
+
+
+    /**
+     * 返回下一个序列号。
+     *
+     * @return 下一个序列号
+     * @throws IllegalStateException 当号段来源已耗尽时抛出此异常
+     */
+    public long next() {
+        final Cursor cursor = cursors.get();
+        if (cursor.next == cursor.limit) {
+            final long start = source.reserve(blockSize);
+            cursor.next = start;
+            cursor.limit = start + blockSize;
+        }
+        return cursor.next++;
+    }
+
+    /**
+     * 以 int 类型返回下一个序列号。
+     *
+     * @return 下一个序列号
+     * @throws IllegalStateException 当号段来源已耗尽，或序列号超出 int 范围时抛出此异常
+     */
+    public int nextInt() {
+        final long next = next();
+        if (next < Integer.MIN_VALUE || next > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Sequence exceeds int range: [" + next + "]");
+        }
+        return (int) next;
+    }
+
+    /**
+     * 将下一个序列号写入指定的 {@link MutableLong} 中，适合需要以可变对象传递序列号的场景。
+     *
+     * @param target 目标，不能为 {@code null}
+     * @return 目标 {@code target}
+     * @throws IllegalStateException 当号段来源已耗尽时抛出此异常
+     */
+    public MutableLong nextInto(final MutableLong target) {
+        target.setValue(next());
+        return target;
+    }
+
+    /**
+     * 返回号段长度。
+     *
+     * @return 号段长度
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * 返回号段来源。
+     *
+     * @return 号段来源
+     */
+    public SequenceRangeSource getSource() {
+        return source;
+    }
+
+
+
+    /**
+     * 线程本地的号段游标，号段为 {@code [next, limit)}。
+     */
+    private static final class Cursor {
+        private long next;
+
+        private long limit;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+/**
+ * <p>{@link SequenceGenerator} 的号段来源，负责分配互不重叠的连续号段。</p>
+ *
+ * <p>实现必须是线程安全的，且每次分配的号段都不能与之前分配过的号段重叠。
+ * 内置的实现有基于内存的 {@link AtomicSequenceRangeSource} 和基于文件、可在重启后继续分配的 {@link FileSequenceRangeSource}。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+@FunctionalInterface
+public interface SequenceRangeSource {
+
+    /**
+     * 分配一个长度为 {@code size} 的号段。
+     *
+     * @param size 号段的长度，为正数
+     * @return 号段的起始值，分配到的号段为 {@code [start, start + size)}
+     * @throws IllegalStateException 当号段已耗尽时抛出此异常
+     */
+    long reserve(int size);
+}
\ No newline at end of file
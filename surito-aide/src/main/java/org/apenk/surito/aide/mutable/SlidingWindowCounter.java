@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>按时间分桶的滑动窗口计数器，用于统计最近一段时间内的事件数，例如 QPS 或错误率。</p>
+ *
+ * <p>窗口由固定数量的桶组成一个环，每个桶对应一个时间片，当前时间片的事件计入对应的桶。
+ * 桶中同时记录了其所属的时间片，访问时发现桶属于已经过期的时间片，就将其清零后复用，因此不需要定时线程来淘汰过期的桶。
+ * 内存占用只与桶的数量有关，与事件数无关：{@link #increment()} 是 O(1) 的，{@link #sum()} 是 O(桶数) 的。</p>
+ *
+ * <p>窗口的精度为一个桶的时长：当前时间片的桶只累计了时间片中已经过去的部分。</p>
+ *
+ * <p>注，该类非线程安全，多线程计数时应使用 {@link ConcurrentSlidingWindowCounter}。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class SlidingWindowCounter {
+
+    private final LongSupplier clock;
+
+    private final long bucketNanos;
+
+    private final int[] counts;
+
+    /**
+     * 每个桶当前所属的时间片
+     */
+    private final long[] slots;
+
+    // ----- 构造方法 ----- beginning
+    /**
+     * 创建一个由指定数量、指定时长的桶组成的 SlidingWindowCounter 实例，窗口长度为 {@code buckets * bucketDuration}。
+     *
+     * @param buckets 桶的数量，必须为正数
+     * @param bucketDuration 每个桶的时长，必须为正数
+     * @param unit 时长的单位，不能为 {@code null}
+     * @throws IllegalArgumentException 当桶的数量或时长不为正数时抛出此异常
+     */
+    public SlidingWindowCounter(final int buckets, final long bucketDuration, final TimeUnit unit) {
+        this(buckets, bucketDuration, unit, System::nanoTime);
+    }
+
+    /**
+     * 使用指定的时钟创建一个 SlidingWindowCounter 实例，通常用于测试。
+     *
+     * @param buckets 桶的数量，必须为正数
+     * @param bucketDuration 每个桶的时长，必须为正数
+     * @param unit 时长的单位，不能为 {@code null}
+     * @param nanoClock 以纳秒为单位的单调时钟，不能为 {@code null}
+     * @throws IllegalArgumentException 当桶的数量或时长不为正数时抛出此异常
+     */
+    public SlidingWindowCounter(final int buckets, final long bucketDuration, final TimeUnit unit, final LongSupplier nanoClock) {
+        super();
+        this.bucketNanos = checkWindow(buckets, bucketDuration, unit);
+        this.clock = nanoClock;
+        this.counts = new int[buckets];
+        this.slots = new long[buckets];
+        final long slot = currentSlot();
+        for (int i = 0; i < buckets; i++) {
+            // 初始化为已过期的时间片，使所有桶在第一次访问时被视为空桶
+            slots[i] = slot - buckets;
+        }
+    }
+    // ----- 构造方法 ----- ending
+
+
+
+    // ----- Record ----- beginning
+    /**
+     * 当前时间片的计数递增 1。
+     */
+    public void increment() {
+        counts[bucketOf(currentSlot())]++;
+    }
+
+    /**
+     * 将指定数量的事件计入当前时间片。
+     *
+     * @param count 事件数量，不能为负数
+     * @throws IllegalArgumentException 当数量为负数时抛出此异常
+     */
+    public void add(final int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: [" + count + "]");
+        }
+        counts[bucketOf(currentSlot())] += count;
+    }
+
+    /**
+     * 清除所有的计数。
+     */
+    public void reset() {
+        final long slot = currentSlot();
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = 0;
+            slots[i] = slot - counts.length;
+        }
+    }
+    // ----- Record ----- ending
+
+
+
+    // ----- Query ----- beginning
+    /**
+     * 返回整个窗口内的事件数。
+     *
+     * @return 事件数
+     */
+    public long sum() {
+        return sumOfLast(counts.length);
+    }
+
+    /**
+     * 返回最近一段时间内的事件数，时长会向上取整为桶时长的整数倍，且不超过窗口长度。
+     *
+     * @param duration 时长
+     * @param unit 时长的单位，不能为 {@code null}
+     * @return 事件数
+     */
+    public long sum(final long duration, final TimeUnit unit) {
+        return sumOfLast(bucketsFor(duration, unit, bucketNanos, counts.length));
+    }
+
+    /**
+     * 返回整个窗口内平均每秒的事件数。
+     *
+     * @return 每秒事件数
+     */
+    public double ratePerSecond() {
+        return sum() * (double) TimeUnit.SECONDS.toNanos(1) / (bucketNanos * counts.length);
+    }
+
+    /**
+     * 返回窗口的长度。
+     *
+     * @param unit 返回值的单位，不能为 {@code null}
+     * @return 窗口长度
+     */
+    public long getWindow(final TimeUnit unit) {
+        return unit.convert(bucketNanos * counts.length, TimeUnit.NANOSECONDS);
+    }
+    // ----- Query ----- ending
+
+
+
+    private long sumOfLast(final int buckets) {
+        final long current = currentSlot();
+        long sum = 0;
+        for (int i = 0; i < counts.length; i++) {
+            final long age = current - slots[i];
+            if (age >= 0 && age < buckets) {
+                sum += counts[i];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * 返回当前时间片对应的桶，桶属于过期的时间片时先将其清零。
+     */
+    private int bucketOf(final long slot) {
+        final int index = (int) Math.floorMod(slot, (long) counts.length);
+        if (slots[index] != slot) {
+            slots[index] = slot;
+            counts[index] = 0;
+        }
+        return index;
+    }
+
+    private long currentSlot() {
+        return Math.floorDiv(clock.getAsLong(), bucketNanos);
+    }
+
+    static long checkWindow(final int buckets, final long bucketDuration, final TimeUnit unit) {
+        if (buckets <= 0) {
+            throw new IllegalArgumentException("Bucket count must be positive: [" + buckets + "]");
+        }
+        final long bucketNanos = unit.toNanos(bucketDuration);
+        if (bucketNanos <= 0) {
+            throw new IllegalArgumentException("Bucket duration must be positive: [" + bucketDuration + " " + unit + "]");
+        }
+        if (bucketNanos > Long.MAX_VALUE / buckets) {
+            throw new IllegalArgumentException("Window too long: [" + buckets + " * " + bucketDuration + " " + unit + "]");
+        }
+        return bucketNanos;
+    }
+
+    static int bucketsFor(final long duration, final TimeUnit unit, final long bucketNanos, final int buckets) {
+        final long nanos = unit.toNanos(duration);
+        if (nanos <= 0) {
+            return 0;
+        }
+        final long needed = (nanos - 1) / bucketNanos + 1;
+        return needed >= buckets ? buckets : (int) needed;
+    }
+
+    /**
+     * 以 {@code {window=...ms, sum=...}} 的格式返回字符串。
+     *
+     * @return 字符串表示
+     */
+    @Override
+    public String toString() {
+        return "{window=" + getWindow(TimeUnit.MILLISECONDS) + "ms, sum=" + sum() + "}";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,296 @@
+/*
+ * Copyright (C) 2020 Apenk.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apenk.surito.aide.mutable;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>适用于高度竞争场景的线程安全 long 计数器。</p>
+ *
+ * <p>内部基于 {@link LongAdder}，竞争发生时各线程更新各自的、经过缓存行填充的单元（cell），
+ * 读取时再对所有单元求和。因此写操作几乎不会在同一缓存行上反复 CAS 重试，
+ * 适合大量线程同时累加、偶尔读取的统计场景。</p>
+ *
+ * <p>注 1，读取到的值（{@link #sum()}、{@link #intValue()} 等）不是原子快照，与之并发的更新可能被计入也可能不被计入。</p>
+ *
+ * <p>注 2，只支持加减运算，不提供 {@code xxxAndGet}/{@code getAndXxx} 形式的方法，需要这些操作时应使用 {@link AtomicMutableInt}。</p>
+ *
+ * <p>注 3，与 {@link LongAdder} 一样，该类没有重写 {@link #equals(Object)} 和 {@link #hashCode()}，实例间按引用比较。</p>
+ *
+ * @author Kweny
+ * @since 0.0.1
+ */
+public class StripedMutableLong extends MutableNumber<Number> {
+    private static final long serialVersionUID = -3180745917294365028L;
+
+    /**
+     * 分段累加器
+     */
+    private final LongAdder adder = new LongAdder();
+
+    // ----- 构造方法 ----- beginning
+    /**
+     * 使用默认值 0 创建一个 StripedMutableLong 实例。
+     */
+    public StripedMutableLong() {
+        super();
+    }
+
+    /**
+     * 使用指定值创建一个 StripedMutableLong 实例。
+     *
+     * @param value 初始值
+     */
+    public StripedMutableLong(final long value) {
+        super();
+        this.adder.add(value);
+    }
+
+    /**
+     * 使用 {@link Number} 类型的指定值创建一个 StripedMutableLong 实例。
+     *
+     * @param value 初始值，不能为 {@code null}
+     * @throws NullPointerException 如果指定的值为 {@code null} 将抛出此异常
+     */
+    public StripedMutableLong(final Number value) {
+        super();
+        this.adder.add(value.longValue());
+    }
+    // ----- 构造方法 ----- ending
+
+
+
+    // ----- Set/Get ----- beginning
+    /**
+     * <p>使用一个 {@link Number} 实例设置值。</p>
+     *
+     * <p>注意，该操作由 {@link #reset()} 和 {@link #add(long)} 两步组成，并非原子操作，
+     * 与之并发的更新可能会丢失。应仅在没有并发写入时使用。</p>
+     *
+     * @param value 要设置的值，不能为 {@code null}
+     * @throws NullPointerException 当指定的值为 {@code null} 时抛出此异常
+     */
+    @Override
+    public void setValue(final Number value) {
+        setValue(value.longValue());
+    }
+
+    /**
+     * <p>设置值。</p>
+     *
+     * <p>注意，该操作由 {@link #reset()} 和 {@link #add(long)} 两步组成，并非原子操作，
+     * 与之并发的更新可能会丢失。应仅在没有并发写入时使用。</p>
+     *
+     * @param value 要设置的值
+     */
+    public void setValue(final long value) {
+        adder.reset();
+        adder.add(value);
+    }
+
+    /**
+     * 以 {@link Long} 实例的形式获取当前累加和。
+     *
+     * @return 值得 {@link Long} 实例，不会为 {@code null}
+     */
+    @Override
+    public Long getValue() {
+        return Long.valueOf(adder.sum());
+    }
+
+    /**
+     * 返回当前所有单元的累加和。
+     *
+     * @return 当前的累加和
+     */
+    public long sum() {
+        return adder.sum();
+    }
+
+    /**
+     * <p>返回当前所有单元的累加和，并将其重置为 0。</p>
+     *
+     * <p>适用于定期采集指标的场景，如果与之并发的更新发生在求和之后、重置之前，则该更新会丢失。</p>
+     *
+     * @return 重置之前的累加和
+     */
+    public long sumThenReset() {
+        return adder.sumThenReset();
+    }
+
+    /**
+     * 将累加和重置为 0，仅应在没有并发写入时使用。
+     */
+    public void reset() {
+        adder.reset();
+    }
+
+    /**
+     * 以 int 类型返回当前累加和，超出范围时截断
+     *
+     * @return int 类型的值
+     */
+    @Override
+    public int intValue() {
+        return (int) adder.sum();
+    }
+
+    /**
+     * 以 long 类型返回当前累加和
+     *
+     * @return long 类型的值
+     */
+    @Override
+    public long longValue() {
+        return adder.sum();
+    }
+
+    /**
+     * 以 float 类型返回当前累加和
+     *
+     * @return float 类型的值
+     */
+    @Override
+    public float floatValue() {
+        return (float) adder.sum();
+    }
+
+    /**
+     * 以 double 类型返回当前累加和
+     *
+     * @return double 类型的值
+     */
+    @Override
+    public double doubleValue() {
+        return (double) adder.sum();
+    }
+    // ----- Set/Get ----- ending
+
+
+
+    // ----- Increment/Decrement ----- beginning
+    /**
+     * 实例值递增 1
+     */
+    public void increment() {
+        adder.increment();
+    }
+
+    /**
+     * 实例值递减 1
+     */
+    public void decrement() {
+        adder.decrement();
+    }
+    // ----- Increment/Decrement ----- ending
+
+
+
+    // ----- Add/Subtract ----- beginning
+    /**
+     * 加法：使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数
+     * @return 当前实例
+     */
+    public StripedMutableLong add(final long operand) {
+        adder.add(operand);
+        return this;
+    }
+
+    /**
+     * 加法：使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数，不能为 {@code null}
+     * @return 当前实例
+     * @throws NullPointerException 当加数为 {@code null} 时抛出此异常
+     */
+    public StripedMutableLong add(final Number operand) {
+        adder.add(operand.longValue());
+        return this;
+    }
+
+    /**
+     * 加法：使用指定加数对实例值进行加法运算。
+     *
+     * @param operand 加数，若为 {@code null} 则使用第二个参数作为加数
+     * @param defaultOperand 当加数为 {@code null} 时，使用该值作为加数
+     * @return 当前实例
+     */
+    public StripedMutableLong add(final Number operand, final long defaultOperand) {
+        adder.add(operand != null ? operand.longValue() : defaultOperand);
+        return this;
+    }
+
+    /**
+     * 减法：使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数
+     * @return 当前实例
+     */
+    public StripedMutableLong subtract(final long operand) {
+        adder.add(-operand);
+        return this;
+    }
+
+    /**
+     * 减法：使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数，不能为 {@code null}
+     * @return 当前实例
+     * @throws NullPointerException 当减数为 {@code null} 时抛出此异常
+     */
+    public StripedMutableLong subtract(final Number operand) {
+        adder.add(-operand.longValue());
+        return this;
+    }
+
+    /**
+     * 减法：使用指定减数对实例值进行减法运算。
+     *
+     * @param operand 减数，若为 {@code null} 则使用第二个参数作为减数
+     * @param defaultOperand 当减数为 {@code null} 时，使用该值作为减数
+     * @return 当前实例
+     */
+    public StripedMutableLong subtract(final Number operand, final long defaultOperand) {
+        adder.add(-(operand != null ? operand.longValue() : defaultOperand));
+        return this;
+    }
+    // ----- Add/Subtract ----- ending
+
+
+    /**
+     * <p>将此实例的当前累加和与另一个 {@link MutableNumber} 对象进行 long 值的升序比较。</p>
+     *
+     * @param o 另一个 {@link MutableNumber} 实现对象，不能为 {@code null}
+     * @return 若此实例的 long 值较小则返回负数；若此实例的 long 值较大则返回正数；若 long 值相等则返回 0
+     * @throws NullPointerException 当指定参数为 {@code null} 时抛出此异常
+     */
+    @Override
+    public int compareTo(final MutableNumber o) {
+        return Long.compare(adder.sum(), o.longValue());
+    }
+
+    /**
+     * 以字符串类型返回当前累加和。
+     *
+     * @return 当前累加和的字符串类型
+     */
+    @Override
+    public String toString() {
+        return String.valueOf(adder.sum());
+    }
+}
\ No newline at end of file